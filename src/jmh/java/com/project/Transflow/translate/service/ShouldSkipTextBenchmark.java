@@ -0,0 +1,76 @@
+package com.project.Transflow.translate.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 텍스트 노드 하나당 shouldSkipText 비용 비교
+ * - legacyRegex: 호출마다 Pattern.matches 4번 (정규식 4개 컴파일)
+ * - singleScan: TextSkipClassifier (정규식 없이 한 번 훑기)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShouldSkipTextBenchmark {
+
+    // 일반적인 페이지의 텍스트 노드 구성 (대부분 번역 대상 문장)
+    private final String[] texts = {
+            "Getting started with the API",
+            "Read more about pricing and plans for teams of every size.",
+            "https://example.com/docs/getting-started",
+            "support@example.com",
+            "2024",
+            "→",
+            "Sign in",
+            "This guide walks you through installing the command line tools and creating your first project."
+    };
+
+    @Benchmark
+    @OperationsPerInvocation(8) // 결과는 텍스트 노드 하나당 시간
+    public void legacyRegex(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(legacyShouldSkipText(text));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8) // 결과는 텍스트 노드 하나당 시간
+    public void singleScan(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(TextSkipClassifier.shouldSkip(text));
+        }
+    }
+
+    /**
+     * 변경 전 HtmlTranslationService.shouldSkipText
+     */
+    private static boolean legacyShouldSkipText(String text) {
+        if (Pattern.matches("^https?://.*", text)) {
+            return true;
+        }
+        if (Pattern.matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$", text)) {
+            return true;
+        }
+        if (Pattern.matches("^\\d+$", text)) {
+            return true;
+        }
+        return Pattern.matches("^[\\s\\p{Punct}]+$", text);
+    }
+}
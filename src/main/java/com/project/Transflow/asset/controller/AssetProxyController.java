@@ -0,0 +1,72 @@
+package com.project.Transflow.asset.controller;
+
+import com.project.Transflow.asset.service.AssetCache;
+import com.project.Transflow.asset.service.AssetProxyService;
+import com.project.Transflow.asset.service.AssetRateLimitException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/assets")
+@RequiredArgsConstructor
+@Tag(name = "에셋 프록시 API", description = "크롤링한 페이지의 이미지/폰트를 서버 캐시를 거쳐 제공하는 API")
+public class AssetProxyController {
+
+    private final AssetProxyService assetProxyService;
+
+    @Operation(summary = "에셋 조회", description = "원본 사이트의 이미지/폰트를 캐시에서 반환합니다. 캐시에 없으면 원본에서 가져와 저장합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "허용되지 않는 URL 또는 콘텐츠 타입"),
+            @ApiResponse(responseCode = "429", description = "원본 다운로드 요청 한도 초과"),
+            @ApiResponse(responseCode = "502", description = "원본 사이트에서 가져오기 실패")
+    })
+    @GetMapping
+    public ResponseEntity<byte[]> getAsset(
+            @Parameter(description = "원본 에셋 URL", required = true, example = "https://example.com/logo.png")
+            @RequestParam String url,
+            HttpServletRequest request) {
+        try {
+            AssetCache.CachedAsset asset = assetProxyService.getAsset(url, request.getRemoteAddr());
+            MediaType mediaType;
+            try {
+                mediaType = MediaType.parseMediaType(asset.getContentType());
+            } catch (Exception e) {
+                mediaType = MediaType.APPLICATION_OCTET_STREAM;
+            }
+            return ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .cacheControl(CacheControl.maxAge(7, TimeUnit.DAYS).cachePublic())
+                    // SVG 등에 포함된 스크립트가 이 서버 출처로 실행되지 않도록 제한
+                    .header("Content-Security-Policy", "default-src 'none'; style-src 'unsafe-inline'; img-src data:")
+                    .header("X-Content-Type-Options", "nosniff")
+                    .body(asset.getBody());
+        } catch (IllegalArgumentException e) {
+            log.warn("에셋 프록시 요청 거부: {} - {}", url, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (AssetRateLimitException e) {
+            log.warn("에셋 프록시 요청 제한: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        } catch (IllegalStateException e) {
+            log.warn("에셋 프록시 실패: {} - {}", url, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.project.Transflow.asset.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 크기 제한이 있는 디스크 LRU 캐시
+ * {dir}/{키 앞 2자리}/{키} 에 본문, {키}.type 에 Content-Type을 저장하고,
+ * 메모리의 접근 순서 인덱스로 전체 크기가 maxBytes를 넘으면 가장 오래 사용하지 않은 항목부터 삭제한다.
+ * 재시작 시에는 파일 수정 시각 순서로 인덱스를 복구한다.
+ */
+@Slf4j
+@Component
+public class AssetCache {
+
+    private static final String TYPE_SUFFIX = ".type";
+
+    private final Path root;
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+
+    public AssetCache(
+            @Value("${asset.cache.dir:./data/asset-cache}") String rootDir,
+            @Value("${asset.cache.max-size-mb:512}") long maxSizeMb) {
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.maxBytes = maxSizeMb * 1024 * 1024;
+        loadIndex();
+    }
+
+    /**
+     * 캐시된 에셋 조회 (조회 시 최근 사용으로 갱신)
+     * @return 캐시된 에셋, 없으면 null
+     */
+    public CachedAsset get(String key) {
+        Entry entry;
+        synchronized (this) {
+            entry = index.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return new CachedAsset(entry.contentType, Files.readAllBytes(bodyPath(key)));
+        } catch (IOException e) {
+            log.warn("에셋 캐시 읽기 실패: {} - {}", key, e.getMessage());
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * 에셋 저장 후 크기 제한을 넘으면 오래된 항목 삭제
+     */
+    public void put(String key, String contentType, byte[] body) {
+        if (body.length > maxBytes) {
+            return;
+        }
+        Path target = bodyPath(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+            Files.write(temp, body);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.write(typePath(key), (contentType != null ? contentType : "").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("에셋 캐시 저장 실패: {} - {}", key, e.getMessage());
+            return;
+        }
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Entry previous = index.put(key, new Entry(contentType, body.length));
+            if (previous != null) {
+                totalBytes -= previous.size;
+            }
+            totalBytes += body.length;
+
+            Iterator<Map.Entry<String, Entry>> iterator = index.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Entry> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue().size;
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+        for (String evictedKey : evicted) {
+            deleteFiles(evictedKey);
+        }
+        if (!evicted.isEmpty()) {
+            log.debug("에셋 캐시 정리 - {}개 삭제", evicted.size());
+        }
+    }
+
+    private void remove(String key) {
+        synchronized (this) {
+            Entry removed = index.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.size;
+            }
+        }
+        deleteFiles(key);
+    }
+
+    private void deleteFiles(String key) {
+        try {
+            Files.deleteIfExists(bodyPath(key));
+            Files.deleteIfExists(typePath(key));
+        } catch (IOException e) {
+            log.warn("에셋 캐시 파일 삭제 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 디스크의 기존 캐시 파일로 인덱스 복구 (오래된 파일이 먼저 삭제되도록 수정 시각 순서)
+     */
+    private void loadIndex() {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(root, 2)) {
+            files = stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().contains("."))
+                    .sorted(Comparator.comparingLong(this::lastModified))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            log.warn("에셋 캐시 인덱스 복구 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Path file : files) {
+            String key = file.getFileName().toString();
+            try {
+                String contentType = Files.exists(typePath(key))
+                        ? new String(Files.readAllBytes(typePath(key)), StandardCharsets.UTF_8)
+                        : null;
+                long size = Files.size(file);
+                index.put(key, new Entry(contentType, size));
+                totalBytes += size;
+            } catch (IOException e) {
+                log.debug("에셋 캐시 항목 건너뜀: {}", file);
+            }
+        }
+        log.info("에셋 캐시 인덱스 복구 - {}개, {}KB", index.size(), totalBytes / 1024);
+    }
+
+    private long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Path bodyPath(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private Path typePath(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + TYPE_SUFFIX);
+    }
+
+    private static class Entry {
+        final String contentType;
+        final long size;
+
+        Entry(String contentType, long size) {
+            this.contentType = contentType;
+            this.size = size;
+        }
+    }
+
+    /**
+     * 캐시된 에셋 (Content-Type과 본문)
+     */
+    public static class CachedAsset {
+        private final String contentType;
+        private final byte[] body;
+
+        public CachedAsset(String contentType, byte[] body) {
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
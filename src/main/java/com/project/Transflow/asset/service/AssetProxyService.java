@@ -0,0 +1,309 @@
+package com.project.Transflow.asset.service;
+
+import com.project.Transflow.snapshot.service.SnapshotStorage;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 크롤링한 페이지가 참조하는 이미지/폰트를 대신 가져와 디스크 캐시에 저장하는 프록시
+ * - http/https URL만 허용하고, 내부망/루프백 주소로의 요청은 거부 (SSRF 방지)
+ * - 접속 시 DNS 조회 결과를 다시 검사하여 검사한 주소로만 연결 (DNS 리바인딩 방지)
+ * - 리다이렉트는 직접 따라가며 매 단계 주소를 다시 검사
+ * - 캐시에 없는 에셋의 원본 다운로드는 클라이언트별로 횟수 제한
+ * - 이미지/폰트 Content-Type만 허용
+ * - 같은 URL을 동시에 요청하면 다운로드는 한 번만 수행
+ */
+@Slf4j
+@Service
+public class AssetProxyService {
+
+    private static final int MAX_REDIRECTS = 3;
+
+    private static final List<String> ALLOWED_TYPE_PREFIXES = List.of(
+            "image/", "font/", "application/font", "application/x-font", "application/vnd.ms-fontobject"
+    );
+
+    private final AssetCache assetCache;
+    private final AssetRateLimiter assetRateLimiter;
+    private final int timeoutMillis;
+    private final int maxAssetBytes;
+    private final HttpClient httpClient;
+
+    private final Map<String, CompletableFuture<AssetCache.CachedAsset>> inFlight = new ConcurrentHashMap<>();
+
+    public AssetProxyService(
+            AssetCache assetCache,
+            AssetRateLimiter assetRateLimiter,
+            @Value("${asset.proxy.timeout-ms:10000}") int timeoutMillis,
+            @Value("${asset.proxy.max-asset-size-mb:10}") int maxAssetSizeMb) {
+        this.assetCache = assetCache;
+        this.assetRateLimiter = assetRateLimiter;
+        this.timeoutMillis = timeoutMillis;
+        this.maxAssetBytes = maxAssetSizeMb * 1024 * 1024;
+        // 접속할 주소는 검사하는 resolver로만 구하므로 검사 이후 DNS 응답이 바뀌어도 내부 주소로 연결되지 않음
+        this.httpClient = HttpClient.create()
+                .resolver(new AllowedAddressResolverGroup())
+                .followRedirect(false)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeoutMillis)
+                .responseTimeout(Duration.ofMillis(timeoutMillis))
+                .headers(headers -> headers
+                        .set(HttpHeaderNames.USER_AGENT, "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+                        .set(HttpHeaderNames.ACCEPT, "image/avif,image/webp,image/*,font/*,*/*;q=0.8"));
+    }
+
+    /**
+     * 캐시에서 에셋을 가져오고, 없으면 원본 사이트에서 다운로드하여 캐시에 저장
+     *
+     * @param clientId 요청한 클라이언트 식별자 (원본 다운로드 횟수 제한 기준, 보통 IP)
+     * @throws IllegalArgumentException 허용되지 않는 URL이거나 에셋 타입이 아닌 경우
+     * @throws AssetRateLimitException 클라이언트의 원본 다운로드 한도를 넘은 경우
+     * @throws IllegalStateException 원본 다운로드에 실패한 경우
+     */
+    public AssetCache.CachedAsset getAsset(String url, String clientId) {
+        URI uri = validate(url);
+        String key = cacheKey(uri.toString());
+
+        AssetCache.CachedAsset cached = assetCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (!assetRateLimiter.tryAcquire(clientId)) {
+            throw new AssetRateLimitException("에셋 다운로드 요청이 너무 많습니다: " + clientId);
+        }
+
+        CompletableFuture<AssetCache.CachedAsset> future = new CompletableFuture<>();
+        CompletableFuture<AssetCache.CachedAsset> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            AssetCache.CachedAsset downloaded = download(uri);
+            assetCache.put(key, downloaded.getContentType(), downloaded.getBody());
+            future.complete(downloaded);
+            return downloaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private AssetCache.CachedAsset join(CompletableFuture<AssetCache.CachedAsset> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("에셋 다운로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private AssetCache.CachedAsset download(URI uri) {
+        URI current = uri;
+        for (int redirect = 0; redirect <= MAX_REDIRECTS; redirect++) {
+            FetchedResponse response = fetch(current);
+
+            int status = response.status;
+            if (status >= 300 && status < 400 && response.location != null) {
+                URI location;
+                try {
+                    location = current.resolve(response.location.trim());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException("잘못된 리다이렉트: " + response.location, e);
+                }
+                current = validate(location.toString());
+                continue;
+            }
+            if (status >= 400) {
+                throw new IllegalStateException("에셋 다운로드 실패 (HTTP " + status + ")");
+            }
+
+            if (!isAllowedContentType(response.contentType)) {
+                throw new IllegalArgumentException("프록시할 수 없는 콘텐츠 타입입니다: " + response.contentType);
+            }
+            return new AssetCache.CachedAsset(response.contentType, response.body);
+        }
+        throw new IllegalStateException("리다이렉트가 너무 많습니다: " + uri);
+    }
+
+    /**
+     * 요청 한 번 실행 (리다이렉트는 따라가지 않음, 본문은 최대 크기까지만 수신)
+     */
+    private FetchedResponse fetch(URI uri) {
+        try {
+            FetchedResponse response = httpClient.get()
+                    .uri(uri)
+                    .response((res, body) -> body.asByteArray()
+                            .collect(ByteArrayOutputStream::new, (out, chunk) -> {
+                                if (out.size() + chunk.length > maxAssetBytes) {
+                                    throw new IllegalStateException("에셋 크기 제한 초과: " + uri);
+                                }
+                                out.write(chunk, 0, chunk.length);
+                            })
+                            .map(out -> new FetchedResponse(res.status().code(),
+                                    res.responseHeaders().get(HttpHeaderNames.LOCATION),
+                                    res.responseHeaders().get(HttpHeaderNames.CONTENT_TYPE),
+                                    out.toByteArray())))
+                    .next()
+                    .block(Duration.ofMillis(timeoutMillis * 2L));
+            if (response == null) {
+                throw new IllegalStateException("에셋 다운로드 실패: 응답 없음");
+            }
+            return response;
+        } catch (RuntimeException e) {
+            // resolver에서 거부한 내부 주소는 원인 예외 그대로 전달
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IllegalArgumentException) {
+                    throw (IllegalArgumentException) cause;
+                }
+            }
+            throw new IllegalStateException("에셋 다운로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * URL 형식과 대상 주소 검사 (내부망 주소 차단)
+     */
+    private URI validate(String url) {
+        if (url == null || url.trim().isEmpty()) {
+            throw new IllegalArgumentException("URL이 필요합니다.");
+        }
+        URI uri;
+        try {
+            uri = URI.create(url.trim()).normalize();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 URL입니다: " + url);
+        }
+
+        String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "";
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            throw new IllegalArgumentException("http/https URL만 허용됩니다: " + url);
+        }
+        if (uri.getHost() == null || uri.getUserInfo() != null) {
+            throw new IllegalArgumentException("잘못된 URL입니다: " + url);
+        }
+
+        // IP 리터럴은 resolver를 거치지 않으므로 여기서 검사 (호스트 이름은 접속 시 resolver에서 다시 검사)
+        resolveAllowed(uri.getHost());
+        return uri;
+    }
+
+    /**
+     * 호스트 이름을 조회하고 내부 주소가 하나라도 있으면 거부
+     */
+    private static List<InetAddress> resolveAllowed(String host) {
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("호스트를 찾을 수 없습니다: " + host);
+        }
+        for (InetAddress address : addresses) {
+            if (isInternalAddress(address)) {
+                throw new IllegalArgumentException("내부 주소로의 요청은 허용되지 않습니다: " + host);
+            }
+        }
+        return Arrays.asList(addresses);
+    }
+
+    private static boolean isInternalAddress(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (bytes.length == 4) {
+            int first = bytes[0] & 0xff;
+            int second = bytes[1] & 0xff;
+            // 100.64.0.0/10 (CGNAT)
+            return first == 100 && second >= 64 && second < 128;
+        }
+        // fc00::/7 (IPv6 unique local)
+        return (bytes[0] & 0xfe) == 0xfc;
+    }
+
+    private boolean isAllowedContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        for (String prefix : ALLOWED_TYPE_PREFIXES) {
+            if (type.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String cacheKey(String url) {
+        return SnapshotStorage.hash(url);
+    }
+
+    private static final class FetchedResponse {
+        private final int status;
+        private final String location;
+        private final String contentType;
+        private final byte[] body;
+
+        private FetchedResponse(int status, String location, String contentType, byte[] body) {
+            this.status = status;
+            this.location = location;
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+
+    /**
+     * 접속 직전에 조회한 주소를 검사하는 resolver (검사한 주소로만 연결)
+     */
+    private static final class AllowedAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+        @Override
+        protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+            return new InetNameResolver(executor) {
+                @Override
+                protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+                    try {
+                        promise.setSuccess(resolveAllowed(inetHost).get(0));
+                    } catch (Exception e) {
+                        promise.setFailure(e);
+                    }
+                }
+
+                @Override
+                protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+                    try {
+                        promise.setSuccess(resolveAllowed(inetHost));
+                    } catch (Exception e) {
+                        promise.setFailure(e);
+                    }
+                }
+            }.asAddressResolver();
+        }
+    }
+}
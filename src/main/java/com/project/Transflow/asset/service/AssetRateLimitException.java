@@ -0,0 +1,11 @@
+package com.project.Transflow.asset.service;
+
+/**
+ * 클라이언트의 원본 다운로드 한도를 넘은 경우 (HTTP 429)
+ */
+public class AssetRateLimitException extends RuntimeException {
+
+    public AssetRateLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.Transflow.asset.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트(IP)별 원본 다운로드 횟수 제한 (1분 고정 구간)
+ * 에셋 프록시는 img 태그에서 인증 헤더 없이 호출되므로, 캐시에 없는 에셋을 원본에서 가져오는 횟수를 제한하여
+ * 프록시가 임의 사이트 요청 중계에 악용되는 것을 막는다.
+ */
+@Component
+public class AssetRateLimiter {
+
+    private static final long WINDOW_MILLIS = 60_000L;
+
+    private final int maxDownloadsPerMinute;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+
+    public AssetRateLimiter(@Value("${asset.proxy.max-downloads-per-minute:120}") int maxDownloadsPerMinute) {
+        this.maxDownloadsPerMinute = maxDownloadsPerMinute;
+    }
+
+    /**
+     * 다운로드 1회 사용
+     *
+     * @return 허용되면 true, 이번 구간의 한도를 넘었으면 false
+     */
+    public boolean tryAcquire(String clientId) {
+        if (maxDownloadsPerMinute <= 0) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        evictExpiredWindows(now);
+        Window window = windows.compute(clientId != null ? clientId : "unknown",
+                (key, current) -> current == null || current.isExpired(now) ? new Window(now) : current);
+        return window.count.incrementAndGet() <= maxDownloadsPerMinute;
+    }
+
+    /**
+     * 끝난 구간 정리 (1분에 한 번만 수행)
+     */
+    private void evictExpiredWindows(long now) {
+        long last = lastSweepMillis.get();
+        if (now - last < WINDOW_MILLIS || !lastSweepMillis.compareAndSet(last, now)) {
+            return;
+        }
+        windows.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+    }
+
+    private static final class Window {
+        private final long startMillis;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Window(long startMillis) {
+            this.startMillis = startMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now - startMillis >= WINDOW_MILLIS;
+        }
+    }
+}
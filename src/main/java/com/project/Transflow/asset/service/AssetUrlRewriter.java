@@ -0,0 +1,169 @@
+package com.project.Transflow.asset.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 크롤링한 HTML/CSS의 이미지, 폰트 URL을 에셋 프록시(/api/assets?url=...) 경로로 바꾸는 변환기
+ * 미리보기에서 원본 사이트를 직접 참조하지 않고 서버의 캐시에서 불러오도록 한다.
+ */
+@Slf4j
+@Component
+public class AssetUrlRewriter {
+
+    private static final Pattern CSS_URL = Pattern.compile("url\\(\\s*(['\"]?)([^'\")]+)\\1\\s*\\)");
+    // CrawlerService가 외부 CSS 조각 앞에 붙이는 출처 주석
+    private static final Pattern EXTERNAL_CSS_SOURCE = Pattern.compile("^\\s*/\\* External CSS from: (\\S+) \\*/");
+
+    private final boolean enabled;
+    private final String proxyBaseUrl;
+
+    public AssetUrlRewriter(
+            @Value("${asset.proxy.enabled:true}") boolean enabled,
+            @Value("${asset.proxy.public-url:/api/assets}") String proxyBaseUrl) {
+        this.enabled = enabled;
+        this.proxyBaseUrl = proxyBaseUrl;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * HTML의 이미지/아이콘/포스터 URL과 인라인 style의 url()을 프록시 경로로 변경
+     */
+    public String rewriteHtml(String html, String pageUrl) {
+        Document doc = Jsoup.parse(html, pageUrl);
+
+        for (Element element : doc.select("img[src], input[type=image][src]")) {
+            rewriteAttr(element, "src");
+        }
+        for (Element element : doc.select("img[srcset], source[srcset]")) {
+            element.attr("srcset", rewriteSrcset(element.attr("srcset"), element.baseUri()));
+        }
+        for (Element element : doc.select("video[poster]")) {
+            rewriteAttr(element, "poster");
+        }
+        for (Element element : doc.select("link[href]")) {
+            String rel = element.attr("rel").toLowerCase();
+            if (rel.contains("icon")) {
+                rewriteAttr(element, "href");
+            }
+        }
+        for (Element element : doc.select("[style*=url(]")) {
+            element.attr("style", rewriteCss(element.attr("style"), element.baseUri()));
+        }
+        for (Element style : doc.select("style")) {
+            style.text(rewriteCss(style.html(), style.baseUri()));
+        }
+
+        return doc.outerHtml();
+    }
+
+    /**
+     * CSS 조각 목록의 url()을 프록시 경로로 변경한 뒤 하나로 합친다.
+     * 외부 CSS 조각은 스타일시트 URL을 기준으로 상대 경로를 해석한다.
+     */
+    public String rewriteCssParts(List<String> cssParts, String pageUrl) {
+        if (cssParts == null) {
+            return "";
+        }
+        List<String> rewritten = new ArrayList<>(cssParts.size());
+        for (String part : cssParts) {
+            Matcher source = EXTERNAL_CSS_SOURCE.matcher(part);
+            String baseUrl = source.find() ? source.group(1) : pageUrl;
+            rewritten.add(rewriteCss(part, baseUrl));
+        }
+        return String.join("", rewritten);
+    }
+
+    /**
+     * CSS의 url()을 프록시 경로로 변경 (@import 대상 스타일시트와 data: URL은 유지)
+     */
+    public String rewriteCss(String css, String baseUrl) {
+        Matcher matcher = CSS_URL.matcher(css);
+        StringBuffer out = new StringBuffer();
+        while (matcher.find()) {
+            String replacement = matcher.group();
+            if (!isImport(css, matcher.start())) {
+                String proxied = toProxyUrl(matcher.group(2).trim(), baseUrl);
+                if (proxied != null) {
+                    replacement = "url(\"" + proxied + "\")";
+                }
+            }
+            matcher.appendReplacement(out, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    private void rewriteAttr(Element element, String attr) {
+        String proxied = toProxyUrl(element.attr(attr), element.baseUri());
+        if (proxied != null) {
+            element.attr(attr, proxied);
+        }
+    }
+
+    private String rewriteSrcset(String srcset, String baseUrl) {
+        StringBuilder out = new StringBuilder();
+        for (String candidate : srcset.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+", 2);
+            String proxied = toProxyUrl(parts[0], baseUrl);
+            if (out.length() > 0) {
+                out.append(", ");
+            }
+            out.append(proxied != null ? proxied : parts[0]);
+            if (parts.length > 1) {
+                out.append(' ').append(parts[1]);
+            }
+        }
+        return out.toString();
+    }
+
+    private boolean isImport(String css, int urlStart) {
+        int lookBehind = Math.max(0, urlStart - 16);
+        return css.substring(lookBehind, urlStart).trim().toLowerCase().endsWith("@import");
+    }
+
+    /**
+     * 절대 URL로 변환 후 프록시 경로 생성 (변환할 수 없거나 data:/blob:/이미 프록시된 URL이면 null)
+     */
+    private String toProxyUrl(String url, String baseUrl) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+        String lower = url.toLowerCase();
+        if (lower.startsWith("data:") || lower.startsWith("blob:") || lower.startsWith("#")
+                || url.startsWith(proxyBaseUrl)) {
+            return null;
+        }
+        try {
+            String absolute = baseUrl != null && !baseUrl.isEmpty()
+                    ? new URL(new URL(baseUrl), url).toString()
+                    : new URL(url).toString();
+            if (!absolute.startsWith("http://") && !absolute.startsWith("https://")) {
+                return null;
+            }
+            return proxyBaseUrl + "?url=" + URLEncoder.encode(absolute, StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            log.debug("에셋 URL 변환 실패: base={}, url={}", baseUrl, url);
+            return null;
+        }
+    }
+}
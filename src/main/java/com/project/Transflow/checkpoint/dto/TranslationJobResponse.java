@@ -0,0 +1,67 @@
+package com.project.Transflow.checkpoint.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "페이지 번역 작업(체크포인트)의 진행 상황과 번역된 문맥 그룹")
+public class TranslationJobResponse {
+
+    @Schema(description = "작업 ID", example = "42")
+    private Long jobId;
+
+    @Schema(description = "원본 페이지 URL (HTML 직접 번역이면 null)", example = "https://example.com/article")
+    private String sourceUrl;
+
+    @Schema(description = "원문 언어 코드 (자동 감지면 null)", example = "EN")
+    private String sourceLang;
+
+    @Schema(description = "번역 언어 코드", example = "KO")
+    private String targetLang;
+
+    @Schema(description = "마지막 번역 실행의 상태", example = "PARTIAL", allowableValues = {"IN_PROGRESS", "PARTIAL", "COMPLETED"})
+    private String status;
+
+    @Schema(description = "마지막 실행에서 번역해야 했던 문맥 그룹 수", example = "120")
+    private Integer totalSegments;
+
+    @Schema(description = "번역이 저장된 문맥 그룹 수", example = "117")
+    private Integer completedSegments;
+
+    @Schema(description = "재시도 대기 중인 문맥 그룹 수", example = "3")
+    private Integer pendingSegments;
+
+    @Schema(description = "마지막 갱신 시각")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "번역된 문맥 그룹 (페이지 순서)")
+    private List<Segment> segments;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "번역된 문맥 그룹 (재시도 대기로 표시된 요소를 원문 텍스트로 찾아 번역문으로 바꿀 수 있음)")
+    public static class Segment {
+        @Schema(description = "저장 당시 페이지에서의 문맥 그룹 순서", example = "7")
+        private Integer segmentIndex;
+
+        @Schema(description = "문맥 그룹 원문 (합친 텍스트)", example = "Read the upgrade guide before installing.")
+        private String sourceText;
+
+        @Schema(description = "번역 결과", example = "설치하기 전에 업그레이드 가이드를 읽으세요.")
+        private String translatedText;
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.Transflow.checkpoint.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_job", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_translation_job_key", columnNames = {"jobKey"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String jobKey; // 원본(URL 또는 HTML 해시) + 언어 쌍의 SHA-256 해시
+
+    @Column(length = 1000)
+    private String sourceUrl; // 원본 페이지 URL (HTML 직접 번역이면 null)
+
+    @Column(length = 10)
+    private String sourceLang; // 원문 언어 코드 (자동 감지면 null)
+
+    @Column(nullable = false, length = 10)
+    private String targetLang; // 번역 언어 코드
+
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private String status = "IN_PROGRESS"; // IN_PROGRESS, PARTIAL, COMPLETED
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer totalSegments = 0; // 마지막 실행에서 번역해야 했던 문맥 그룹 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer completedSegments = 0; // 체크포인트에 저장된 문맥 그룹 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // 실행(재시도 포함) 횟수
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
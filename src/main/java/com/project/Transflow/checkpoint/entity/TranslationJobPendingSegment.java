@@ -0,0 +1,39 @@
+package com.project.Transflow.checkpoint.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_job_pending_segment", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_translation_job_pending_segment_source", columnNames = {"jobId", "sourceHash"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationJobPendingSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId; // 번역 작업 ID
+
+    @Column(nullable = false, length = 64)
+    private String sourceHash; // 문맥 그룹 원문의 SHA-256 해시
+
+    @Column(nullable = false)
+    private Integer segmentIndex; // 대기열에 넣을 당시 페이지에서의 문맥 그룹 순서
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String sourceText; // 문맥 그룹 원문 (합친 텍스트)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
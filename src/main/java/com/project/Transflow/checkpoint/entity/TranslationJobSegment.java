@@ -0,0 +1,42 @@
+package com.project.Transflow.checkpoint.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_job_segment", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_translation_job_segment_source", columnNames = {"jobId", "sourceHash"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationJobSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId; // 번역 작업 ID
+
+    @Column(nullable = false, length = 64)
+    private String sourceHash; // 문맥 그룹 원문의 SHA-256 해시
+
+    @Column(nullable = false)
+    private Integer segmentIndex; // 저장 당시 페이지에서의 문맥 그룹 순서 (참고용)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String sourceText; // 문맥 그룹 원문 (합친 텍스트)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String translatedText; // 번역 결과 (텍스트 노드에 분배하기 전)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
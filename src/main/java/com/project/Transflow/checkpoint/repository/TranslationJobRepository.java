@@ -0,0 +1,12 @@
+package com.project.Transflow.checkpoint.repository;
+
+import com.project.Transflow.checkpoint.entity.TranslationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TranslationJobRepository extends JpaRepository<TranslationJob, Long> {
+    Optional<TranslationJob> findByJobKey(String jobKey);
+}
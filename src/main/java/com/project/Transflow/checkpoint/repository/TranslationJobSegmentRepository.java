@@ -0,0 +1,13 @@
+package com.project.Transflow.checkpoint.repository;
+
+import com.project.Transflow.checkpoint.entity.TranslationJobSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TranslationJobSegmentRepository extends JpaRepository<TranslationJobSegment, Long> {
+    List<TranslationJobSegment> findByJobId(Long jobId);
+    long countByJobId(Long jobId);
+}
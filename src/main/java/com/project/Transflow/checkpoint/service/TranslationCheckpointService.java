@@ -0,0 +1,404 @@
+package com.project.Transflow.checkpoint.service;
+
+import com.project.Transflow.checkpoint.dto.TranslationJobResponse;
+import com.project.Transflow.checkpoint.entity.TranslationJob;
+import com.project.Transflow.checkpoint.entity.TranslationJobSegment;
+import com.project.Transflow.checkpoint.repository.TranslationJobRepository;
+import com.project.Transflow.checkpoint.repository.TranslationJobSegmentRepository;
+import com.project.Transflow.snapshot.service.SnapshotStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 페이지 번역 작업의 문맥 그룹별 진행 상황(체크포인트) 저장
+ * 같은 원본/언어 쌍의 번역을 다시 실행하면 이미 번역된 문맥 그룹은 DeepL을 호출하지 않고 저장된 번역을 사용하므로,
+ * 중간에 실패한 작업은 실패한 그룹부터 이어서 번역되고 같은 텍스트에 두 번 비용을 내지 않는다.
+ * 재시도 대기열에 들어간 문맥 그룹도 함께 저장하여 서버가 재시작되면 대기열을 복원한다.
+ */
+@Slf4j
+@Service
+public class TranslationCheckpointService {
+
+    private static final String UPSERT_SEGMENT_SQL =
+            "INSERT INTO translation_job_segment (job_id, source_hash, segment_index, source_text, translated_text, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE segment_index = VALUES(segment_index), translated_text = VALUES(translated_text)";
+
+    private static final String DELETE_EXPIRED_SEGMENTS_SQL =
+            "DELETE s FROM translation_job_segment s JOIN translation_job j ON s.job_id = j.id WHERE j.updated_at < ?";
+
+    private static final String DELETE_EXPIRED_JOBS_SQL = "DELETE FROM translation_job WHERE updated_at < ?";
+
+    private static final String INSERT_PENDING_SQL =
+            "INSERT INTO translation_job_pending_segment (job_id, source_hash, segment_index, source_text, created_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE segment_index = VALUES(segment_index)";
+
+    private static final String DELETE_PENDING_SQL =
+            "DELETE FROM translation_job_pending_segment WHERE job_id = ? AND source_hash = ?";
+
+    private static final String DELETE_EXPIRED_PENDING_SQL =
+            "DELETE p FROM translation_job_pending_segment p JOIN translation_job j ON p.job_id = j.id WHERE j.updated_at < ?";
+
+    private static final String SELECT_PENDING_SQL =
+            "SELECT p.job_id, p.segment_index, p.source_text, j.target_lang, j.source_lang " +
+            "FROM translation_job_pending_segment p JOIN translation_job j ON p.job_id = j.id ORDER BY p.id LIMIT ?";
+
+    private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM translation_job_pending_segment WHERE job_id = ?";
+
+    private final TranslationJobRepository translationJobRepository;
+    private final TranslationJobSegmentRepository translationJobSegmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int flushSize;
+    private final long retentionHours;
+
+    // 만료된 작업 정리를 마지막으로 실행한 시각 (작업을 열 때 한 시간에 한 번만 정리)
+    private final AtomicLong lastCleanupMillis = new AtomicLong();
+
+    public TranslationCheckpointService(
+            TranslationJobRepository translationJobRepository,
+            TranslationJobSegmentRepository translationJobSegmentRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${translation.checkpoint.enabled:true}") boolean enabled,
+            @Value("${translation.checkpoint.flush-size:20}") int flushSize,
+            @Value("${translation.checkpoint.retention-hours:72}") long retentionHours) {
+        this.translationJobRepository = translationJobRepository;
+        this.translationJobSegmentRepository = translationJobSegmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.flushSize = flushSize;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 번역 작업의 체크포인트를 열고 저장된 문맥 그룹 번역을 불러옴
+     * 저장소 오류가 나도 번역은 계속되도록 체크포인트 없이(저장하지 않는) 객체를 반환한다.
+     *
+     * @param source 원본 식별자 (페이지 URL, 없으면 HTML 내용)
+     */
+    public Checkpoint open(String source, String sourceUrl, String targetLang, String sourceLang, int totalSegments) {
+        if (!enabled || source == null) {
+            return Checkpoint.disabled();
+        }
+        String target = normalizeLang(targetLang);
+        String sourceLangKey = sourceLang == null || sourceLang.isEmpty() || sourceLang.equalsIgnoreCase("auto")
+                ? null : normalizeLang(sourceLang);
+        String jobKey = SnapshotStorage.hash(
+                SnapshotStorage.hash(source) + "|" + target + "|" + (sourceLangKey != null ? sourceLangKey : "AUTO"));
+
+        try {
+            cleanupExpired();
+
+            TranslationJob job = findOrCreate(jobKey, sourceUrl, target, sourceLangKey);
+            job.setStatus("IN_PROGRESS");
+            job.setTotalSegments(totalSegments);
+            job.setAttempts(job.getAttempts() + 1);
+            translationJobRepository.save(job);
+
+            Map<String, TranslationJobSegment> saved = new HashMap<>();
+            for (TranslationJobSegment segment : translationJobSegmentRepository.findByJobId(job.getId())) {
+                saved.put(segment.getSourceHash(), segment);
+            }
+            if (!saved.isEmpty()) {
+                log.info("번역 체크포인트 재개 - 작업 ID: {}, 저장된 문맥 그룹 {}개 (시도 {}회차)",
+                        job.getId(), saved.size(), job.getAttempts());
+            }
+            return new Checkpoint(this, job.getId(), saved);
+        } catch (Exception e) {
+            log.warn("번역 체크포인트를 열지 못했습니다. 체크포인트 없이 번역합니다: {}", e.getMessage());
+            return Checkpoint.disabled();
+        }
+    }
+
+    /**
+     * 남은 번역 결과를 저장하고 작업 상태 갱신
+     *
+     * @param untranslatedCount 번역하지 못한 텍스트 노드 수, 예외로 중단되었으면 -1 (0이면 COMPLETED, 아니면 PARTIAL)
+     */
+    public void finish(Checkpoint checkpoint, int untranslatedCount) {
+        if (!checkpoint.isEnabled()) {
+            return;
+        }
+        flush(checkpoint);
+        try {
+            translationJobRepository.findById(checkpoint.jobId).ifPresent(job -> {
+                job.setStatus(untranslatedCount == 0 ? "COMPLETED" : "PARTIAL");
+                job.setCompletedSegments((int) translationJobSegmentRepository.countByJobId(job.getId()));
+                translationJobRepository.save(job);
+            });
+        } catch (Exception e) {
+            log.warn("번역 작업 상태 갱신 실패 - 작업 ID: {}: {}", checkpoint.jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 아직 저장하지 않은 문맥 그룹 번역을 일괄 저장
+     */
+    public void flush(Checkpoint checkpoint) {
+        List<Object[]> rows;
+        synchronized (checkpoint) {
+            if (checkpoint.pending.isEmpty()) {
+                return;
+            }
+            rows = new ArrayList<>(checkpoint.pending);
+            checkpoint.pending.clear();
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SEGMENT_SQL, rows);
+            // 번역이 저장된 그룹은 재시도 대기 목록에서 제거
+            List<Object[]> keys = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                keys.add(new Object[]{row[0], row[1]});
+            }
+            jdbcTemplate.batchUpdate(DELETE_PENDING_SQL, keys);
+        } catch (Exception e) {
+            // 체크포인트 저장 실패는 번역을 막지 않음 (재시도 시 해당 그룹만 다시 번역됨)
+            log.warn("번역 체크포인트 저장 실패 - 작업 ID: {}, 문맥 그룹 {}개: {}", checkpoint.jobId, rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 대기열에 넣은 문맥 그룹 저장 (같은 작업의 같은 원문은 한 번만)
+     */
+    public void markPending(Checkpoint checkpoint, int segmentIndex, String sourceText) {
+        if (!checkpoint.isEnabled()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_PENDING_SQL, checkpoint.jobId, SnapshotStorage.hash(sourceText), segmentIndex, sourceText,
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("재시도 대기 문맥 그룹 저장 실패 - 작업 ID: {}: {}", checkpoint.jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도를 포기한 문맥 그룹을 대기 목록에서 제거 (다음 번역 요청에서 다시 번역됨)
+     */
+    public void clearPending(Checkpoint checkpoint, String sourceText) {
+        if (!checkpoint.isEnabled()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(DELETE_PENDING_SQL, checkpoint.jobId, SnapshotStorage.hash(sourceText));
+        } catch (Exception e) {
+            log.warn("재시도 대기 문맥 그룹 삭제 실패 - 작업 ID: {}: {}", checkpoint.jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 재시도 대기 문맥 그룹 조회 (서버 시작 시 대기열 복원용, 오래된 순)
+     */
+    public List<PendingSegment> loadPending(int limit) {
+        if (!enabled) {
+            return new ArrayList<>();
+        }
+        // 같은 작업의 그룹은 체크포인트 하나를 공유 (재시도 결과를 작업 단위로 모아 저장)
+        Map<Long, Checkpoint> checkpoints = new HashMap<>();
+        return jdbcTemplate.query(SELECT_PENDING_SQL, (rs, rowNum) -> new PendingSegment(
+                checkpoints.computeIfAbsent(rs.getLong("job_id"), this::resume),
+                rs.getInt("segment_index"),
+                rs.getString("source_text"),
+                rs.getString("target_lang"),
+                rs.getString("source_lang")), limit);
+    }
+
+    /**
+     * 작업 ID로 체크포인트를 다시 엶 (저장된 번역은 불러오지 않고 새 번역 기록에만 사용)
+     */
+    public Checkpoint resume(Long jobId) {
+        if (!enabled || jobId == null) {
+            return Checkpoint.disabled();
+        }
+        return new Checkpoint(this, jobId, new HashMap<>());
+    }
+
+    /**
+     * 번역 작업의 진행 상황과 저장된 문맥 그룹 번역 조회
+     */
+    public Optional<TranslationJobResponse> getJob(Long jobId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return translationJobRepository.findById(jobId).map(job -> {
+            List<TranslationJobResponse.Segment> segments = translationJobSegmentRepository.findByJobId(jobId).stream()
+                    .sorted(Comparator.comparing(TranslationJobSegment::getSegmentIndex))
+                    .map(segment -> TranslationJobResponse.Segment.builder()
+                            .segmentIndex(segment.getSegmentIndex())
+                            .sourceText(segment.getSourceText())
+                            .translatedText(segment.getTranslatedText())
+                            .build())
+                    .collect(Collectors.toList());
+            Integer pending = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Integer.class, jobId);
+            return TranslationJobResponse.builder()
+                    .jobId(job.getId())
+                    .sourceUrl(job.getSourceUrl())
+                    .sourceLang(job.getSourceLang())
+                    .targetLang(job.getTargetLang())
+                    .status(job.getStatus())
+                    .totalSegments(job.getTotalSegments())
+                    .completedSegments(segments.size())
+                    .pendingSegments(pending != null ? pending : 0)
+                    .updatedAt(job.getUpdatedAt())
+                    .segments(segments)
+                    .build();
+        });
+    }
+
+    private TranslationJob findOrCreate(String jobKey, String sourceUrl, String targetLang, String sourceLang) {
+        return translationJobRepository.findByJobKey(jobKey).orElseGet(() -> {
+            TranslationJob job = TranslationJob.builder()
+                    .jobKey(jobKey)
+                    .sourceUrl(sourceUrl != null && sourceUrl.length() > 1000 ? sourceUrl.substring(0, 1000) : sourceUrl)
+                    .targetLang(targetLang)
+                    .sourceLang(sourceLang)
+                    .build();
+            try {
+                return translationJobRepository.saveAndFlush(job);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 작업이 동시에 생성된 경우
+                return translationJobRepository.findByJobKey(jobKey).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 작업과 체크포인트 삭제
+     */
+    private void cleanupExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastCleanupMillis.get();
+        if (now - last < TimeUnit.HOURS.toMillis(1) || !lastCleanupMillis.compareAndSet(last, now)) {
+            return;
+        }
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours));
+        jdbcTemplate.update(DELETE_EXPIRED_PENDING_SQL, cutoff);
+        int segments = jdbcTemplate.update(DELETE_EXPIRED_SEGMENTS_SQL, cutoff);
+        int jobs = jdbcTemplate.update(DELETE_EXPIRED_JOBS_SQL, cutoff);
+        if (jobs > 0) {
+            log.info("만료된 번역 작업 정리 - 작업 {}개, 문맥 그룹 {}개", jobs, segments);
+        }
+    }
+
+    private String normalizeLang(String lang) {
+        return lang.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 저장된 재시도 대기 문맥 그룹
+     */
+    public static class PendingSegment {
+        private final Checkpoint checkpoint;
+        private final int segmentIndex;
+        private final String sourceText;
+        private final String targetLang;
+        private final String sourceLang;
+
+        public PendingSegment(Checkpoint checkpoint, int segmentIndex, String sourceText,
+                              String targetLang, String sourceLang) {
+            this.checkpoint = checkpoint;
+            this.segmentIndex = segmentIndex;
+            this.sourceText = sourceText;
+            this.targetLang = targetLang;
+            this.sourceLang = sourceLang;
+        }
+
+        public Checkpoint getCheckpoint() {
+            return checkpoint;
+        }
+
+        public int getSegmentIndex() {
+            return segmentIndex;
+        }
+
+        public String getSourceText() {
+            return sourceText;
+        }
+
+        public String getTargetLang() {
+            return targetLang;
+        }
+
+        public String getSourceLang() {
+            return sourceLang;
+        }
+    }
+
+    /**
+     * 한 번역 실행의 체크포인트 (저장된 번역 조회와 새 번역 기록)
+     * 문맥 그룹은 합친 원문의 해시로 식별하므로 페이지가 조금 바뀌어도 같은 그룹은 재사용된다.
+     */
+    public static class Checkpoint {
+        private final TranslationCheckpointService service;
+        private final Long jobId;
+        private final Map<String, TranslationJobSegment> saved;
+        private final List<Object[]> pending = new ArrayList<>();
+
+        Checkpoint(TranslationCheckpointService service, Long jobId, Map<String, TranslationJobSegment> saved) {
+            this.service = service;
+            this.jobId = jobId;
+            this.saved = saved;
+        }
+
+        static Checkpoint disabled() {
+            return new Checkpoint(null, null, new HashMap<>());
+        }
+
+        public boolean isEnabled() {
+            return service != null;
+        }
+
+        public Long getJobId() {
+            return jobId;
+        }
+
+        /**
+         * 이전 실행에서 저장된 문맥 그룹 번역 (없으면 null)
+         */
+        public String lookup(String sourceText) {
+            if (saved.isEmpty()) {
+                return null;
+            }
+            TranslationJobSegment segment = saved.get(SnapshotStorage.hash(sourceText));
+            // 해시 충돌 방지: 원문까지 비교
+            return segment != null && segment.getSourceText().equals(sourceText) ? segment.getTranslatedText() : null;
+        }
+
+        /**
+         * 번역된 문맥 그룹 기록 (flush-size만큼 모이면 저장)
+         */
+        public void record(int segmentIndex, String sourceText, String translatedText) {
+            if (!isEnabled() || translatedText == null) {
+                return;
+            }
+            boolean full;
+            synchronized (this) {
+                pending.add(new Object[]{
+                        jobId, SnapshotStorage.hash(sourceText), segmentIndex, sourceText, translatedText,
+                        Timestamp.valueOf(LocalDateTime.now())
+                });
+                full = pending.size() >= service.flushSize;
+            }
+            if (full) {
+                service.flush(this);
+            }
+        }
+    }
+}
@@ -6,11 +6,14 @@ import com.project.Transflow.user.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -37,9 +40,17 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             .and()
             // 개발 단계: 모든 요청 허용 (인증 체크 비활성화)
+            // 단, 운영 지표(크롤링 호스트/대기열 등)는 관리자만 조회 가능
             .authorizeRequests()
+                .antMatchers("/actuator/metrics/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
                 .anyRequest().permitAll()
             .and()
+            // 관리자 전용 엔드포인트는 OAuth2 로그인 페이지로 리다이렉트하지 않고 401 응답
+            .exceptionHandling()
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                        new AntPathRequestMatcher("/actuator/**"))
+            .and()
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             // OAuth2 로그인 설정은 유지 (OAuth2 엔드포인트 작동을 위해 필요)
             .oauth2Login()
                 .userInfoEndpoint()
@@ -53,8 +64,6 @@ public class SecurityConfig {
             .authorizeRequests()
                 .antMatchers("/", "/login", "/oauth2/**", "/error", "/swagger-ui/**", "/v3/api-docs/**", "/api/auth/**").permitAll()
                 .anyRequest().authenticated()
-            .and()
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             */
 
         return http.build();
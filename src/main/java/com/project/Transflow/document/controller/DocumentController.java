@@ -1,9 +1,12 @@
 package com.project.Transflow.document.controller;
 
 import com.project.Transflow.admin.util.AdminAuthUtil;
+import com.project.Transflow.document.dto.BatchCrawlDocumentRequest;
+import com.project.Transflow.document.dto.BatchCrawlDocumentResponse;
 import com.project.Transflow.document.dto.CreateDocumentRequest;
 import com.project.Transflow.document.dto.DocumentResponse;
 import com.project.Transflow.document.dto.UpdateDocumentRequest;
+import com.project.Transflow.document.service.DocumentBatchImportService;
 import com.project.Transflow.document.service.DocumentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,6 +35,7 @@ import java.util.Map;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final DocumentBatchImportService documentBatchImportService;
     private final AdminAuthUtil adminAuthUtil;
 
     @Operation(
@@ -59,6 +63,67 @@ public class DocumentController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "문서 일괄 크롤링 등록",
+            description = "URL 목록 또는 sitemap.xml의 페이지를 크롤링하여 문서와 원문 버전(ORIGINAL)을 일괄 생성하는 작업을 시작합니다. " +
+                    "작업은 백그라운드에서 실행되며, 반환된 작업 ID로 진행 상황과 URL별 결과를 조회합니다. 권한: 관리자 이상 (roleLevel 1, 2)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 시작 (작업 ID 포함)",
+                    content = @Content(schema = @Schema(implementation = BatchCrawlDocumentResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 권한 필요)"),
+            @ApiResponse(responseCode = "429", description = "대기 중인 작업이 너무 많음")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCrawlDocumentResponse> importDocuments(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authHeader,
+            @Valid @RequestBody BatchCrawlDocumentRequest request) {
+
+        // 권한 체크 (관리자 이상)
+        if (!adminAuthUtil.isAdminOrAbove(authHeader)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        Long createdById = adminAuthUtil.getUserIdFromToken(authHeader);
+        try {
+            BatchCrawlDocumentResponse response = documentBatchImportService.startImport(request, createdById);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("일괄 크롤링 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("일괄 크롤링 요청 거부: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
+    @Operation(
+            summary = "문서 일괄 크롤링 작업 조회",
+            description = "일괄 크롤링 작업의 상태(QUEUED, RUNNING, COMPLETED, FAILED)와 지금까지의 URL별 결과를 조회합니다. 권한: 관리자 이상 (roleLevel 1, 2)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BatchCrawlDocumentResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 권한 필요)"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (보관 기간 만료 포함)")
+    })
+    @GetMapping("/batch/{jobId}")
+    public ResponseEntity<BatchCrawlDocumentResponse> getImportJob(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authHeader,
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId) {
+
+        // 권한 체크 (관리자 이상)
+        if (!adminAuthUtil.isAdminOrAbove(authHeader)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return documentBatchImportService.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "문서 목록 조회",
             description = "모든 문서 목록을 조회합니다."
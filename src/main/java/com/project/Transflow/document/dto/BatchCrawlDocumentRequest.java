@@ -0,0 +1,35 @@
+package com.project.Transflow.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotBlank;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "URL 목록/사이트맵 일괄 크롤링 및 문서 등록 요청")
+public class BatchCrawlDocumentRequest {
+
+    @Schema(description = "크롤링할 URL 목록", example = "[\"https://example.com/a\", \"https://example.com/b\"]")
+    private List<String> urls;
+
+    @Schema(description = "sitemap.xml URL (urls와 함께 사용 가능)", example = "https://example.com/sitemap.xml")
+    private String sitemapUrl;
+
+    @Schema(description = "원문 언어 코드", example = "EN", requiredMode = Schema.RequiredMode.REQUIRED, allowableValues = {"EN", "KO", "JA", "ZH"})
+    @NotBlank(message = "원문 언어는 필수입니다.")
+    private String sourceLang;
+
+    @Schema(description = "번역 언어 코드", example = "KO", requiredMode = Schema.RequiredMode.REQUIRED, allowableValues = {"EN", "KO", "JA", "ZH"})
+    @NotBlank(message = "번역 언어는 필수입니다.")
+    private String targetLang;
+
+    @Schema(description = "카테고리 ID", example = "1")
+    private Long categoryId;
+}
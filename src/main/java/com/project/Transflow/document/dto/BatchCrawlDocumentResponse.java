@@ -0,0 +1,69 @@
+package com.project.Transflow.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "일괄 크롤링 및 문서 등록 작업 상태와 결과")
+public class BatchCrawlDocumentResponse {
+
+    @Schema(description = "작업 ID (진행 상황 조회에 사용)", example = "3f2b8c1e-...")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "RUNNING", allowableValues = {"QUEUED", "RUNNING", "COMPLETED", "FAILED"})
+    private String status;
+
+    @Schema(description = "작업 오류 메시지 (사이트맵 로드 실패 등, FAILED일 때)", example = "사이트맵을 불러올 수 없습니다: timeout")
+    private String errorMessage;
+
+    @Schema(description = "처리한 URL 수", example = "120")
+    private Integer total;
+
+    @Schema(description = "성공 수", example = "117")
+    private Integer succeeded;
+
+    @Schema(description = "실패 수", example = "3")
+    private Integer failed;
+
+    @Schema(description = "아직 처리하지 않은 URL 수", example = "0")
+    private Integer remaining;
+
+    @Schema(description = "URL별 처리 결과")
+    private List<UrlResult> results;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "URL별 처리 결과")
+    public static class UrlResult {
+        @Schema(description = "URL", example = "https://example.com/a")
+        private String url;
+
+        @Schema(description = "성공 여부", example = "true")
+        private Boolean success;
+
+        @Schema(description = "생성된 문서 ID", example = "10")
+        private Long documentId;
+
+        @Schema(description = "생성된 원문 버전 ID", example = "25")
+        private Long versionId;
+
+        @Schema(description = "문서 제목", example = "Example Article")
+        private String title;
+
+        @Schema(description = "에러 메시지", example = "크롤링 실패: timeout")
+        private String errorMessage;
+    }
+}
@@ -32,7 +32,7 @@ public class UpdateDocumentRequest {
     @Schema(description = "카테고리 ID", example = "2")
     private Long categoryId;
 
-    @Schema(description = "상태", example = "PENDING_TRANSLATION", allowableValues = {"DRAFT", "PENDING_TRANSLATION", "IN_TRANSLATION", "PENDING_REVIEW", "APPROVED", "PUBLISHED"})
+    @Schema(description = "상태", example = "PENDING_TRANSLATION", allowableValues = {"DRAFT", "CRAWLING", "AI_TRANSLATING", "AI_DRAFT_FAILED", "PENDING_TRANSLATION", "IN_TRANSLATION", "PENDING_REVIEW", "APPROVED", "PUBLISHED"})
     private String status;
 
     @Schema(description = "예상 분량 (글자 수)", example = "6000")
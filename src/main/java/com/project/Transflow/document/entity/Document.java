@@ -38,7 +38,7 @@ public class Document {
 
     @Column(nullable = false, length = 20)
     @Builder.Default
-    private String status = "DRAFT"; // DRAFT, PENDING_TRANSLATION, IN_TRANSLATION, PENDING_REVIEW, APPROVED, PUBLISHED
+    private String status = "DRAFT"; // DRAFT, CRAWLING, AI_TRANSLATING, AI_DRAFT_FAILED, PENDING_TRANSLATION, IN_TRANSLATION, PENDING_REVIEW, APPROVED, PUBLISHED
 
     @Column
     private Long currentVersionId; // 현재 활성 버전 ID
@@ -24,6 +24,10 @@ public class DocumentVersion {
     @JoinColumn(name = "document_id", nullable = false)
     private Document document;
 
+    // (document_id, version_number, version_type)에는 유니크 키를 두지 않음
+    // FINAL은 최신 버전 번호를 그대로 쓰므로 최종 지정을 반복하면 같은 번호의 FINAL이 여러 개 생길 수 있다.
+    // AI 초벌 번역 파이프라인은 DocumentVersionService.createVersionIfAbsent(문서 행 잠금 + 재확인)로
+    // 사용자가 이미 올린 원문/AI 초벌과 겹치지 않게 저장하고, 사용자가 직접 다시 올리는 것은 기존처럼 허용한다.
     @Column(nullable = false)
     private Integer versionNumber; // 0: 원문, 1: AI초벌번역, 2+: 수동번역
 
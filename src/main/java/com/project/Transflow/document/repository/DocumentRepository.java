@@ -2,8 +2,10 @@ package com.project.Transflow.document.repository;
 
 import com.project.Transflow.document.entity.Document;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +16,9 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     List<Document> findByCreatedBy_Id(Long createdById);
     List<Document> findByStatusAndCategoryId(String status, Long categoryId);
     Optional<Document> findByIdAndStatus(Long id, String status);
+
+    // 같은 문서의 버전 생성을 순서대로 처리하기 위한 행 잠금 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Document> findForUpdateById(Long id);
 }
 
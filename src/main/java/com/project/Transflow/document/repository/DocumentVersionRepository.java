@@ -14,5 +14,6 @@ public interface DocumentVersionRepository extends JpaRepository<DocumentVersion
     Optional<DocumentVersion> findByDocument_IdAndIsFinalTrue(Long documentId);
     Optional<DocumentVersion> findFirstByDocument_IdOrderByVersionNumberDesc(Long documentId);
     List<DocumentVersion> findByDocument_Id(Long documentId);
+    boolean existsByDocument_IdAndVersionType(Long documentId, String versionType);
 }
 
@@ -0,0 +1,540 @@
+package com.project.Transflow.document.service;
+
+import com.project.Transflow.document.dto.BatchCrawlDocumentRequest;
+import com.project.Transflow.document.dto.BatchCrawlDocumentResponse;
+import com.project.Transflow.snapshot.service.CrawlSnapshotService;
+import com.project.Transflow.translate.dto.CrawlResult;
+import com.project.Transflow.translate.service.CrawlerService;
+import com.project.Transflow.translate.service.TransflowService;
+import com.project.Transflow.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * URL 목록 또는 sitemap.xml을 받아 일괄 크롤링 후 문서와 원문 버전을 등록하는 서비스
+ * - 크롤링은 고정 크기 풀에서 진행하고, 동시에 진행 중인 작업 수를 제한 (메모리 사용량 제한)
+ * - 크롤링 결과는 일정 개수씩 모아 JDBC 배치로 document / document_version에 저장
+ * - 요청은 작업 ID만 받고 바로 반환하며, 작업은 백그라운드에서 실행되고 진행 상황은 작업 ID로 조회한다.
+ *   (수백 개 URL 크롤링은 요청 타임아웃을 넘기고, 연결이 끊기면 URL별 결과를 잃기 때문)
+ */
+@Slf4j
+@Service
+public class DocumentBatchImportService {
+
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_URL_LENGTH = 500;
+
+    private static final String INSERT_DOCUMENT_SQL =
+            "INSERT INTO document (title, original_url, source_lang, target_lang, category_id, status, " +
+            "estimated_length, created_by, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_VERSION_SQL =
+            "INSERT INTO document_version (document_id, version_number, version_type, content, is_final, " +
+            "created_by, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_CURRENT_VERSION_SQL =
+            "UPDATE document SET current_version_id = ? WHERE id = ?";
+
+    private final CrawlerService crawlerService;
+    private final CrawlSnapshotService crawlSnapshotService;
+    private final TransflowService transflowService;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService crawlExecutor;
+    private final ThreadPoolExecutor jobExecutor;
+    private final int crawlParallelism;
+    private final int insertBatchSize;
+    private final int maxUrls;
+    private final long jobRetentionMillis;
+
+    // 작업 ID -> 작업 (완료 후 보관 기간이 지나면 정리)
+    private final ConcurrentHashMap<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public DocumentBatchImportService(
+            CrawlerService crawlerService,
+            CrawlSnapshotService crawlSnapshotService,
+            TransflowService transflowService,
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${document.batch.crawl-parallelism:3}") int crawlParallelism,
+            @Value("${document.batch.insert-batch-size:50}") int insertBatchSize,
+            @Value("${document.batch.max-urls:500}") int maxUrls,
+            @Value("${document.batch.max-queued-jobs:10}") int maxQueuedJobs,
+            @Value("${document.batch.job-retention-minutes:1440}") long jobRetentionMinutes) {
+        this.crawlerService = crawlerService;
+        this.crawlSnapshotService = crawlSnapshotService;
+        this.transflowService = transflowService;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.crawlParallelism = crawlParallelism;
+        this.insertBatchSize = insertBatchSize;
+        this.maxUrls = maxUrls;
+        this.jobRetentionMillis = TimeUnit.MINUTES.toMillis(jobRetentionMinutes);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.crawlExecutor = Executors.newFixedThreadPool(crawlParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "batch-crawl-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 작업은 한 번에 하나씩 실행 (크롤링 동시 실행 수는 crawlExecutor가 제한)
+        this.jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedJobs), runnable -> {
+                    Thread thread = new Thread(runnable, "batch-import-job");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 일괄 등록 작업을 대기열에 추가하고 작업 ID를 반환
+     *
+     * @throws IllegalArgumentException 사용자나 URL/사이트맵이 없는 경우
+     * @throws IllegalStateException 대기 중인 작업이 너무 많은 경우
+     */
+    public BatchCrawlDocumentResponse startImport(BatchCrawlDocumentRequest request, Long createdById) {
+        if (createdById == null || !userRepository.existsById(createdById)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + createdById);
+        }
+        boolean hasUrls = request.getUrls() != null && request.getUrls().stream()
+                .anyMatch(url -> url != null && !url.trim().isEmpty());
+        boolean hasSitemap = request.getSitemapUrl() != null && !request.getSitemapUrl().trim().isEmpty();
+        if (!hasUrls && !hasSitemap) {
+            throw new IllegalArgumentException("크롤링할 URL 또는 사이트맵이 필요합니다.");
+        }
+
+        evictExpiredJobs();
+        ImportJob job = new ImportJob(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        try {
+            jobExecutor.execute(() -> run(job, request, createdById));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new IllegalStateException("대기 중인 일괄 등록 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("일괄 등록 작업 추가 - 작업 ID: {}", job.id);
+        return job.toResponse();
+    }
+
+    /**
+     * 일괄 등록 작업의 진행 상황과 지금까지의 URL별 결과
+     */
+    public Optional<BatchCrawlDocumentResponse> findJob(String jobId) {
+        evictExpiredJobs();
+        ImportJob job = jobs.get(jobId);
+        return job != null ? Optional.of(job.toResponse()) : Optional.empty();
+    }
+
+    private void run(ImportJob job, BatchCrawlDocumentRequest request, Long createdById) {
+        job.status = "RUNNING";
+        try {
+            importDocuments(job, request, createdById);
+            job.finish("COMPLETED", null);
+        } catch (Exception e) {
+            log.error("일괄 등록 작업 실패 - 작업 ID: {}", job.id, e);
+            job.finish("FAILED", e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private void importDocuments(ImportJob job, BatchCrawlDocumentRequest request, Long createdById) {
+        List<BatchCrawlDocumentResponse.UrlResult> rejected = new ArrayList<>();
+        List<String> urls = resolveUrls(request, rejected);
+        job.addResults(rejected);
+        job.remaining.set(urls.size());
+        log.info("일괄 크롤링 시작 - 작업 ID: {}, URL {}개 (사이트맵: {})", job.id, urls.size(), request.getSitemapUrl());
+
+        // 동시에 진행 중인 크롤링 수를 제한하여 완료된 HTML이 메모리에 쌓이지 않도록 함
+        CompletionService<CrawledPage> completionService = new ExecutorCompletionService<>(crawlExecutor);
+        int maxInFlight = crawlParallelism * 2;
+        int submitted = 0;
+        int inFlight = 0;
+        List<CrawledPage> pending = new ArrayList<>();
+
+        while (submitted < urls.size() || inFlight > 0) {
+            while (submitted < urls.size() && inFlight < maxInFlight) {
+                String url = urls.get(submitted++);
+                completionService.submit(() -> crawl(url));
+                inFlight++;
+            }
+
+            CrawledPage page;
+            try {
+                page = completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("일괄 크롤링 중 인터럽트 발생", e);
+            } catch (ExecutionException e) {
+                // crawl()은 예외를 결과로 감싸므로 여기까지 오지 않음
+                throw new IllegalStateException("일괄 크롤링 작업 실패: " + e.getMessage(), e);
+            }
+            inFlight--;
+
+            if (page.errorMessage != null) {
+                job.addResults(List.of(failure(page.url, page.errorMessage)));
+                job.remaining.decrementAndGet();
+                continue;
+            }
+
+            pending.add(page);
+            if (pending.size() >= insertBatchSize) {
+                job.addResults(flush(pending, request, createdById));
+                job.remaining.addAndGet(-pending.size());
+                pending.clear();
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            job.addResults(flush(pending, request, createdById));
+            job.remaining.addAndGet(-pending.size());
+        }
+
+        BatchCrawlDocumentResponse summary = job.toResponse();
+        log.info("일괄 크롤링 완료 - 작업 ID: {}, 전체: {}, 성공: {}, 실패: {}",
+                job.id, summary.getTotal(), summary.getSucceeded(), summary.getFailed());
+    }
+
+    /**
+     * 완료 후 보관 기간이 지난 작업 정리
+     */
+    private void evictExpiredJobs() {
+        long cutoff = System.currentTimeMillis() - jobRetentionMillis;
+        jobs.values().removeIf(job -> job.finishedAtMillis > 0 && job.finishedAtMillis < cutoff);
+    }
+
+    /**
+     * 요청의 URL 목록과 사이트맵을 합쳐 중복 제거된 URL 목록을 만든다.
+     * 형식이 잘못된 URL은 실패 결과로 기록한다.
+     */
+    private List<String> resolveUrls(BatchCrawlDocumentRequest request, List<BatchCrawlDocumentResponse.UrlResult> results) {
+        Set<String> candidates = new LinkedHashSet<>();
+        if (request.getUrls() != null) {
+            for (String url : request.getUrls()) {
+                if (url != null && !url.trim().isEmpty()) {
+                    candidates.add(url.trim());
+                }
+            }
+        }
+        if (request.getSitemapUrl() != null && !request.getSitemapUrl().trim().isEmpty()) {
+            candidates.addAll(fetchSitemapUrls(request.getSitemapUrl().trim()));
+        }
+
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("크롤링할 URL 또는 사이트맵이 필요합니다.");
+        }
+
+        List<String> urls = new ArrayList<>();
+        for (String url : candidates) {
+            if (!url.startsWith("http://") && !url.startsWith("https://")) {
+                results.add(failure(url, "http(s) URL만 지원합니다."));
+            } else if (url.length() > MAX_URL_LENGTH) {
+                results.add(failure(url, "URL은 500자 이하여야 합니다."));
+            } else if (urls.size() >= maxUrls) {
+                results.add(failure(url, "한 번에 처리할 수 있는 URL 수(" + maxUrls + "개)를 초과했습니다."));
+            } else {
+                urls.add(url);
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * sitemap.xml에서 URL 목록 추출 (sitemap index는 한 단계까지 따라감)
+     */
+    private List<String> fetchSitemapUrls(String sitemapUrl) {
+        List<String> urls = new ArrayList<>();
+        Document sitemap = fetchSitemap(sitemapUrl);
+
+        if (!sitemap.select("sitemapindex").isEmpty()) {
+            for (Element loc : sitemap.select("sitemap > loc")) {
+                if (urls.size() >= maxUrls) {
+                    break;
+                }
+                try {
+                    for (Element pageLoc : fetchSitemap(loc.text().trim()).select("url > loc")) {
+                        urls.add(pageLoc.text().trim());
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.warn("하위 사이트맵 로드 실패: {}", loc.text());
+                }
+            }
+        } else {
+            for (Element loc : sitemap.select("url > loc")) {
+                urls.add(loc.text().trim());
+            }
+        }
+
+        log.info("사이트맵에서 URL {}개 추출: {}", urls.size(), sitemapUrl);
+        return urls;
+    }
+
+    private Document fetchSitemap(String sitemapUrl) {
+        try {
+            return Jsoup.connect(sitemapUrl)
+                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
+                    .timeout(30000)
+                    .ignoreContentType(true)
+                    .maxBodySize(0)
+                    .parser(Parser.xmlParser())
+                    .get();
+        } catch (Exception e) {
+            log.error("사이트맵 로드 실패: {}", sitemapUrl, e);
+            throw new IllegalArgumentException("사이트맵을 불러올 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private CrawledPage crawl(String url) {
+        try {
+            CrawlResult crawlResult = crawlerService.crawl(url);
+            if (crawlResult.getHtml() == null || crawlResult.getHtml().isEmpty()) {
+                return CrawledPage.failed(url, "크롤링 결과가 비어있습니다.");
+            }
+            // 웹페이지 번역/초벌 번역 파이프라인과 같은 후처리 (스크립트 제거, 에셋 URL 변경), 원본은 스냅샷에 보관
+            String html = transflowService.prepareOriginalHtml(crawlResult, url);
+
+            Document doc = Jsoup.parse(html);
+            String title = doc.title();
+            if (title == null || title.trim().isEmpty()) {
+                title = url;
+            }
+            title = title.trim();
+            if (title.length() > MAX_TITLE_LENGTH) {
+                title = title.substring(0, MAX_TITLE_LENGTH);
+            }
+            doc.select("script, style").remove();
+            int estimatedLength = doc.body() != null ? doc.body().text().length() : 0;
+
+            return new CrawledPage(url, title, crawlResult, html, estimatedLength, null);
+        } catch (Exception e) {
+            log.warn("일괄 크롤링 실패: {} - {}", url, e.getMessage());
+            return CrawledPage.failed(url, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * 크롤링된 페이지를 JDBC 배치로 저장
+     * document 삽입 -> document_version(ORIGINAL) 삽입 -> current_version_id 갱신을 한 트랜잭션으로 처리
+     */
+    private List<BatchCrawlDocumentResponse.UrlResult> flush(List<CrawledPage> pages, BatchCrawlDocumentRequest request, Long createdById) {
+        try {
+            List<BatchCrawlDocumentResponse.UrlResult> saved = transactionTemplate.execute(status ->
+                    jdbcTemplate.execute((Connection connection) -> insertPages(connection, pages, request, createdById)));
+            log.info("문서 {}건 일괄 저장 완료", pages.size());
+            saveSnapshots(pages, saved);
+            return saved;
+        } catch (Exception e) {
+            log.error("문서 일괄 저장 실패 ({}건)", pages.size(), e);
+            List<BatchCrawlDocumentResponse.UrlResult> failures = new ArrayList<>();
+            for (CrawledPage page : pages) {
+                failures.add(failure(page.url, "문서 저장 실패: " + e.getMessage()));
+            }
+            return failures;
+        }
+    }
+
+    /**
+     * 저장된 문서별로 크롤링 스냅샷(HTML/CSS) 저장 (실패해도 문서 등록 결과에는 영향 없음)
+     */
+    private void saveSnapshots(List<CrawledPage> pages, List<BatchCrawlDocumentResponse.UrlResult> saved) {
+        for (int i = 0; i < pages.size() && i < saved.size(); i++) {
+            try {
+                crawlSnapshotService.saveSnapshot(pages.get(i).crawlResult, saved.get(i).getDocumentId());
+            } catch (Exception e) {
+                log.warn("크롤링 스냅샷 저장 실패: {} - {}", pages.get(i).url, e.getMessage());
+            }
+        }
+    }
+
+    private List<BatchCrawlDocumentResponse.UrlResult> insertPages(Connection connection, List<CrawledPage> pages,
+                                                                   BatchCrawlDocumentRequest request, Long createdById)
+            throws java.sql.SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Long> documentIds;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_DOCUMENT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (CrawledPage page : pages) {
+                ps.setString(1, page.title);
+                ps.setString(2, page.url);
+                ps.setString(3, request.getSourceLang());
+                ps.setString(4, request.getTargetLang());
+                if (request.getCategoryId() != null) {
+                    ps.setLong(5, request.getCategoryId());
+                } else {
+                    ps.setNull(5, Types.BIGINT);
+                }
+                ps.setString(6, "DRAFT");
+                ps.setInt(7, page.estimatedLength);
+                ps.setLong(8, createdById);
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            documentIds = readGeneratedKeys(ps, pages.size());
+        }
+
+        List<Long> versionIds;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_VERSION_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < pages.size(); i++) {
+                ps.setLong(1, documentIds.get(i));
+                ps.setInt(2, 0);
+                ps.setString(3, "ORIGINAL");
+                ps.setString(4, pages.get(i).originalHtml);
+                ps.setBoolean(5, false);
+                ps.setLong(6, createdById);
+                ps.setTimestamp(7, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+            versionIds = readGeneratedKeys(ps, pages.size());
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(UPDATE_CURRENT_VERSION_SQL)) {
+            for (int i = 0; i < pages.size(); i++) {
+                ps.setLong(1, versionIds.get(i));
+                ps.setLong(2, documentIds.get(i));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        List<BatchCrawlDocumentResponse.UrlResult> results = new ArrayList<>();
+        for (int i = 0; i < pages.size(); i++) {
+            results.add(BatchCrawlDocumentResponse.UrlResult.builder()
+                    .url(pages.get(i).url)
+                    .success(true)
+                    .documentId(documentIds.get(i))
+                    .versionId(versionIds.get(i))
+                    .title(pages.get(i).title)
+                    .build());
+        }
+        return results;
+    }
+
+    private List<Long> readGeneratedKeys(PreparedStatement ps, int expected) throws java.sql.SQLException {
+        List<Long> keys = new ArrayList<>(expected);
+        try (ResultSet rs = ps.getGeneratedKeys()) {
+            while (rs.next()) {
+                keys.add(rs.getLong(1));
+            }
+        }
+        if (keys.size() != expected) {
+            throw new IllegalStateException("생성된 키 개수가 일치하지 않습니다. (예상: " + expected + ", 실제: " + keys.size() + ")");
+        }
+        return keys;
+    }
+
+    private BatchCrawlDocumentResponse.UrlResult failure(String url, String errorMessage) {
+        return BatchCrawlDocumentResponse.UrlResult.builder()
+                .url(url)
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        crawlExecutor.shutdownNow();
+    }
+
+    /**
+     * 일괄 등록 작업 (진행 중에도 조회할 수 있도록 결과를 누적)
+     */
+    private static class ImportJob {
+        final String id;
+        final List<BatchCrawlDocumentResponse.UrlResult> results = new ArrayList<>();
+        final AtomicInteger remaining = new AtomicInteger();
+        volatile String status = "QUEUED";
+        volatile String errorMessage;
+        volatile long finishedAtMillis;
+
+        ImportJob(String id) {
+            this.id = id;
+        }
+
+        synchronized void addResults(List<BatchCrawlDocumentResponse.UrlResult> added) {
+            results.addAll(added);
+        }
+
+        void finish(String finalStatus, String error) {
+            errorMessage = error;
+            status = finalStatus;
+            finishedAtMillis = System.currentTimeMillis();
+        }
+
+        synchronized BatchCrawlDocumentResponse toResponse() {
+            int succeeded = (int) results.stream().filter(BatchCrawlDocumentResponse.UrlResult::getSuccess).count();
+            return BatchCrawlDocumentResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .errorMessage(errorMessage)
+                    .total(results.size())
+                    .succeeded(succeeded)
+                    .failed(results.size() - succeeded)
+                    .remaining(remaining.get())
+                    .results(new ArrayList<>(results))
+                    .build();
+        }
+    }
+
+    /**
+     * 크롤링 결과 (저장 전)
+     */
+    private static class CrawledPage {
+        final String url;
+        final String title;
+        final CrawlResult crawlResult;
+        final String originalHtml; // ORIGINAL 버전으로 저장할 정리된 HTML
+        final int estimatedLength;
+        final String errorMessage;
+
+        CrawledPage(String url, String title, CrawlResult crawlResult, String originalHtml, int estimatedLength,
+                    String errorMessage) {
+            this.url = url;
+            this.title = title;
+            this.crawlResult = crawlResult;
+            this.originalHtml = originalHtml;
+            this.estimatedLength = estimatedLength;
+            this.errorMessage = errorMessage;
+        }
+
+        static CrawledPage failed(String url, String errorMessage) {
+            return new CrawledPage(url, null, null, null, 0, errorMessage);
+        }
+    }
+}
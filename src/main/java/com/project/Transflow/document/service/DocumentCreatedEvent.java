@@ -0,0 +1,24 @@
+package com.project.Transflow.document.service;
+
+/**
+ * 원문 URL이 있는 문서가 생성되었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 AI 초벌 번역 파이프라인(DocumentDraftPipeline)에서 사용한다.
+ */
+public class DocumentCreatedEvent {
+
+    private final Long documentId;
+    private final Long createdById;
+
+    public DocumentCreatedEvent(Long documentId, Long createdById) {
+        this.documentId = documentId;
+        this.createdById = createdById;
+    }
+
+    public Long getDocumentId() {
+        return documentId;
+    }
+
+    public Long getCreatedById() {
+        return createdById;
+    }
+}
@@ -0,0 +1,264 @@
+package com.project.Transflow.document.service;
+
+import com.project.Transflow.document.dto.CreateDocumentVersionRequest;
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.snapshot.service.CrawlSnapshotService;
+import com.project.Transflow.translate.dto.CrawlResult;
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
+import com.project.Transflow.translate.dto.TranslationOptions;
+import com.project.Transflow.translate.service.CrawlerService;
+import com.project.Transflow.translate.service.Deadline;
+import com.project.Transflow.translate.service.HtmlTranslationService;
+import com.project.Transflow.translate.service.TransflowService;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문서 생성 후 AI 초벌 번역을 미리 만들어 두는 백그라운드 파이프라인
+ * 크롤링 -> 원문(ORIGINAL) 버전 저장 -> 번역 -> AI 초벌(AI_DRAFT) 버전 저장 순서로 실행하고,
+ * 진행 상황은 문서 상태(CRAWLING, AI_TRANSLATING)로 표시한다. 완료되면 PENDING_TRANSLATION,
+ * 실패하면 AI_DRAFT_FAILED로 바꾼다. 번역가가 작업을 열 때 기다리지 않고 초벌 번역을 바로 볼 수 있다.
+ * 서버 종료/장애로 진행 중 상태에 남은 문서는 다음 기동 시 되돌린다.
+ */
+@Slf4j
+@Component
+public class DocumentDraftPipeline {
+
+    // 다른 사용자가 상태를 바꿨으면 덮어쓰지 않도록 이전 상태가 같을 때만 변경
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE document SET status = ?, updated_at = ? WHERE id = ? AND status = ?";
+
+    // 진행 중 상태로 오래 갱신되지 않은 문서 (실행하던 서버가 종료/중단됨)
+    private static final String RECOVER_STALE_SQL =
+            "UPDATE document SET status = ?, updated_at = ? WHERE status = ? AND updated_at < ?";
+
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+    private final DocumentVersionService documentVersionService;
+    private final CrawlerService crawlerService;
+    private final CrawlSnapshotService crawlSnapshotService;
+    private final HtmlTranslationService htmlTranslationService;
+    private final TransflowService transflowService;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long timeoutSeconds;
+    private final long staleAfterSeconds;
+    private final ThreadPoolExecutor executor;
+
+    public DocumentDraftPipeline(
+            DocumentRepository documentRepository,
+            DocumentVersionRepository documentVersionRepository,
+            DocumentVersionService documentVersionService,
+            CrawlerService crawlerService,
+            CrawlSnapshotService crawlSnapshotService,
+            HtmlTranslationService htmlTranslationService,
+            TransflowService transflowService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${document.draft-pipeline.enabled:true}") boolean enabled,
+            @Value("${document.draft-pipeline.threads:2}") int threads,
+            @Value("${document.draft-pipeline.queue-size:100}") int queueSize,
+            @Value("${document.draft-pipeline.timeout-seconds:600}") long timeoutSeconds,
+            @Value("${document.draft-pipeline.stale-after-seconds:1200}") long staleAfterSeconds) {
+        this.documentRepository = documentRepository;
+        this.documentVersionRepository = documentVersionRepository;
+        this.documentVersionService = documentVersionService;
+        this.crawlerService = crawlerService;
+        this.crawlSnapshotService = crawlSnapshotService;
+        this.htmlTranslationService = htmlTranslationService;
+        this.transflowService = transflowService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.timeoutSeconds = timeoutSeconds;
+        this.staleAfterSeconds = staleAfterSeconds;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열이 가득 차면 거절 (문서는 DRAFT로 남아 수동 번역 흐름을 그대로 사용)
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "document-draft-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 기동 시 이전 실행에서 중단된 문서 복구
+     * 크롤링 중이던 문서는 DRAFT로 되돌려 수동 번역 흐름을 쓰게 하고, 번역 중이던 문서는 AI_DRAFT_FAILED로 표시한다.
+     * 다른 인스턴스가 처리 중인 문서는 건드리지 않도록 마감 시간보다 오래 갱신되지 않은 것만 대상으로 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverStaleDocuments() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusSeconds(staleAfterSeconds));
+        try {
+            int crawling = jdbcTemplate.update(RECOVER_STALE_SQL, "DRAFT", now, "CRAWLING", cutoff);
+            int translating = jdbcTemplate.update(RECOVER_STALE_SQL, "AI_DRAFT_FAILED", now, "AI_TRANSLATING", cutoff);
+            if (crawling > 0 || translating > 0) {
+                log.warn("중단된 AI 초벌 번역 문서 복구 - CRAWLING -> DRAFT {}개, AI_TRANSLATING -> AI_DRAFT_FAILED {}개",
+                        crawling, translating);
+            }
+        } catch (Exception e) {
+            log.warn("중단된 AI 초벌 번역 문서 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 문서 생성 트랜잭션이 커밋된 뒤 초벌 번역 작업을 대기열에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDocumentCreated(DocumentCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(event.getDocumentId(), event.getCreatedById());
+                } catch (Exception e) {
+                    log.error("AI 초벌 번역 파이프라인 오류 - 문서 ID: {}", event.getDocumentId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("AI 초벌 번역 대기열이 가득 찼습니다 ({}개 대기). 문서 ID {}는 DRAFT 상태로 둡니다.",
+                    executor.getQueue().size(), event.getDocumentId());
+        }
+    }
+
+    /**
+     * 문서 하나의 초벌 번역 생성
+     */
+    private void run(Long documentId, Long createdById) {
+        Document document = documentRepository.findById(documentId).orElse(null);
+        if (document == null || document.getOriginalUrl() == null || document.getOriginalUrl().trim().isEmpty()) {
+            return;
+        }
+        if (documentVersionRepository.existsByDocument_IdAndVersionType(documentId, "ORIGINAL")) {
+            log.debug("이미 원문 버전이 있어 초벌 번역을 건너뜁니다 - 문서 ID: {}", documentId);
+            return;
+        }
+        if (!updateStatus(documentId, "DRAFT", "CRAWLING")) {
+            log.info("문서 상태가 변경되어 초벌 번역을 건너뜁니다 - 문서 ID: {}", documentId);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        String url = document.getOriginalUrl();
+        Deadline deadline = Deadline.after(Duration.ofSeconds(timeoutSeconds));
+        String status = "CRAWLING";
+        try {
+            CrawlResult crawlResult = crawlerService.crawl(url, deadline);
+            if (crawlResult.getHtml() == null || crawlResult.getHtml().isEmpty()) {
+                throw new IllegalStateException("크롤링 결과가 비어있습니다.");
+            }
+            saveSnapshot(crawlResult, documentId);
+            // 웹페이지 번역과 같은 후처리 (스크립트 제거, 에셋 URL 변경)
+            String html = transflowService.prepareOriginalHtml(crawlResult, url);
+            // 크롤링하는 동안 사용자가 원문을 직접 올렸으면 중복으로 만들지 않고 수동 흐름에 맡김
+            if (!documentVersionService.createVersionIfAbsent(documentId,
+                    new CreateDocumentVersionRequest("ORIGINAL", html, false), createdById, status).isPresent()) {
+                handOver(documentId, status, "ORIGINAL");
+                return;
+            }
+            if (document.getEstimatedLength() == null) {
+                updateEstimatedLength(documentId, html);
+            }
+
+            if (!updateStatus(documentId, status, "AI_TRANSLATING")) {
+                log.info("문서 상태가 변경되어 초벌 번역을 중단합니다 - 문서 ID: {}", documentId);
+                return;
+            }
+            status = "AI_TRANSLATING";
+            // 이미 초벌 번역이 올라왔으면 번역(과금) 생략
+            if (documentVersionRepository.existsByDocument_IdAndVersionType(documentId, "AI_DRAFT")) {
+                handOver(documentId, status, "AI_DRAFT");
+                return;
+            }
+
+            TranslationOptions options = TranslationOptions.builder()
+                    .sourceUrl(url)
+                    .deadline(deadline)
+                    .build();
+            HtmlTranslationResult translation = htmlTranslationService.translate(
+                    html, document.getTargetLang(), document.getSourceLang(), options);
+            if (!documentVersionService.createVersionIfAbsent(documentId,
+                    new CreateDocumentVersionRequest("AI_DRAFT", translation.getHtml(), false), createdById, status).isPresent()) {
+                handOver(documentId, status, "AI_DRAFT");
+                return;
+            }
+
+            updateStatus(documentId, status, "PENDING_TRANSLATION");
+            if (translation.isPartial()) {
+                // 남은 문맥 그룹은 체크포인트/재시도 대기열에 남아 다음 번역 요청에서 채워짐
+                log.warn("AI 초벌 번역 일부 미완료 - 문서 ID: {}, 미번역 {}개, 재시도 대기 {}개",
+                        documentId, translation.getUntranslatedCount(), translation.getPendingCount());
+            }
+            log.info("AI 초벌 번역 완료 - 문서 ID: {}, 소요 시간: {}ms", documentId, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.warn("AI 초벌 번역 실패 - 문서 ID: {}, 단계: {}: {}", documentId, status, e.getMessage());
+            updateStatus(documentId, status, "AI_DRAFT_FAILED");
+        }
+    }
+
+    /**
+     * 사용자가 같은 버전을 직접 올렸거나 상태를 바꾼 경우 파이프라인을 멈추고 DRAFT로 되돌림
+     * (상태가 이미 바뀌었으면 그대로 둠)
+     */
+    private void handOver(Long documentId, String status, String versionType) {
+        updateStatus(documentId, status, "DRAFT");
+        log.info("{} 버전이 이미 있거나 문서 상태가 변경되어 초벌 번역을 중단합니다 - 문서 ID: {}", versionType, documentId);
+    }
+
+    private void saveSnapshot(CrawlResult crawlResult, Long documentId) {
+        try {
+            crawlSnapshotService.saveSnapshot(crawlResult, documentId);
+        } catch (Exception e) {
+            // 스냅샷은 부가 정보이므로 실패해도 초벌 번역은 계속
+            log.warn("크롤링 스냅샷 저장 실패 - 문서 ID: {}: {}", documentId, e.getMessage());
+        }
+    }
+
+    private void updateEstimatedLength(Long documentId, String html) {
+        org.jsoup.nodes.Document doc = Jsoup.parse(html);
+        doc.select("script, style").remove();
+        int estimatedLength = doc.body() != null ? doc.body().text().length() : 0;
+        jdbcTemplate.update("UPDATE document SET estimated_length = ? WHERE id = ? AND estimated_length IS NULL",
+                estimatedLength, documentId);
+    }
+
+    /**
+     * 현재 상태가 expected일 때만 문서 상태 변경
+     *
+     * @return 변경되었는지 여부
+     */
+    private boolean updateStatus(Long documentId, String expected, String status) {
+        return jdbcTemplate.update(UPDATE_STATUS_SQL,
+                status, Timestamp.valueOf(LocalDateTime.now()), documentId, expected) > 0;
+    }
+
+    /**
+     * 실행 중인 작업은 인터럽트하고, 상태를 바꾸지 못하고 남은 문서는 다음 기동 시 recoverStaleDocuments에서 복구
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
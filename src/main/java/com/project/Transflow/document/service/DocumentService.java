@@ -9,6 +9,7 @@ import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +24,7 @@ public class DocumentService {
 
     private final DocumentRepository documentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DocumentResponse createDocument(CreateDocumentRequest request, Long createdById) {
@@ -42,6 +44,11 @@ public class DocumentService {
 
         Document saved = documentRepository.save(document);
         log.info("문서 생성: {} (id: {})", saved.getTitle(), saved.getId());
+
+        // 커밋 후 크롤링과 AI 초벌 번역을 백그라운드로 실행 (DocumentDraftPipeline)
+        if (saved.getOriginalUrl() != null && !saved.getOriginalUrl().trim().isEmpty()) {
+            eventPublisher.publishEvent(new DocumentCreatedEvent(saved.getId(), createdById));
+        }
         return toResponse(saved);
     }
 
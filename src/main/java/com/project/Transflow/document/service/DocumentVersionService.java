@@ -28,9 +28,32 @@ public class DocumentVersionService {
 
     @Transactional
     public DocumentVersionResponse createVersion(Long documentId, CreateDocumentVersionRequest request, Long createdById) {
-        Document document = documentRepository.findById(documentId)
+        // 문서 행을 잠가 같은 문서의 버전 생성(버전 번호 계산, 중복 확인)이 겹치지 않게 함
+        Document document = documentRepository.findForUpdateById(documentId)
                 .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + documentId));
+        return createVersion(document, request, createdById);
+    }
+
+    /**
+     * 문서 상태가 expectedStatus이고 같은 타입의 버전이 아직 없을 때만 버전 생성 (AI 초벌 번역 파이프라인용)
+     * 크롤링/번역 중에 사용자가 같은 버전을 직접 올렸으면 중복으로 만들지 않는다.
+     * 확인과 저장은 문서 행 잠금 안에서 함께 실행한다.
+     *
+     * @return 생성된 버전, 조건이 맞지 않아 생성하지 않았으면 empty
+     */
+    @Transactional
+    public Optional<DocumentVersionResponse> createVersionIfAbsent(Long documentId, CreateDocumentVersionRequest request,
+                                                                   Long createdById, String expectedStatus) {
+        Document document = documentRepository.findForUpdateById(documentId).orElse(null);
+        if (document == null || !expectedStatus.equals(document.getStatus())
+                || documentVersionRepository.existsByDocument_IdAndVersionType(documentId, request.getVersionType())) {
+            return Optional.empty();
+        }
+        return Optional.of(createVersion(document, request, createdById));
+    }
 
+    private DocumentVersionResponse createVersion(Document document, CreateDocumentVersionRequest request, Long createdById) {
+        Long documentId = document.getId();
         User createdBy = userRepository.findById(createdById)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + createdById));
 
@@ -0,0 +1,50 @@
+package com.project.Transflow.memory.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "translation_memory", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_translation_memory_source", columnNames = {"targetLang", "sourceHash"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationMemory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 10)
+    private String sourceLang; // 원문 언어 코드 (참고용, 조회 키에는 포함하지 않음)
+
+    @Column(nullable = false, length = 10)
+    private String targetLang; // 번역 언어 코드
+
+    @Column(nullable = false, length = 64)
+    private String sourceHash; // 정규화된 원문의 SHA-256 해시
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String sourceText; // 원문 세그먼트 (문단 또는 문장)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String targetText; // 검수를 거친 번역문
+
+    @Column
+    private Long documentId; // 마지막으로 이 번역을 제공한 문서 ID
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,14 @@
+package com.project.Transflow.memory.repository;
+
+import com.project.Transflow.memory.entity.TranslationMemory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemory, Long> {
+    List<TranslationMemory> findByTargetLangAndSourceHashIn(String targetLang, Collection<String> sourceHashes);
+    long countByDocumentId(Long documentId);
+}
@@ -0,0 +1,222 @@
+package com.project.Transflow.memory.service;
+
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.review.service.ReviewApprovedEvent;
+import com.project.Transflow.translate.service.ContextSegmenter;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 승인된 최종 번역을 원문과 정렬하여 번역 메모리에 적재하는 백그라운드 작업
+ * 원문(ORIGINAL)과 최종 버전(FINAL, MANUAL_TRANSLATION)의 HTML을 번역 시와 같은 문맥 그룹으로 나누고
+ * (ContextSegmenter), DOM 구조상 같은 위치의 그룹끼리 짝지은 뒤 문장 수가 같으면 문장 단위로도 짝짓는다.
+ * 번역할 때도 같은 규칙으로 그룹 텍스트를 만들어 조회하므로 저장한 원문이 그대로 조회 키가 된다.
+ */
+@Slf4j
+@Component
+public class TranslationMemoryAligner {
+
+    private static final List<String> ALIGNABLE_VERSION_TYPES = List.of("FINAL", "MANUAL_TRANSLATION");
+
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+    private final TranslationMemoryService translationMemoryService;
+    private final int maxSegmentLength;
+    private final ExecutorService executor;
+
+    public TranslationMemoryAligner(
+            DocumentRepository documentRepository,
+            DocumentVersionRepository documentVersionRepository,
+            TranslationMemoryService translationMemoryService,
+            @Value("${translation.memory.max-segment-length:5000}") int maxSegmentLength) {
+        this.documentRepository = documentRepository;
+        this.documentVersionRepository = documentVersionRepository;
+        this.translationMemoryService = translationMemoryService;
+        this.maxSegmentLength = maxSegmentLength;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "translation-memory-aligner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 리뷰 승인 트랜잭션이 커밋된 뒤 정렬 작업을 백그라운드로 실행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReviewApproved(ReviewApprovedEvent event) {
+        if (!translationMemoryService.isEnabled()) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                align(event.getDocumentId(), event.getDocumentVersionId());
+            } catch (Exception e) {
+                log.error("번역 메모리 정렬 실패 - 문서 ID: {}, 버전 ID: {}",
+                        event.getDocumentId(), event.getDocumentVersionId(), e);
+            }
+        });
+    }
+
+    /**
+     * 문서의 원문과 승인된 버전을 정렬하여 번역 메모리에 저장
+     *
+     * @return 저장한 세그먼트 수
+     */
+    public int align(Long documentId, Long versionId) {
+        Document document = documentRepository.findById(documentId).orElse(null);
+        DocumentVersion approved = documentVersionRepository.findById(versionId).orElse(null);
+        if (document == null || approved == null) {
+            return 0;
+        }
+        if (!ALIGNABLE_VERSION_TYPES.contains(approved.getVersionType())) {
+            log.debug("번역 메모리 정렬 대상이 아닌 버전 - 버전 ID: {}, 타입: {}", versionId, approved.getVersionType());
+            return 0;
+        }
+
+        Optional<DocumentVersion> original = documentVersionRepository.findByDocument_Id(documentId).stream()
+                .filter(v -> "ORIGINAL".equals(v.getVersionType()))
+                .min(Comparator.comparing(DocumentVersion::getVersionNumber));
+        if (!original.isPresent()) {
+            log.warn("원문 버전이 없어 번역 메모리 정렬을 건너뜁니다 - 문서 ID: {}", documentId);
+            return 0;
+        }
+
+        List<TranslationMemoryService.SegmentPair> pairs =
+                alignSegments(segment(original.get().getContent()), segment(approved.getContent()));
+        int saved = translationMemoryService.saveAll(pairs, document.getSourceLang(), document.getTargetLang(), documentId);
+        log.info("번역 메모리 적재 완료 - 문서 ID: {}, 버전 ID: {}, 세그먼트 {}개", documentId, versionId, saved);
+        return saved;
+    }
+
+    /**
+     * HTML을 번역 시와 같은 문맥 그룹 단위의 세그먼트로 나눔 (문서 순서)
+     * 위치는 문맥 요소의 DOM 경로와 그 요소 안에서의 그룹 순서로 표시한다.
+     */
+    private List<Segment> segment(String html) {
+        org.jsoup.nodes.Document doc = Jsoup.parse(html);
+        // 원문에만 남아 있는 스크립트 등이 형제 순서를 바꾸지 않도록 양쪽 모두 제거
+        doc.select("script, style, noscript").remove();
+
+        List<Segment> segments = new ArrayList<>();
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (List<TextNode> group : ContextSegmenter.segment(doc)) {
+            Element parent = ContextSegmenter.contextParent(group.get(0));
+            String path = parent != null ? structuralPath(parent) : "";
+            int occurrence = occurrences.merge(path, 1, Integer::sum);
+            String text = ContextSegmenter.combine(group);
+            if (text.length() > maxSegmentLength) {
+                continue;
+            }
+            segments.add(new Segment(parent != null ? parent.tagName() : "", path + "#" + occurrence, text));
+        }
+        return segments;
+    }
+
+    /**
+     * 원문과 번역문 세그먼트 정렬
+     * DOM 경로가 같은 블록끼리 짝짓고, 경로가 하나도 맞지 않으면(에디터가 구조를 바꾼 경우)
+     * 블록 태그 순서가 완전히 같을 때만 순서대로 짝짓는다.
+     */
+    private List<TranslationMemoryService.SegmentPair> alignSegments(List<Segment> sources, List<Segment> targets) {
+        List<TranslationMemoryService.SegmentPair> pairs = new ArrayList<>();
+
+        Map<String, Segment> targetsByPath = new HashMap<>();
+        for (Segment target : targets) {
+            targetsByPath.put(target.path, target);
+        }
+        int matched = 0;
+        for (Segment source : sources) {
+            Segment target = targetsByPath.get(source.path);
+            if (target != null && target.tag.equals(source.tag)) {
+                addPair(source.text, target.text, pairs);
+                matched++;
+            }
+        }
+
+        if (matched == 0 && sources.size() == targets.size()) {
+            for (int i = 0; i < sources.size(); i++) {
+                if (!sources.get(i).tag.equals(targets.get(i).tag)) {
+                    return pairs;
+                }
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                addPair(sources.get(i).text, targets.get(i).text, pairs);
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * 블록 쌍 추가. 문장 수가 같으면 문장 단위 쌍도 추가한다.
+     * 번역되지 않은 블록(원문과 같음)은 제외한다. (부분 번역 승인 등)
+     */
+    private void addPair(String source, String target, List<TranslationMemoryService.SegmentPair> pairs) {
+        if (source.equals(target)) {
+            return;
+        }
+        pairs.add(new TranslationMemoryService.SegmentPair(source, target));
+
+        String[] sourceSentences = ContextSegmenter.splitSentences(source);
+        String[] targetSentences = ContextSegmenter.splitSentences(target);
+        if (sourceSentences.length > 1 && sourceSentences.length == targetSentences.length) {
+            for (int i = 0; i < sourceSentences.length; i++) {
+                if (!sourceSentences[i].equals(targetSentences[i])) {
+                    pairs.add(new TranslationMemoryService.SegmentPair(sourceSentences[i], targetSentences[i]));
+                }
+            }
+        }
+    }
+
+    /**
+     * body부터 요소까지의 태그와 형제 순서 경로 (예: /div[0]/article[1]/p[3])
+     */
+    private String structuralPath(Element element) {
+        StringBuilder path = new StringBuilder();
+        for (Element current = element; current != null && current.parent() != null; current = current.parent()) {
+            String tagName = current.tagName();
+            if (tagName.equals("body") || tagName.equals("head")) {
+                path.insert(0, tagName);
+                break;
+            }
+            path.insert(0, "/" + tagName + "[" + current.elementSiblingIndex() + "]");
+        }
+        return path.toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class Segment {
+        final String tag;
+        final String path;
+        final String text;
+
+        Segment(String tag, String path, String text) {
+            this.tag = tag;
+            this.path = path;
+            this.text = text;
+        }
+    }
+}
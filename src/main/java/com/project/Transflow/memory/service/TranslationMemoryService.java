@@ -0,0 +1,166 @@
+package com.project.Transflow.memory.service;
+
+import com.project.Transflow.memory.entity.TranslationMemory;
+import com.project.Transflow.memory.repository.TranslationMemoryRepository;
+import com.project.Transflow.snapshot.service.SnapshotStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 번역 메모리 (검수를 거친 원문-번역문 세그먼트 쌍)
+ * 세그먼트는 공백을 정규화한 원문의 해시와 대상 언어로 조회한다.
+ * 같은 원문이 다시 나오면 DeepL을 호출하지 않고 검수된 번역을 재사용한다.
+ */
+@Slf4j
+@Service
+public class TranslationMemoryService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO translation_memory (source_lang, target_lang, source_hash, source_text, target_text, " +
+            "document_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE source_lang = VALUES(source_lang), target_text = VALUES(target_text), " +
+            "document_id = VALUES(document_id), updated_at = VALUES(updated_at)";
+
+    private final TranslationMemoryRepository translationMemoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public TranslationMemoryService(
+            TranslationMemoryRepository translationMemoryRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${translation.memory.enabled:true}") boolean enabled,
+            @Value("${translation.memory.batch-size:500}") int batchSize) {
+        this.translationMemoryRepository = translationMemoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 원문 세그먼트들의 번역을 한 번의 쿼리로 조회
+     *
+     * @return 원문(입력 그대로) -> 검수된 번역문 (없는 원문은 포함하지 않음)
+     */
+    public Map<String, String> lookup(Collection<String> sourceTexts, String targetLang) {
+        Map<String, String> found = new HashMap<>();
+        if (!enabled || sourceTexts.isEmpty()) {
+            return found;
+        }
+
+        Map<String, List<String>> byHash = new LinkedHashMap<>();
+        for (String sourceText : sourceTexts) {
+            String normalized = normalize(sourceText);
+            if (!normalized.isEmpty()) {
+                byHash.computeIfAbsent(SnapshotStorage.hash(normalized), h -> new ArrayList<>()).add(sourceText);
+            }
+        }
+        if (byHash.isEmpty()) {
+            return found;
+        }
+
+        try {
+            List<TranslationMemory> entries = translationMemoryRepository
+                    .findByTargetLangAndSourceHashIn(normalizeLang(targetLang), byHash.keySet());
+            for (TranslationMemory entry : entries) {
+                for (String sourceText : byHash.getOrDefault(entry.getSourceHash(), List.of())) {
+                    // 해시 충돌 방지: 정규화된 원문까지 비교
+                    if (normalize(sourceText).equals(entry.getSourceText())) {
+                        found.put(sourceText, entry.getTargetText());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // 번역 메모리 조회 실패는 번역 자체를 막지 않음 (DeepL로 번역)
+            log.warn("번역 메모리 조회 실패: {}", e.getMessage());
+        }
+        return found;
+    }
+
+    /**
+     * 세그먼트 쌍을 일괄 저장 (같은 대상 언어/원문이 있으면 번역문을 최신 검수본으로 갱신)
+     *
+     * @return 저장한 세그먼트 수
+     */
+    public int saveAll(List<SegmentPair> pairs, String sourceLang, String targetLang, Long documentId) {
+        if (pairs.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 원문이 한 문서에 여러 번 나오면 마지막 번역만 사용 (배치 내 중복 키 방지)
+        Map<String, SegmentPair> unique = new LinkedHashMap<>();
+        for (SegmentPair pair : pairs) {
+            String normalized = normalize(pair.getSource());
+            if (!normalized.isEmpty()) {
+                unique.put(normalized, pair);
+            }
+        }
+
+        String source = sourceLang != null ? normalizeLang(sourceLang) : null;
+        String target = normalizeLang(targetLang);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(unique.size());
+        for (Map.Entry<String, SegmentPair> entry : unique.entrySet()) {
+            rows.add(new Object[]{
+                    source, target, SnapshotStorage.hash(entry.getKey()), entry.getKey(),
+                    normalize(entry.getValue().getTarget()), documentId, now, now
+            });
+        }
+
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+        return rows.size();
+    }
+
+    /**
+     * 공백을 하나로 합치고 앞뒤 공백 제거 (조회와 저장에 같은 규칙 사용)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace('\u00a0', ' ').replaceAll("\\s+", " ").trim();
+    }
+
+    private String normalizeLang(String lang) {
+        return lang.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 정렬된 원문-번역문 세그먼트 쌍
+     */
+    public static class SegmentPair {
+        private final String source;
+        private final String target;
+
+        public SegmentPair(String source, String target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+    }
+}
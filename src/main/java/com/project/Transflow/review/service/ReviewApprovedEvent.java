@@ -0,0 +1,24 @@
+package com.project.Transflow.review.service;
+
+/**
+ * 리뷰 승인으로 문서 버전이 최종(isFinal) 버전이 되었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 번역 메모리 정렬(TranslationMemoryAligner) 등에서 사용한다.
+ */
+public class ReviewApprovedEvent {
+
+    private final Long documentId;
+    private final Long documentVersionId;
+
+    public ReviewApprovedEvent(Long documentId, Long documentVersionId) {
+        this.documentId = documentId;
+        this.documentVersionId = documentVersionId;
+    }
+
+    public Long getDocumentId() {
+        return documentId;
+    }
+
+    public Long getDocumentVersionId() {
+        return documentVersionId;
+    }
+}
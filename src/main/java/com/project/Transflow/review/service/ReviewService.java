@@ -16,6 +16,7 @@ import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +36,7 @@ public class ReviewService {
     private final DocumentRepository documentRepository;
     private final DocumentVersionRepository documentVersionRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Transactional
@@ -128,6 +130,10 @@ public class ReviewService {
         documentRepository.save(document);
 
         Review saved = reviewRepository.save(review);
+
+        // 승인된 번역을 번역 메모리에 반영 (커밋 후 백그라운드 처리)
+        eventPublisher.publishEvent(new ReviewApprovedEvent(document.getId(), version.getId()));
+
         log.info("리뷰 승인: 리뷰 ID {}", reviewId);
         return toResponse(saved);
     }
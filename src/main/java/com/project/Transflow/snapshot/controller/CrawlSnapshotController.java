@@ -0,0 +1,119 @@
+package com.project.Transflow.snapshot.controller;
+
+import com.project.Transflow.admin.util.AdminAuthUtil;
+import com.project.Transflow.snapshot.dto.CrawlSnapshotResponse;
+import com.project.Transflow.snapshot.service.CrawlSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/snapshots")
+@RequiredArgsConstructor
+@Tag(name = "크롤링 스냅샷 API", description = "크롤링한 원문 HTML/CSS 스냅샷 조회 API")
+public class CrawlSnapshotController {
+
+    private static final MediaType TEXT_CSS = MediaType.valueOf("text/css;charset=UTF-8");
+    private static final MediaType TEXT_PLAIN = MediaType.valueOf("text/plain;charset=UTF-8");
+
+    private final CrawlSnapshotService crawlSnapshotService;
+    private final AdminAuthUtil adminAuthUtil;
+
+    @Operation(summary = "스냅샷 조회", description = "스냅샷 메타데이터를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CrawlSnapshotResponse.class))),
+            @ApiResponse(responseCode = "404", description = "스냅샷을 찾을 수 없음")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<CrawlSnapshotResponse> getSnapshot(
+            @Parameter(description = "스냅샷 ID", required = true, example = "1")
+            @PathVariable Long id) {
+        return crawlSnapshotService.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "스냅샷 HTML 조회",
+            description = "크롤링 당시의 원문 HTML을 다운로드합니다. 외부 사이트의 스크립트가 포함되어 있으므로 " +
+                    "API 출처에서 렌더링되지 않도록 text/plain 첨부 파일로 반환합니다. 권한: 로그인 사용자")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "404", description = "스냅샷을 찾을 수 없음")
+    })
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/{id}/html")
+    public ResponseEntity<String> getSnapshotHtml(
+            @Parameter(hidden = true) @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @Parameter(description = "스냅샷 ID", required = true, example = "1")
+            @PathVariable Long id) {
+        if (adminAuthUtil.getUserIdFromToken(authHeader) == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return crawlSnapshotService.loadHtml(id)
+                .map(html -> ResponseEntity.ok()
+                        .contentType(TEXT_PLAIN)
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                ContentDisposition.attachment().filename("snapshot-" + id + ".html").build().toString())
+                        .header("X-Content-Type-Options", "nosniff")
+                        // 브라우저가 그래도 렌더링하는 경우를 대비해 스크립트 실행과 출처 접근 차단
+                        .header("Content-Security-Policy", "sandbox")
+                        .body(html))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "스냅샷 CSS 조회", description = "크롤링 당시의 CSS를 반환합니다. (스냅샷은 변경되지 않으므로 캐시 가능)")
+    @GetMapping("/{id}/css")
+    public ResponseEntity<String> getSnapshotCss(
+            @Parameter(description = "스냅샷 ID", required = true, example = "1")
+            @PathVariable Long id) {
+        return crawlSnapshotService.loadCss(id)
+                .map(css -> ResponseEntity.ok()
+                        .contentType(TEXT_CSS)
+                        .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS))
+                        .body(css))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "문서의 최신 스냅샷 조회", description = "문서(또는 문서 원문 URL)의 최신 스냅샷 메타데이터를 조회합니다.")
+    @GetMapping("/documents/{documentId}")
+    public ResponseEntity<CrawlSnapshotResponse> getLatestDocumentSnapshot(
+            @Parameter(description = "문서 ID", required = true, example = "1")
+            @PathVariable Long documentId) {
+        return crawlSnapshotService.findLatestByDocumentId(documentId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "문서의 최신 CSS 조회", description = "문서 화면에서 원문을 다시 크롤링하지 않고 저장된 CSS를 사용합니다.")
+    @GetMapping("/documents/{documentId}/css")
+    public ResponseEntity<String> getLatestDocumentCss(
+            @Parameter(description = "문서 ID", required = true, example = "1")
+            @PathVariable Long documentId) {
+        return crawlSnapshotService.loadLatestCssForDocument(documentId)
+                .map(css -> ResponseEntity.ok().contentType(TEXT_CSS).body(css))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
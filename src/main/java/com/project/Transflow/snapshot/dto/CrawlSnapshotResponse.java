@@ -0,0 +1,46 @@
+package com.project.Transflow.snapshot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "크롤링 스냅샷 응답")
+public class CrawlSnapshotResponse {
+
+    @Schema(description = "스냅샷 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "크롤링 URL", example = "https://example.com/article")
+    private String url;
+
+    @Schema(description = "연결된 문서 ID", example = "1")
+    private Long documentId;
+
+    @Schema(description = "HTML 해시", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String htmlHash;
+
+    @Schema(description = "CSS 조각 수", example = "4")
+    private Integer cssPartCount;
+
+    @Schema(description = "HTML 크기 (bytes)", example = "120000")
+    private Long htmlSize;
+
+    @Schema(description = "CSS 크기 (bytes)", example = "80000")
+    private Long cssSize;
+
+    @Schema(description = "크롤링 방식", example = "STATIC")
+    private String fetchMode;
+
+    @Schema(description = "생성일시", example = "2024-01-01T00:00:00")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,49 @@
+package com.project.Transflow.snapshot.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "crawl_snapshot", indexes = {
+        @Index(name = "idx_crawl_snapshot_url", columnList = "url"),
+        @Index(name = "idx_crawl_snapshot_document", columnList = "documentId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String url; // 크롤링한 URL
+
+    @Column
+    private Long documentId; // 연결된 문서 ID (URL 번역 등 문서가 없는 경우 NULL)
+
+    @Column(nullable = false, length = 64)
+    private String htmlHash; // HTML 콘텐츠 해시 (SHA-256)
+
+    @Column(columnDefinition = "TEXT")
+    private String cssHashes; // CSS 조각 해시 목록 (순서 유지, 쉼표 구분)
+
+    @Column(nullable = false)
+    private Long htmlSize; // 원본 HTML 크기 (bytes)
+
+    @Column(nullable = false)
+    private Long cssSize; // 원본 CSS 전체 크기 (bytes)
+
+    @Column(length = 20)
+    private String fetchMode; // STATIC, BROWSER
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
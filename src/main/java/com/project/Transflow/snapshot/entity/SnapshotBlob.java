@@ -0,0 +1,34 @@
+package com.project.Transflow.snapshot.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "snapshot_blob")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SnapshotBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash; // 콘텐츠 해시 (SHA-256), 파일 경로의 키
+
+    @Column(nullable = false, length = 10)
+    private String contentType; // HTML, CSS
+
+    @Column(nullable = false)
+    private Long originalSize; // 압축 전 크기 (bytes)
+
+    @Column(nullable = false)
+    private Long storedSize; // 압축 후 크기 (bytes)
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package com.project.Transflow.snapshot.repository;
+
+import com.project.Transflow.snapshot.entity.CrawlSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CrawlSnapshotRepository extends JpaRepository<CrawlSnapshot, Long> {
+    Optional<CrawlSnapshot> findFirstByDocumentIdOrderByCreatedAtDesc(Long documentId);
+    Optional<CrawlSnapshot> findFirstByUrlOrderByCreatedAtDesc(String url);
+}
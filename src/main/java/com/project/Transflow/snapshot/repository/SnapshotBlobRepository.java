@@ -0,0 +1,9 @@
+package com.project.Transflow.snapshot.repository;
+
+import com.project.Transflow.snapshot.entity.SnapshotBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SnapshotBlobRepository extends JpaRepository<SnapshotBlob, String> {
+}
@@ -0,0 +1,175 @@
+package com.project.Transflow.snapshot.service;
+
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.snapshot.dto.CrawlSnapshotResponse;
+import com.project.Transflow.snapshot.entity.CrawlSnapshot;
+import com.project.Transflow.snapshot.repository.CrawlSnapshotRepository;
+import com.project.Transflow.snapshot.repository.SnapshotBlobRepository;
+import com.project.Transflow.translate.dto.CrawlResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 크롤링한 HTML/CSS 스냅샷 저장 및 조회
+ * 콘텐츠는 SnapshotStorage(파일, 해시 키)에, 메타데이터는 DB에 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrawlSnapshotService {
+
+    private static final String TYPE_HTML = "HTML";
+    private static final String TYPE_CSS = "CSS";
+
+    // 같은 사이트를 동시에 크롤링하면 같은 CSS 조각을 함께 저장하므로, 이미 있으면 그대로 둠
+    private static final String UPSERT_BLOB_SQL =
+            "INSERT INTO snapshot_blob (hash, content_type, original_size, stored_size, created_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE stored_size = VALUES(stored_size)";
+
+    private final CrawlSnapshotRepository crawlSnapshotRepository;
+    private final SnapshotBlobRepository snapshotBlobRepository;
+    private final DocumentRepository documentRepository;
+    private final SnapshotStorage snapshotStorage;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 크롤링 결과를 스냅샷으로 저장
+     * @param documentId 연결할 문서 ID (없으면 null)
+     */
+    @Transactional
+    public CrawlSnapshotResponse saveSnapshot(CrawlResult crawlResult, Long documentId) {
+        String html = crawlResult.getHtml() != null ? crawlResult.getHtml() : "";
+        Map<String, Object[]> newBlobs = new TreeMap<>();
+        String htmlHash = storeBlob(html, TYPE_HTML, newBlobs);
+
+        List<String> cssParts = crawlResult.getCssParts();
+        if (cssParts == null) {
+            String css = crawlResult.getCss();
+            cssParts = css != null && !css.isEmpty() ? List.of(css) : List.of();
+        }
+
+        List<String> cssHashes = new ArrayList<>();
+        long cssSize = 0;
+        for (String part : cssParts) {
+            cssHashes.add(storeBlob(part, TYPE_CSS, newBlobs));
+            cssSize += part.getBytes(StandardCharsets.UTF_8).length;
+        }
+        // 해시 순서로 저장하여 같은 조각을 가진 스냅샷끼리 행 잠금 순서가 엇갈리지 않게 함
+        if (!newBlobs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_BLOB_SQL, new ArrayList<>(newBlobs.values()));
+        }
+
+        CrawlSnapshot snapshot = CrawlSnapshot.builder()
+                .url(crawlResult.getUrl())
+                .documentId(documentId)
+                .htmlHash(htmlHash)
+                .cssHashes(String.join(",", cssHashes))
+                .htmlSize((long) html.getBytes(StandardCharsets.UTF_8).length)
+                .cssSize(cssSize)
+                .fetchMode(crawlResult.getFetchMode())
+                .build();
+
+        CrawlSnapshot saved = crawlSnapshotRepository.save(snapshot);
+        log.info("크롤링 스냅샷 저장: {} (id: {}, CSS 조각 {}개)", saved.getUrl(), saved.getId(), cssHashes.size());
+        return toResponse(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CrawlSnapshotResponse> findById(Long id) {
+        return crawlSnapshotRepository.findById(id)
+                .map(this::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> loadHtml(Long snapshotId) {
+        return crawlSnapshotRepository.findById(snapshotId)
+                .map(snapshot -> snapshotStorage.read(snapshot.getHtmlHash()));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> loadCss(Long snapshotId) {
+        return crawlSnapshotRepository.findById(snapshotId)
+                .map(this::readCss);
+    }
+
+    /**
+     * 문서의 최신 스냅샷 CSS (문서에 연결된 스냅샷이 없으면 원문 URL의 최신 스냅샷)
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> loadLatestCssForDocument(Long documentId) {
+        return findLatestForDocument(documentId)
+                .map(this::readCss);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CrawlSnapshotResponse> findLatestByDocumentId(Long documentId) {
+        return findLatestForDocument(documentId)
+                .map(this::toResponse);
+    }
+
+    private Optional<CrawlSnapshot> findLatestForDocument(Long documentId) {
+        Optional<CrawlSnapshot> snapshot = crawlSnapshotRepository.findFirstByDocumentIdOrderByCreatedAtDesc(documentId);
+        if (snapshot.isPresent()) {
+            return snapshot;
+        }
+        return documentRepository.findById(documentId)
+                .map(Document::getOriginalUrl)
+                .flatMap(crawlSnapshotRepository::findFirstByUrlOrderByCreatedAtDesc);
+    }
+
+    /**
+     * 콘텐츠를 파일로 저장하고, 아직 DB에 없는 blob 행은 newBlobs에 모음 (저장은 saveSnapshot에서 한 번에)
+     */
+    private String storeBlob(String content, String contentType, Map<String, Object[]> newBlobs) {
+        String hash = SnapshotStorage.hash(content);
+        if (newBlobs.containsKey(hash) || (snapshotBlobRepository.existsById(hash) && snapshotStorage.exists(hash))) {
+            return hash;
+        }
+
+        long storedSize = snapshotStorage.write(hash, content);
+        newBlobs.put(hash, new Object[]{hash, contentType, (long) content.getBytes(StandardCharsets.UTF_8).length,
+                storedSize, Timestamp.valueOf(LocalDateTime.now())});
+        return hash;
+    }
+
+    private String readCss(CrawlSnapshot snapshot) {
+        if (snapshot.getCssHashes() == null || snapshot.getCssHashes().isEmpty()) {
+            return "";
+        }
+        StringBuilder css = new StringBuilder();
+        for (String hash : snapshot.getCssHashes().split(",")) {
+            css.append(snapshotStorage.read(hash));
+        }
+        return css.toString();
+    }
+
+    private CrawlSnapshotResponse toResponse(CrawlSnapshot snapshot) {
+        int cssPartCount = snapshot.getCssHashes() == null || snapshot.getCssHashes().isEmpty()
+                ? 0 : snapshot.getCssHashes().split(",").length;
+        return CrawlSnapshotResponse.builder()
+                .id(snapshot.getId())
+                .url(snapshot.getUrl())
+                .documentId(snapshot.getDocumentId())
+                .htmlHash(snapshot.getHtmlHash())
+                .cssPartCount(cssPartCount)
+                .htmlSize(snapshot.getHtmlSize())
+                .cssSize(snapshot.getCssSize())
+                .fetchMode(snapshot.getFetchMode())
+                .createdAt(snapshot.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.Transflow.snapshot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 콘텐츠 주소 기반(content-addressed) 로컬 파일 저장소
+ * 콘텐츠의 SHA-256 해시를 키로 gzip 압축하여 {root}/{해시 앞 2자리}/{해시}.gz 에 저장한다.
+ * 같은 콘텐츠는 같은 경로가 되므로 한 번만 저장된다.
+ */
+@Slf4j
+@Component
+public class SnapshotStorage {
+
+    private final Path root;
+
+    public SnapshotStorage(@Value("${snapshot.storage.dir:./data/snapshots}") String rootDir) {
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        log.info("스냅샷 저장 경로: {}", this.root);
+    }
+
+    /**
+     * UTF-8 문자열의 SHA-256 해시 (소문자 16진수)
+     * 스냅샷 키 외에 번역 메모리, 번역 체크포인트, 크롤링 아카이브, 에셋 캐시의 키에도 같은 함수를 사용한다.
+     */
+    public static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hashed.length * 2);
+            for (byte b : hashed) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public boolean exists(String hash) {
+        return Files.exists(pathOf(hash));
+    }
+
+    /**
+     * 콘텐츠를 압축하여 저장 (이미 있으면 건너뜀)
+     * @return 저장된 파일 크기 (bytes)
+     */
+    public long write(String hash, String content) {
+        Path target = pathOf(hash);
+        try {
+            if (Files.exists(target)) {
+                return Files.size(target);
+            }
+            Files.createDirectories(target.getParent());
+
+            // 임시 파일에 쓴 뒤 이동하여 동시에 같은 콘텐츠를 저장해도 깨진 파일이 남지 않도록 함
+            Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                out.write(content.getBytes(StandardCharsets.UTF_8));
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 저장 실패: " + hash, e);
+        }
+    }
+
+    public String read(String hash) {
+        Path source = pathOf(hash);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(source))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 읽기 실패: " + hash, e);
+        }
+    }
+
+    private Path pathOf(String hash) {
+        if (!hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("잘못된 스냅샷 해시입니다: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash + ".gz");
+    }
+}
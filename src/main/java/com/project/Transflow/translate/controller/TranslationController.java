@@ -1,15 +1,33 @@
 package com.project.Transflow.translate.controller;
 
 
+import com.project.Transflow.admin.util.AdminAuthUtil;
+import com.project.Transflow.checkpoint.dto.TranslationJobResponse;
+import com.project.Transflow.checkpoint.service.TranslationCheckpointService;
 import com.project.Transflow.translate.dto.HtmlTranslationRequest;
+import com.project.Transflow.translate.dto.StreamingTranslationResult;
+import com.project.Transflow.translate.dto.TranslationEstimateRequest;
+import com.project.Transflow.translate.dto.TranslationEstimateResponse;
 import com.project.Transflow.translate.dto.TranslationRequest;
 import com.project.Transflow.translate.dto.TranslationResponse;
 import com.project.Transflow.translate.service.TransflowService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/translate")
@@ -17,6 +35,8 @@ import org.springframework.web.bind.annotation.*;
 public class TranslationController {
 
     private final TransflowService transflowService;
+    private final AdminAuthUtil adminAuthUtil;
+    private final TranslationCheckpointService translationCheckpointService;
 
     @PostMapping("/webpage")
     public ResponseEntity<TranslationResponse> translateWebPage(@RequestBody TranslationRequest request) {
@@ -43,6 +63,75 @@ public class TranslationController {
         }
     }
 
+    /**
+     * 대용량 HTML 스트리밍 번역
+     * 요청 본문(text/html)을 읽으면서 번역하고 번역된 HTML을 바로 응답으로 내보낸다.
+     * 출력이 시작된 뒤에는 상태 코드를 바꿀 수 없으므로 오류는 로그로만 남는다.
+     */
+    @PostMapping(value = "/html/stream", consumes = MediaType.TEXT_HTML_VALUE)
+    public void translateHtmlStream(@RequestParam String targetLang,
+                                    @RequestParam(required = false) String sourceLang,
+                                    HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        log.info("HTML 스트리밍 번역 요청 - Target: {}, 본문 길이: {}", targetLang, request.getContentLengthLong());
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+        response.setContentType("text/html;charset=UTF-8");
+
+        try (Reader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), charset))) {
+            StreamingTranslationResult result = transflowService.translateHtmlStream(
+                    reader, response.getWriter(), targetLang, sourceLang);
+            if (result.isPartial()) {
+                log.warn("HTML 스트리밍 번역 부분 완료 - 원문 유지 {}개", result.getUntranslatedCount());
+            }
+        } catch (IllegalArgumentException e) {
+            if (!response.isCommitted()) {
+                response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.error("HTML 스트리밍 번역 실패", e);
+            if (!response.isCommitted()) {
+                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "HTML 번역 중 오류가 발생했습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 번역 전 비용 추정 (DeepL 호출 없음, 관리자 전용 - URL 추정은 크롤링을 실행함)
+     */
+    @PostMapping("/estimate")
+    public ResponseEntity<?> estimate(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                      @RequestBody TranslationEstimateRequest request) {
+        if (!adminAuthUtil.isAdminOrAbove(authHeader)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        log.info("번역 비용 추정 요청 - 문서 ID: {}, URL: {}", request.getDocumentId(), request.getUrl());
+        try {
+            TranslationEstimateResponse response = transflowService.estimate(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            log.error("번역 비용 추정 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("error", "번역 비용 추정 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 번역 작업의 진행 상황과 번역된 문맥 그룹 조회 (재시도 대기로 남았던 그룹의 번역 결과 확인용, 로그인 필요)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<TranslationJobResponse> getJob(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @PathVariable Long jobId) {
+        if (adminAuthUtil.getUserIdFromToken(authHeader) == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return translationCheckpointService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Translation service is running!");
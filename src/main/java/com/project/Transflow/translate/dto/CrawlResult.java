@@ -0,0 +1,49 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤링 결과 (HTML, CSS와 크롤링 과정 정보)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlResult {
+
+    public static final String FETCH_MODE_STATIC = "STATIC";
+    public static final String FETCH_MODE_BROWSER = "BROWSER";
+
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+    public static final String OUTCOME_CHALLENGE_DETECTED = "CHALLENGE_DETECTED";
+    public static final String OUTCOME_TIMEOUT = "TIMEOUT";
+    public static final String OUTCOME_PARTIAL_CONTENT = "PARTIAL_CONTENT";
+    public static final String OUTCOME_FAILED = "FAILED";
+
+    private String url;
+    private String finalUrl; // 리다이렉트를 따라간 최종 URL (상대 경로 해석 기준)
+    private String html;
+    private String css;
+    private List<String> cssParts; // CSS 조각 (style 태그 / 외부 스타일시트 단위, 합치면 css)
+
+    private String fetchMode; // STATIC, BROWSER
+    private String outcome; // SUCCESS, CHALLENGE_DETECTED, TIMEOUT, PARTIAL_CONTENT
+    private Map<String, Long> phaseTimings; // 단계별 소요 시간 (ms)
+
+    /**
+     * 기존 Map 형식 ("html", "css")으로 변환 (하위 호환성)
+     */
+    public Map<String, String> toMap() {
+        Map<String, String> result = new HashMap<>();
+        result.put("html", html);
+        result.put("css", css);
+        return result;
+    }
+}
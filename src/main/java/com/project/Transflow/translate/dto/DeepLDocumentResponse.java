@@ -0,0 +1,12 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.Data;
+
+/**
+ * DeepL 문서 번역 업로드 응답 (POST /v2/document)
+ */
+@Data
+public class DeepLDocumentResponse {
+    private String document_id;
+    private String document_key;
+}
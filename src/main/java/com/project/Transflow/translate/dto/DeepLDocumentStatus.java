@@ -0,0 +1,23 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.Data;
+
+/**
+ * DeepL 문서 번역 상태 응답 (POST /v2/document/{document_id})
+ */
+@Data
+public class DeepLDocumentStatus {
+    private String document_id;
+    private String status; // queued, translating, done, error
+    private Integer seconds_remaining;
+    private Integer billed_characters;
+    private String error_message;
+
+    public boolean isDone() {
+        return "done".equalsIgnoreCase(status);
+    }
+
+    public boolean isError() {
+        return "error".equalsIgnoreCase(status);
+    }
+}
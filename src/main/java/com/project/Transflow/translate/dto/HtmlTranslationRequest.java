@@ -7,5 +7,7 @@ public class HtmlTranslationRequest {
     private String html;
     private String targetLang;
     private String sourceLang;
+    private String sourceUrl; // 원본 페이지 URL (선택사항, 사이트 템플릿 번역 캐시에 사용)
+    private Boolean mainContentOnly; // true이면 본문 영역만 번역 (선택사항, 기본 false)
 }
 
@@ -0,0 +1,37 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * HTML 번역 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HtmlTranslationResult {
+    private String html;
+
+    /**
+     * 마감 시각 초과로 일부 텍스트가 원문으로 남았는지 여부
+     */
+    private boolean partial;
+
+    /**
+     * 마감 시각 초과로 번역하지 못한 텍스트 노드 수
+     */
+    private int untranslatedCount;
+
+    /**
+     * 번역에 실패해 재시도 대기 중인 텍스트 노드 수 (HTML에서는 부모 요소에 data-transflow-pending 속성으로 표시)
+     */
+    private int pendingCount;
+
+    /**
+     * 번역 체크포인트 작업 ID (재시도 결과는 GET /api/translate/jobs/{jobId}로 조회, 체크포인트가 없으면 null)
+     */
+    private Long jobId;
+}
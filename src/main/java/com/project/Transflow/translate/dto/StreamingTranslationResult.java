@@ -0,0 +1,51 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 HTML 번역 결과 요약 (번역된 HTML은 Writer로 바로 출력되므로 포함하지 않음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamingTranslationResult {
+
+    /**
+     * 번역 대상 텍스트 조각 수
+     */
+    private int segmentCount;
+
+    /**
+     * 문맥 그룹 수
+     */
+    private int groupCount;
+
+    /**
+     * 번역기로 보낸 창(배치) 수
+     */
+    private int windowCount;
+
+    /**
+     * 번역 메모리에서 재사용한 문맥 그룹 수
+     */
+    private int memoryHitGroups;
+
+    /**
+     * 이미 대상 언어라 번역하지 않은 문맥 그룹 수
+     */
+    private int targetLanguageGroups;
+
+    /**
+     * 마감 시각 초과 또는 번역 실패로 원문으로 남은 텍스트 조각 수
+     */
+    private int untranslatedCount;
+
+    /**
+     * 일부 텍스트가 원문으로 남았는지 여부
+     */
+    private boolean partial;
+}
@@ -0,0 +1,12 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.Data;
+
+@Data
+public class TranslationEstimateRequest {
+    private Long documentId; // 저장된 문서의 원문(ORIGINAL) 버전으로 추정 (documentId 또는 url 중 하나 필수)
+    private String url; // 크롤링할 URL로 추정
+    private String targetLang; // 대상 언어 (캐시/번역 메모리 적중 여부 확인에 사용)
+    private String sourceLang;
+    private Boolean mainContentOnly; // true이면 본문 영역만 번역하는 경우로 추정 (선택사항, 기본 false)
+}
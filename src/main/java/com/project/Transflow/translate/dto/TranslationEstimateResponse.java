@@ -0,0 +1,35 @@
+package com.project.Transflow.translate.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationEstimateResponse {
+    private Long documentId;
+    private String url;
+    private String targetLang;
+
+    // 세그먼트 (수집 단계 결과)
+    private int segmentCount; // 번역 가능한 텍스트 노드 수
+    private int groupCount; // 문맥 그룹 수 (그룹 하나가 번역 호출 하나)
+    private int templateCachedSegments; // 사이트 템플릿 캐시로 처리되는 텍스트 노드 수
+    private int memoryCachedGroups; // 번역 메모리로 처리되는 문맥 그룹 수
+    private int skippedSegments; // 본문만 번역 시 원문으로 두는 텍스트 노드 수
+    private int targetLanguageGroups; // 이미 대상 언어로 쓰여 번역하지 않는 문맥 그룹 수
+    private String detectedSourceLang; // 로컬 감지한 페이지 언어
+
+    // 문자 수
+    private long totalCharacters; // 번역 가능한 전체 문자 수
+    private long charactersToTranslate; // 캐시를 제외하고 DeepL로 보낼 문자 수
+    private long uniqueCharacters; // 그중 중복 문단을 제외한 문자 수
+
+    // 예상 비용
+    private boolean documentMode; // 문서 번역 API 사용 여부 (대용량 페이지)
+    private int estimatedProviderCalls; // 예상 DeepL 호출 수
+    private long estimatedSeconds; // 예상 소요 시간 (초)
+}
@@ -0,0 +1,36 @@
+package com.project.Transflow.translate.dto;
+
+import com.project.Transflow.translate.service.Deadline;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * HTML 번역 옵션 (요청마다 선택)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranslationOptions {
+
+    /**
+     * true이면 본문(main content) 영역만 번역하고 내비게이션, 푸터, 사이드바 등은 원문 유지
+     */
+    private boolean mainContentOnly;
+
+    /**
+     * 원본 페이지 URL (호스트별 사이트 템플릿 번역 캐시에 사용, 없으면 캐시 미사용)
+     */
+    private String sourceUrl;
+
+    /**
+     * 요청 마감 시각 (없으면 마감 없음). 지나면 남은 텍스트는 원문으로 두고 부분 결과를 반환
+     */
+    private Deadline deadline;
+
+    public static TranslationOptions defaults() {
+        return new TranslationOptions();
+    }
+}
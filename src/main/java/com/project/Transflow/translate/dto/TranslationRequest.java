@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TranslationRequest {
     private String url;
     private String targetLang; // EN, KO, JA 등
+    private List<String> targetLangs; // 여러 언어로 번역할 때 (선택사항, 있으면 targetLang 대신 사용)
     private String sourceLang; // 선택사항 (auto-detect 가능)
+    private Boolean mainContentOnly; // true이면 본문 영역만 번역 (선택사항, 기본 false)
 }
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,9 +22,19 @@ public class TranslationResponse {
     private String originalHtml;
     private String translatedHtml;
     private String css; // CSS 스타일시트
+    private Map<String, String> translatedHtmls; // 다국어 번역 시 언어별 번역 HTML (translatedHtml은 첫 번째 언어)
     
+    // 크롤링 과정 정보 (URL 번역 시)
+    private String fetchMode; // STATIC, BROWSER
+    private String crawlOutcome; // SUCCESS, CHALLENGE_DETECTED, TIMEOUT, PARTIAL_CONTENT
+    private Map<String, Long> crawlTimings; // 단계별 소요 시간 (ms)
+    private Long snapshotId; // 저장된 크롤링 스냅샷 ID (CSS는 /api/snapshots/{id}/css)
+
     private String sourceLang;
     private String targetLang;
+    private boolean partial; // 마감 시각 초과로 크롤링/번역 일부만 반영된 결과인지 여부
+    private Long jobId; // 번역 체크포인트 작업 ID (재시도 결과는 GET /api/translate/jobs/{jobId}, 첫 번째 언어)
+    private Map<String, Long> jobIds; // 다국어 번역 시 언어별 작업 ID
     private boolean success;
     private String errorMessage;
 }
@@ -0,0 +1,43 @@
+package com.project.Transflow.translate.health;
+
+import com.project.Transflow.translate.service.CrawlScheduler;
+import com.project.Transflow.translate.service.PlaywrightInitializer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브라우저 크롤러 가용성 (/actuator/health/crawler)
+ * 애플리케이션 readiness와는 분리되어, 크롤러 준비 전에도 나머지 API는 트래픽을 받는다.
+ */
+@Component("crawler")
+@RequiredArgsConstructor
+public class CrawlerHealthIndicator implements HealthIndicator {
+
+    private final PlaywrightInitializer playwrightInitializer;
+    private final CrawlScheduler crawlScheduler;
+
+    @Override
+    public Health health() {
+        PlaywrightInitializer.State state = playwrightInitializer.getState();
+        Health.Builder builder;
+        switch (state) {
+            case READY:
+                builder = Health.up();
+                break;
+            case FAILED:
+                builder = Health.down()
+                        .withDetail("error", String.valueOf(playwrightInitializer.getFailureMessage()));
+                break;
+            default:
+                // 초기화 중: 정적 크롤링은 가능하므로 DOWN이 아닌 UNKNOWN으로 표시
+                builder = Health.unknown();
+                break;
+        }
+        return builder
+                .withDetail("state", state.name())
+                .withDetail("queueDepth", crawlScheduler.getQueueDepth())
+                .build();
+    }
+}
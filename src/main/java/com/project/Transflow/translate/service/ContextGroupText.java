@@ -0,0 +1,72 @@
+package com.project.Transflow.translate.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 문맥 그룹(같은 문단/제목/셀의 텍스트 조각들)을 하나의 문장으로 합치고,
+ * 번역 결과를 원본 조각 길이의 비율대로 다시 나누는 규칙
+ * DOM 기반 번역과 스트리밍 번역이 같은 규칙을 사용한다.
+ */
+final class ContextGroupText {
+
+    private ContextGroupText() {
+    }
+
+    /**
+     * 텍스트 조각들을 하나의 문장/문단으로 합침
+     */
+    static String combine(List<String> texts) {
+        StringBuilder combinedText = new StringBuilder();
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+
+            // 텍스트 사이에 공백 추가 (단, 이미 공백으로 시작/끝나면 제외)
+            if (i > 0 && !text.startsWith(" ") && (combinedText.length() == 0
+                    || combinedText.charAt(combinedText.length() - 1) != ' ')) {
+                combinedText.append(" ");
+            }
+            combinedText.append(text);
+        }
+        return combinedText.toString().trim();
+    }
+
+    /**
+     * 번역된 텍스트를 원본 조각 길이의 비율에 따라 나눔
+     *
+     * @return 조각 순서의 번역 텍스트, 원문이 비어 있으면 null
+     */
+    static List<String> distribute(List<String> originalTexts, String originalFullText, String translatedFullText) {
+        List<String> result = new ArrayList<>(originalTexts.size());
+        if (originalTexts.size() == 1) {
+            // 조각이 하나면 그대로 적용
+            result.add(translatedFullText.trim());
+            return result;
+        }
+
+        int totalLength = originalFullText.length();
+        if (totalLength == 0) {
+            return null;
+        }
+
+        int translatedLength = translatedFullText.length();
+        int currentPos = 0;
+        for (int i = 0; i < originalTexts.size(); i++) {
+            double ratio = (double) originalTexts.get(i).length() / totalLength;
+            int segmentLength = (int) (translatedLength * ratio);
+
+            // 마지막 조각은 남은 모든 텍스트 사용
+            if (i == originalTexts.size() - 1) {
+                String remainingText = translatedFullText.substring(currentPos).trim();
+                result.add(remainingText.isEmpty() ? translatedFullText.substring(currentPos) : remainingText);
+            } else {
+                int endPos = Math.min(currentPos + segmentLength, translatedLength);
+                String segmentText = translatedFullText.substring(currentPos, endPos).trim();
+                // 빈 텍스트가 되면 공백 하나만 유지
+                result.add(segmentText.isEmpty() ? " " : segmentText);
+                currentPos = endPos;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.Transflow.translate.service;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 번역할 텍스트 노드 선택과 문맥 그룹 분할 규칙
+ * DOM 기반 번역과 번역 메모리 정렬이 같은 규칙을 사용하여, 메모리에 저장한 원문과 번역 시 조회하는 원문이 일치하도록 한다.
+ */
+public final class ContextSegmenter {
+
+    // 번역하지 않아야 할 태그들
+    private static final Set<String> SKIP_TAGS = Set.of("script", "style", "noscript", "code", "pre");
+
+    // 문맥 단위로 간주할 태그들 (같은 요소 안의 연속된 텍스트를 한 그룹으로 번역)
+    private static final Set<String> CONTEXT_TAGS = Set.of(
+            "p", "h1", "h2", "h3", "h4", "h5", "h6", "li", "td", "th", "blockquote",
+            "article", "section", "div", "span");
+
+    // 문장 경계 (마침표/물음표/느낌표 뒤 공백)
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?。！？])\\s+");
+
+    private ContextSegmenter() {
+    }
+
+    /**
+     * 문서의 번역 대상 텍스트 노드를 문맥 그룹으로 나눔 (문서 순서)
+     */
+    public static List<List<TextNode>> segment(Element root) {
+        List<TextNode> texts = new ArrayList<>();
+        NodeTraversor.traverse(new NodeVisitor() {
+            @Override
+            public void head(Node node, int depth) {
+                if (node instanceof TextNode && isTranslatable((TextNode) node)) {
+                    texts.add((TextNode) node);
+                }
+            }
+
+            @Override
+            public void tail(Node node, int depth) {
+                // 필요 없음
+            }
+        }, root);
+
+        List<List<TextNode>> groups = new ArrayList<>();
+        List<TextNode> currentGroup = new ArrayList<>();
+        Element lastParent = null;
+        for (TextNode textNode : texts) {
+            Element currentParent = contextParent(textNode);
+            // 부모가 변경되면 새 그룹 시작
+            if (lastParent != null && !lastParent.equals(currentParent) && !currentGroup.isEmpty()) {
+                groups.add(currentGroup);
+                currentGroup = new ArrayList<>();
+            }
+            currentGroup.add(textNode);
+            lastParent = currentParent;
+        }
+        if (!currentGroup.isEmpty()) {
+            groups.add(currentGroup);
+        }
+        return groups;
+    }
+
+    /**
+     * 문맥 그룹의 텍스트를 번역 요청/번역 메모리 조회에 쓰는 하나의 문장으로 합침
+     */
+    public static String combine(List<TextNode> group) {
+        List<String> texts = new ArrayList<>(group.size());
+        for (TextNode textNode : group) {
+            texts.add(textNode.text().trim());
+        }
+        return ContextGroupText.combine(texts);
+    }
+
+    /**
+     * 문맥 그룹 텍스트를 문장 단위로 나눔 (문장이 하나면 원문 그대로 한 개)
+     */
+    public static String[] splitSentences(String text) {
+        return SENTENCE_BOUNDARY.split(text);
+    }
+
+    /**
+     * 번역 대상 텍스트 노드인지 (공백/한 글자, 코드/스크립트 안의 텍스트, URL/숫자만 있는 텍스트 제외)
+     */
+    static boolean isTranslatable(TextNode textNode) {
+        String text = textNode.text().trim();
+        if (text.length() < 2) {
+            return false;
+        }
+        Node parentNode = textNode.parent();
+        if (parentNode instanceof Element && SKIP_TAGS.contains(((Element) parentNode).tagName().toLowerCase())) {
+            return false;
+        }
+        return !TextSkipClassifier.shouldSkip(text);
+    }
+
+    /**
+     * 텍스트 노드가 속한 문맥 단위 요소 (문단, 제목, 리스트 항목 등, 없으면 null)
+     */
+    public static Element contextParent(TextNode textNode) {
+        Node parentNode = textNode.parent();
+        Element current = parentNode instanceof Element ? (Element) parentNode : null;
+        while (current != null) {
+            if (CONTEXT_TAGS.contains(current.tagName().toLowerCase())) {
+                return current;
+            }
+            current = current.parent();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,188 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.snapshot.service.SnapshotStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 크롤링 네트워크 응답 기록/재생 아카이브
+ * - record: 크롤링 중 받은 모든 GET 응답(문서, 스크립트, CSS 등)을 로컬 디렉터리에 저장
+ * - replay: 네트워크 대신 아카이브에서 응답을 제공 (없는 요청은 404), 오프라인에서 같은 결과를 재현
+ * - off: 사용하지 않음 (기본값)
+ *
+ * 저장 형식: {dir}/{키 앞 2자리}/{키}.properties (URL, 상태 코드, 헤더) + {키}.body (응답 본문)
+ * 키는 정규화된 URL(fragment 제외)의 SHA-256 해시이다.
+ */
+@Slf4j
+@Component
+public class CrawlArchive {
+
+    public enum Mode { OFF, RECORD, REPLAY }
+
+    private static final String HEADER_PREFIX = "header.";
+
+    private final Mode mode;
+    private final Path root;
+
+    public CrawlArchive(
+            @Value("${crawler.archive.mode:off}") String mode,
+            @Value("${crawler.archive.dir:./data/crawl-archive}") String rootDir) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        if (this.mode != Mode.OFF) {
+            log.info("크롤링 아카이브 모드: {} (경로: {})", this.mode, this.root);
+        }
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isRecording() {
+        return mode == Mode.RECORD;
+    }
+
+    public boolean isReplaying() {
+        return mode == Mode.REPLAY;
+    }
+
+    /**
+     * 응답 저장 (record 모드에서만 동작, 실패해도 크롤링은 계속)
+     */
+    public void record(String url, ArchivedResponse response) {
+        if (!isRecording() || url == null) {
+            return;
+        }
+        String key = key(url);
+        Path meta = pathOf(key, ".properties");
+        Path body = pathOf(key, ".body");
+        try {
+            Files.createDirectories(meta.getParent());
+
+            Properties properties = new Properties();
+            properties.setProperty("url", url);
+            properties.setProperty("finalUrl", response.getFinalUrl() != null ? response.getFinalUrl() : url);
+            properties.setProperty("status", String.valueOf(response.getStatus()));
+            for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+                properties.setProperty(HEADER_PREFIX + header.getKey().toLowerCase(Locale.ROOT), header.getValue());
+            }
+
+            // 본문 -> 메타데이터 순으로 이동하여 메타데이터가 있으면 본문도 있도록 보장
+            Path tempBody = Files.createTempFile(meta.getParent(), key, ".tmp");
+            Files.write(tempBody, response.getBody() != null ? response.getBody() : new byte[0]);
+            Files.move(tempBody, body, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            Path tempMeta = Files.createTempFile(meta.getParent(), key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempMeta)) {
+                properties.store(out, null);
+            }
+            Files.move(tempMeta, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("아카이브 기록: {} ({})", url, response.getStatus());
+        } catch (IOException e) {
+            log.warn("아카이브 기록 실패: {} - {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * 아카이브에서 응답 조회
+     * @return 저장된 응답, 없으면 null
+     */
+    public ArchivedResponse find(String url) {
+        if (url == null) {
+            return null;
+        }
+        String key = key(url);
+        Path meta = pathOf(key, ".properties");
+        if (!Files.exists(meta)) {
+            return null;
+        }
+        try {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(meta)) {
+                properties.load(in);
+            }
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith(HEADER_PREFIX)) {
+                    headers.put(name.substring(HEADER_PREFIX.length()), properties.getProperty(name));
+                }
+            }
+            return new ArchivedResponse(
+                    Integer.parseInt(properties.getProperty("status", "200")),
+                    properties.getProperty("finalUrl", url),
+                    headers,
+                    Files.readAllBytes(pathOf(key, ".body")));
+        } catch (IOException | RuntimeException e) {
+            log.warn("아카이브 읽기 실패: {} - {}", url, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path pathOf(String key, String extension) {
+        return root.resolve(key.substring(0, 2)).resolve(key + extension);
+    }
+
+    private String key(String url) {
+        String normalized = url.trim();
+        int fragment = normalized.indexOf('#');
+        if (fragment >= 0) {
+            normalized = normalized.substring(0, fragment);
+        }
+        return SnapshotStorage.hash(normalized);
+    }
+
+    /**
+     * 아카이브에 저장되는 응답
+     */
+    public static class ArchivedResponse {
+        private final int status;
+        private final String finalUrl;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        public ArchivedResponse(int status, String finalUrl, Map<String, String> headers, byte[] body) {
+            this.status = status;
+            this.finalUrl = finalUrl;
+            this.headers = headers != null ? headers : new LinkedHashMap<>();
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getFinalUrl() {
+            return finalUrl;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getContentType() {
+            return headers.get("content-type");
+        }
+
+        public String getBodyAsString() {
+            return body != null ? new String(body, StandardCharsets.UTF_8) : "";
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.Transflow.translate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 크롤링 단계별 시간과 결과를 Micrometer 메트릭으로 기록
+ * - crawler.phase.duration (tags: phase, mode)
+ * - crawler.outcome (tags: outcome, mode)
+ */
+@Component
+@RequiredArgsConstructor
+public class CrawlMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String fetchMode, String outcome, CrawlTimer timer) {
+        String mode = fetchMode != null ? fetchMode : "UNKNOWN";
+        for (Map.Entry<String, Long> phase : timer.getPhases().entrySet()) {
+            Timer.builder("crawler.phase.duration")
+                    .description("크롤링 단계별 소요 시간")
+                    .tag("phase", phase.getKey())
+                    .tag("mode", mode)
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(phase.getValue()));
+        }
+        Counter.builder("crawler.outcome")
+                .description("크롤링 결과")
+                .tag("outcome", outcome)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .increment();
+    }
+}
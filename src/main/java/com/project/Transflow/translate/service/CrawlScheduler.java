@@ -0,0 +1,251 @@
+package com.project.Transflow.translate.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링 동시 실행 스케줄러
+ * - 전체 동시 크롤링 수 제한 (Chromium 인스턴스 폭증 방지)
+ * - 호스트별 동시 크롤링 수와 최소 요청 간격 (Cloudflare 차단 방지)
+ * - 대기열 크기 제한 및 대기 타임아웃
+ * 호스트별 슬롯은 사용 중인 요청이 없고 요청 간격도 지난 뒤 주기적으로 정리한다.
+ */
+@Slf4j
+@Component
+public class CrawlScheduler {
+
+    // 사용하지 않는 호스트 슬롯 정리 주기
+    private static final long IDLE_SLOT_SWEEP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Semaphore globalPermits;
+    private final int maxConcurrentPerHost;
+    private final long minHostDelayMillis;
+    private final int maxQueueSize;
+    private final long queueTimeoutMillis;
+
+    private final AtomicInteger waitingCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final ConcurrentHashMap<String, HostSlot> hostSlots = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+
+    public CrawlScheduler(
+            @Value("${crawler.scheduler.max-concurrent:3}") int maxConcurrent,
+            @Value("${crawler.scheduler.max-concurrent-per-host:1}") int maxConcurrentPerHost,
+            @Value("${crawler.scheduler.min-host-delay-ms:2000}") long minHostDelayMillis,
+            @Value("${crawler.scheduler.max-queue-size:50}") int maxQueueSize,
+            @Value("${crawler.scheduler.queue-timeout-ms:120000}") long queueTimeoutMillis,
+            MeterRegistry meterRegistry) {
+        this.globalPermits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+        this.minHostDelayMillis = minHostDelayMillis;
+        this.maxQueueSize = maxQueueSize;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+
+        Gauge.builder("crawler.queue.depth", waitingCount, AtomicInteger::get)
+                .description("크롤링 대기열에서 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("crawler.active", activeCount, AtomicInteger::get)
+                .description("현재 실행 중인 크롤링 수")
+                .register(meterRegistry);
+        Gauge.builder("crawler.hosts.tracked", hostSlots, ConcurrentHashMap::size)
+                .description("요청 간격을 추적 중인 호스트 수")
+                .register(meterRegistry);
+
+        log.info("크롤링 스케줄러 설정 - 전체 동시: {}, 호스트별 동시: {}, 호스트 간격: {}ms, 대기열: {}, 대기 타임아웃: {}ms",
+                maxConcurrent, maxConcurrentPerHost, minHostDelayMillis, maxQueueSize, queueTimeoutMillis);
+    }
+
+    /**
+     * 스케줄러의 제한을 지키면서 크롤링 작업을 실행
+     *
+     * @param url 크롤링 대상 URL (호스트별 제한에 사용)
+     * @param task 실제 크롤링 작업
+     * @return 작업 결과
+     * @throws IllegalStateException 대기열이 가득 찼거나 대기 시간이 초과된 경우
+     */
+    public <T> T execute(String url, Supplier<T> task) {
+        return execute(url, queueTimeoutMillis, task);
+    }
+
+    /**
+     * 최대 대기 시간을 지정하여 크롤링 작업을 실행 (요청 마감 시각까지 남은 시간 등)
+     * 실제 대기 시간은 설정된 대기 타임아웃과 maxWaitMillis 중 작은 값이다.
+     */
+    public <T> T execute(String url, long maxWaitMillis, Supplier<T> task) {
+        if (waitingCount.incrementAndGet() > maxQueueSize) {
+            waitingCount.decrementAndGet();
+            log.warn("크롤링 대기열이 가득 찼습니다 ({}개). 요청 거부: {}", maxQueueSize, url);
+            throw new IllegalStateException("크롤링 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        evictIdleSlots();
+        String host = extractHost(url);
+        HostSlot slot = acquireSlot(host);
+        try {
+            return execute(url, host, slot, maxWaitMillis, task);
+        } finally {
+            releaseSlot(host);
+        }
+    }
+
+    private <T> T execute(String url, String host, HostSlot slot, long maxWaitMillis, Supplier<T> task) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(queueTimeoutMillis, maxWaitMillis));
+
+        boolean hostAcquired = false;
+        boolean globalAcquired = false;
+        try {
+            // 1. 호스트 슬롯 확보 -> 2. 호스트 최소 간격 대기 -> 3. 전체 슬롯 확보
+            // 호스트 대기 중에는 전체 슬롯을 점유하지 않도록 순서를 유지
+            hostAcquired = slot.permits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            if (!hostAcquired) {
+                throw timeout(url);
+            }
+
+            long waitMillis = slot.reserveStart(minHostDelayMillis);
+            if (waitMillis > 0) {
+                if (TimeUnit.MILLISECONDS.toNanos(waitMillis) > remainingNanos(deadline)) {
+                    throw timeout(url);
+                }
+                log.debug("호스트 요청 간격 대기: {} ({}ms)", host, waitMillis);
+                Thread.sleep(waitMillis);
+            }
+
+            globalAcquired = globalPermits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            if (!globalAcquired) {
+                throw timeout(url);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseAll(slot, hostAcquired, globalAcquired);
+            waitingCount.decrementAndGet();
+            throw new IllegalStateException("크롤링 대기 중 인터럽트 발생", e);
+        } catch (RuntimeException e) {
+            releaseAll(slot, hostAcquired, globalAcquired);
+            waitingCount.decrementAndGet();
+            throw e;
+        }
+
+        waitingCount.decrementAndGet();
+        activeCount.incrementAndGet();
+        try {
+            return task.get();
+        } finally {
+            activeCount.decrementAndGet();
+            releaseAll(slot, true, true);
+        }
+    }
+
+    /**
+     * 현재 대기열 크기
+     */
+    public int getQueueDepth() {
+        return waitingCount.get();
+    }
+
+    /**
+     * 호스트 슬롯을 가져오고 사용 중인 요청 수를 늘림 (정리 대상에서 제외)
+     */
+    private HostSlot acquireSlot(String host) {
+        return hostSlots.compute(host, (h, slot) -> {
+            HostSlot acquired = slot != null ? slot : new HostSlot(maxConcurrentPerHost);
+            acquired.users++;
+            return acquired;
+        });
+    }
+
+    private void releaseSlot(String host) {
+        hostSlots.computeIfPresent(host, (h, slot) -> {
+            slot.users--;
+            return slot;
+        });
+    }
+
+    /**
+     * 사용 중인 요청이 없고 다음 요청 가능 시각이 지난 호스트 슬롯 제거 (1분에 한 번)
+     * 정리된 호스트에 다시 요청하면 새 슬롯이 만들어지며, 요청 간격은 이미 지났으므로 제한이 느슨해지지 않는다.
+     */
+    private void evictIdleSlots() {
+        long now = System.currentTimeMillis();
+        long last = lastSweepMillis.get();
+        if (now - last < IDLE_SLOT_SWEEP_INTERVAL_MILLIS || !lastSweepMillis.compareAndSet(last, now)) {
+            return;
+        }
+        int before = hostSlots.size();
+        for (String host : hostSlots.keySet()) {
+            hostSlots.computeIfPresent(host, (h, slot) -> slot.isIdle(now) ? null : slot);
+        }
+        int removed = before - hostSlots.size();
+        if (removed > 0) {
+            log.debug("사용하지 않는 호스트 슬롯 정리: {}개", removed);
+        }
+    }
+
+    private void releaseAll(HostSlot slot, boolean hostAcquired, boolean globalAcquired) {
+        if (globalAcquired) {
+            globalPermits.release();
+        }
+        if (hostAcquired) {
+            slot.permits.release();
+        }
+    }
+
+    private IllegalStateException timeout(String url) {
+        log.warn("크롤링 대기 시간 초과 ({}ms): {}", queueTimeoutMillis, url);
+        return new IllegalStateException("크롤링 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private String extractHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            if (host != null) {
+                return host.toLowerCase(Locale.ROOT);
+            }
+        } catch (Exception e) {
+            log.debug("호스트 추출 실패: {}", url);
+        }
+        return "unknown";
+    }
+
+    /**
+     * 호스트별 동시 실행 슬롯과 다음 요청 가능 시각
+     */
+    private static class HostSlot {
+        final Semaphore permits;
+        private long nextStartMillis = 0;
+        int users; // 이 슬롯을 사용(대기 포함) 중인 요청 수, hostSlots.compute 안에서만 변경
+
+        HostSlot(int maxConcurrent) {
+            this.permits = new Semaphore(maxConcurrent, true);
+        }
+
+        /**
+         * 다음 시작 시각을 예약하고, 그때까지 기다려야 하는 시간(ms)을 반환
+         */
+        synchronized long reserveStart(long minDelayMillis) {
+            long now = System.currentTimeMillis();
+            long start = Math.max(now, nextStartMillis);
+            nextStartMillis = start + minDelayMillis;
+            return start - now;
+        }
+
+        synchronized boolean isIdle(long now) {
+            return users == 0 && nextStartMillis <= now;
+        }
+    }
+}
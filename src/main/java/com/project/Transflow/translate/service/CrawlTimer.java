@@ -0,0 +1,39 @@
+package com.project.Transflow.translate.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크롤링 1회의 단계별 소요 시간 기록
+ * 스케줄러 스레드와 Playwright 워커 스레드에서 순차적으로 기록되므로 동기화해서 접근한다.
+ */
+public class CrawlTimer {
+
+    public static final String QUEUE = "queue";
+    public static final String STATIC_FETCH = "static_fetch";
+    public static final String LAUNCH = "launch";
+    public static final String NAVIGATE = "navigate";
+    public static final String READINESS_WAIT = "readiness_wait";
+    public static final String CONTENT_CAPTURE = "content_capture";
+    public static final String CSS_EXTRACTION = "css_extraction";
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private String fetchMode;
+
+    public synchronized void add(String phase, long millis) {
+        phases.merge(phase, Math.max(0, millis), Long::sum);
+    }
+
+    public synchronized Map<String, Long> getPhases() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+    }
+
+    public synchronized String getFetchMode() {
+        return fetchMode;
+    }
+
+    public synchronized void setFetchMode(String fetchMode) {
+        this.fetchMode = fetchMode;
+    }
+}
@@ -1,104 +1,269 @@
 package com.project.Transflow.translate.service;
 
 import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.Route;
+import com.project.Transflow.translate.dto.CrawlResult;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class CrawlerService {
 
-    private static final int TIMEOUT = 30000; // 30 seconds (Playwright는 더 오래 걸릴 수 있음)
-    
-    // Playwright 인스턴스를 재사용하기 위한 필드 (스레드 안전하게 관리 필요)
-    private Playwright playwright;
+    // 마감 시각 이후 워커가 부분 결과를 돌려줄 때까지 기다리는 여유 시간
+    private static final long BROWSER_RESULT_GRACE_MILLIS = 5000;
+
+    // 스레드 전용 Playwright 워커 (워커마다 자체 Playwright/브라우저 소유)
+    private final PlaywrightWorkerPool playwrightWorkerPool;
+    private final PlaywrightInitializer playwrightInitializer;
+
+    // 크롤링 시 차단할 리소스 타입 (image, media, font 등) - DOM과 CSS만 필요
+    private final Set<String> blockedResourceTypes;
+
+    // 크롤링 시 차단할 호스트 (광고, 분석 스크립트 등) - 접미사 일치
+    private final List<String> blockedHostPatterns;
+
+    // 전체/호스트별 동시 크롤링 제한
+    private final CrawlScheduler crawlScheduler;
+
+    // 단계별 크롤링 시간/결과 메트릭
+    private final CrawlMetrics crawlMetrics;
+
+    // 정적 HTTP fetch 우선 사용 (필요할 때만 Playwright로 전환)
+    private final StaticPageFetcher staticPageFetcher;
+    private final boolean staticFirstEnabled;
+    private final long fetchModeTtlMillis;
+
+    // 네트워크 응답 기록/재생 (오프라인 벤치마크, 회귀 테스트용)
+    private final CrawlArchive crawlArchive;
+
+    // 호스트별 fetch 방식 판단 결과 캐시
+    private final Map<String, FetchModeDecision> hostFetchModes = new ConcurrentHashMap<>();
+
+    public CrawlerService(
+            PlaywrightWorkerPool playwrightWorkerPool,
+            PlaywrightInitializer playwrightInitializer,
+            CrawlScheduler crawlScheduler,
+            CrawlMetrics crawlMetrics,
+            StaticPageFetcher staticPageFetcher,
+            CrawlArchive crawlArchive,
+            @Value("${crawler.static-first.enabled:true}") boolean staticFirstEnabled,
+            @Value("${crawler.static-first.decision-ttl-minutes:360}") long fetchModeTtlMinutes,
+            @Value("${crawler.block.resource-types:image,media,font}") List<String> blockedResourceTypes,
+            @Value("${crawler.block.hosts:}") List<String> blockedHostPatterns) {
+        this.playwrightWorkerPool = playwrightWorkerPool;
+        this.playwrightInitializer = playwrightInitializer;
+        this.crawlScheduler = crawlScheduler;
+        this.crawlMetrics = crawlMetrics;
+        this.staticPageFetcher = staticPageFetcher;
+        this.crawlArchive = crawlArchive;
+        this.staticFirstEnabled = staticFirstEnabled;
+        this.fetchModeTtlMillis = TimeUnit.MINUTES.toMillis(fetchModeTtlMinutes);
+        this.blockedResourceTypes = blockedResourceTypes.stream()
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toSet());
+        this.blockedHostPatterns = blockedHostPatterns.stream()
+                .map(host -> host.trim().toLowerCase(Locale.ROOT))
+                .map(host -> host.startsWith("*.") ? host.substring(2) : host)
+                .filter(host -> !host.isEmpty())
+                .collect(Collectors.toList());
+        log.info("크롤링 차단 설정 - 리소스 타입: {}, 호스트 패턴: {}개",
+                this.blockedResourceTypes, this.blockedHostPatterns.size());
+
+        // Playwright 설치/워커 시작은 PlaywrightInitializer가 애플리케이션 시작 후 백그라운드에서 수행
+    }
+
+    /**
+     * 웹페이지의 HTML과 CSS를 함께 가져오는 메서드
+     * @param url 크롤링할 URL
+     * @return Map containing "html" and "css" keys
+     */
+    public Map<String, String> crawlWebPageWithStyles(String url) {
+        return crawl(url).toMap();
+    }
+
+    /**
+     * 웹페이지를 크롤링하고 단계별 소요 시간과 결과(outcome)를 함께 반환
+     * 단계별 시간과 결과는 메트릭(crawler.phase.duration, crawler.outcome)으로도 기록된다.
+     */
+    public CrawlResult crawl(String url) {
+        return crawl(url, Deadline.none());
+    }
 
-    public CrawlerService() {
+    /**
+     * 요청 마감 시각 안에서 크롤링
+     * 대기열, 정적 fetch, 페이지 로드/대기, CSS 다운로드가 모두 남은 시간 안에서만 대기하며,
+     * 마감 시각에 도달하면 그때까지 가져온 HTML을 PARTIAL_CONTENT로 반환한다.
+     */
+    public CrawlResult crawl(String url, Deadline deadline) {
+        CrawlTimer timer = new CrawlTimer();
+        long queuedAt = System.currentTimeMillis();
         try {
-            // Playwright 브라우저 자동 설치 (첫 실행 시)
-            installPlaywrightBrowsersIfNeeded();
-            
-            // Playwright 인스턴스 생성 및 브라우저 설치 확인
-            this.playwright = Playwright.create();
-            log.info("Playwright 초기화 완료");
-        } catch (Exception e) {
-            log.warn("Playwright 초기화 실패. Jsoup으로 대체됩니다: {}", e.getMessage());
-            this.playwright = null;
+            // 동시 크롤링 수와 호스트별 요청 간격은 스케줄러가 제한
+            CrawlResult result = crawlScheduler.execute(url, deadline.remainingMillis(), () -> {
+                timer.add(CrawlTimer.QUEUE, System.currentTimeMillis() - queuedAt);
+                return crawlTiered(url, timer, deadline);
+            });
+            result.setPhaseTimings(timer.getPhases());
+            crawlMetrics.record(result.getFetchMode(), result.getOutcome(), timer);
+            return result;
+        } catch (RuntimeException e) {
+            crawlMetrics.record(timer.getFetchMode(), CrawlResult.OUTCOME_FAILED, timer);
+            throw e;
         }
     }
-    
+
     /**
-     * Playwright 브라우저 자동 설치
+     * 정적 HTTP fetch를 먼저 시도하고, 클라이언트 렌더링/봇 검증 페이지로 판단되면 Playwright로 전환
+     * 판단 결과는 호스트별로 캐시하여 같은 사이트의 다음 페이지는 바로 적절한 방식을 사용
      */
-    private void installPlaywrightBrowsersIfNeeded() {
-        try {
-            // 브라우저가 설치되어 있는지 확인하고, 없으면 설치
-            log.info("Playwright 브라우저 설치 확인 중...");
-            
-            // CLI를 통한 브라우저 설치
-            // 이미 설치되어 있으면 스킵됨
-            ProcessBuilder pb = new ProcessBuilder(
-                "java",
-                "-cp",
-                System.getProperty("java.class.path"),
-                "com.microsoft.playwright.CLI",
-                "install",
-                "chromium"
-            );
-            
-            Process process = pb.start();
-            int exitCode = process.waitFor();
-            
-            if (exitCode == 0) {
-                log.info("Playwright 브라우저 설치 완료 또는 이미 설치됨");
-            } else {
-                log.warn("Playwright 브라우저 설치 실패. 수동 설치가 필요할 수 있습니다.");
+    private CrawlResult crawlTiered(String url, CrawlTimer timer, Deadline deadline) {
+        if (!staticFirstEnabled) {
+            return crawlWithPlaywright(url, timer, deadline);
+        }
+
+        String host = extractHost(url);
+        FetchModeDecision decision = host != null ? hostFetchModes.get(host) : null;
+        if (decision != null && decision.isExpired(fetchModeTtlMillis)) {
+            hostFetchModes.remove(host, decision);
+            decision = null;
+        }
+        if (decision != null && decision.browserRequired) {
+            log.info("Playwright 사용 (캐시된 호스트 판단: {}): {}", host, url);
+            return crawlWithPlaywright(url, timer, deadline);
+        }
+
+        timer.setFetchMode(CrawlResult.FETCH_MODE_STATIC);
+        long phaseStart = System.currentTimeMillis();
+        StaticPageFetcher.Result staticResult = staticPageFetcher.fetch(url, deadline);
+        timer.add(CrawlTimer.STATIC_FETCH, System.currentTimeMillis() - phaseStart);
+
+        if (staticResult.needsBrowser()) {
+            log.info("Playwright로 전환: {} - {}", url, staticResult.getEscalationReason());
+            if (staticResult.isCacheable() && host != null) {
+                hostFetchModes.put(host, new FetchModeDecision(true));
             }
+            return crawlWithPlaywright(url, timer, deadline);
+        }
+
+        if (host != null) {
+            hostFetchModes.put(host, new FetchModeDecision(false));
+        }
+
+        String html = staticResult.getHtml();
+        List<String> cssParts = List.of();
+        phaseStart = System.currentTimeMillis();
+        try {
+            cssParts = extractCSSParts(staticResult.getFinalUrl(), html, deadline);
         } catch (Exception e) {
-            log.warn("Playwright 브라우저 자동 설치 실패: {}. 수동 설치를 시도하세요.", e.getMessage());
+            log.warn("CSS 추출 실패: {}", e.getMessage());
+        }
+        timer.add(CrawlTimer.CSS_EXTRACTION, System.currentTimeMillis() - phaseStart);
+        String css = String.join("", cssParts);
+
+        log.info("정적 크롤링 완료. HTML 길이: {}, CSS 길이: {}", html.length(), css.length());
+
+        return CrawlResult.builder()
+                .url(url)
+                .finalUrl(staticResult.getFinalUrl())
+                .html(html)
+                .css(css)
+                .cssParts(cssParts)
+                .fetchMode(CrawlResult.FETCH_MODE_STATIC)
+                // 마감 시각 때문에 CSS 일부를 받지 못했을 수 있음
+                .outcome(deadline.isExpired() ? CrawlResult.OUTCOME_PARTIAL_CONTENT : CrawlResult.OUTCOME_SUCCESS)
+                .build();
+    }
+
+    private String extractHost(String url) {
+        try {
+            String host = java.net.URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (Exception e) {
+            return null;
         }
     }
 
     /**
-     * 웹페이지의 HTML과 CSS를 함께 가져오는 메서드 (Playwright 사용)
-     * @param url 크롤링할 URL
-     * @return Map containing "html" and "css" keys
+     * Playwright 워커에 크롤링을 맡기고 결과를 기다린다.
      */
-    public Map<String, String> crawlWebPageWithStyles(String url) {
-        if (playwright == null) {
+    private CrawlResult crawlWithPlaywright(String url, CrawlTimer timer, Deadline deadline) {
+        if (deadline.isExpired()) {
+            throw new IllegalStateException("크롤링 마감 시간이 초과되었습니다: " + url);
+        }
+        timer.setFetchMode(CrawlResult.FETCH_MODE_BROWSER);
+        if (!playwrightWorkerPool.isAvailable()) {
+            if (!playwrightInitializer.isFinished()) {
+                log.warn("Playwright 초기화 진행 중 ({}). 브라우저 크롤링 불가: {}", playwrightInitializer.getState(), url);
+                throw new RuntimeException("브라우저 크롤러가 아직 준비 중입니다. 잠시 후 다시 시도해주세요.");
+            }
             log.error("Playwright가 초기화되지 않았습니다. Playwright 설치가 필요합니다.");
             throw new RuntimeException("Playwright가 설치되지 않았습니다. 백엔드 설정을 확인해주세요.");
         }
 
-        Browser browser = null;
+        long submittedAt = System.currentTimeMillis();
+        java.util.concurrent.CompletableFuture<CrawlResult> future = playwrightWorkerPool.submit(browser -> {
+            // 워커 대기열에서 기다린 시간도 대기(queue) 단계에 포함
+            timer.add(CrawlTimer.QUEUE, System.currentTimeMillis() - submittedAt);
+            if (deadline.isExpired()) {
+                throw new IllegalStateException("크롤링 마감 시간이 초과되었습니다: " + url);
+            }
+            return crawlInBrowser(browser, url, timer, deadline);
+        });
+        try {
+            if (deadline.isNone()) {
+                return future.join();
+            }
+            // 워커는 마감 시각에 맞춰 부분 결과를 반환하므로, 그 결과를 받을 수 있도록 약간의 여유를 둔다
+            return future.get(deadline.remainingMillis() + BROWSER_RESULT_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            future.cancel(false);
+            throw new IllegalStateException("크롤링 마감 시간이 초과되었습니다: " + url);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException("크롤링 대기 중 인터럽트 발생", e);
+        } catch (java.util.concurrent.CompletionException | java.util.concurrent.ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("크롤링 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 워커 스레드에서 실행되는 실제 크롤링 (브라우저는 워커가 소유, 컨텍스트는 작업마다 생성)
+     */
+    private CrawlResult crawlInBrowser(Browser browser, String url, CrawlTimer timer, Deadline deadline) {
+        BrowserContext context = null;
         Page page = null;
         try {
             log.info("Playwright로 크롤링 시작: {}", url);
-
-            // 브라우저 실행 (headless 모드, 실제 브라우저처럼 보이게 설정)
-            BrowserType browserType = playwright.chromium();
-            browser = browserType.launch(new BrowserType.LaunchOptions()
-                    .setHeadless(true)
-                    .setTimeout(30000) // 브라우저 시작 타임아웃 30초
-                    .setArgs(java.util.Arrays.asList(
-                            "--disable-blink-features=AutomationControlled", // 자동화 감지 방지
-                            "--disable-dev-shm-usage",
-                            "--no-sandbox",
-                            "--disable-setuid-sandbox"
-                    )));
+            long phaseStart = System.currentTimeMillis();
 
             // 브라우저 컨텍스트 생성 (쿠키, 세션 관리)
-            com.microsoft.playwright.BrowserContext context = browser.newContext(
+            context = browser.newContext(
                     new com.microsoft.playwright.Browser.NewContextOptions()
                             .setUserAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
                             .setViewportSize(1920, 1080)
@@ -117,54 +282,66 @@ public class CrawlerService {
                             ))
             );
 
+            // 불필요한 하위 리소스(이미지, 폰트, 광고 등) 차단 및 아카이브 기록/재생
+            AtomicInteger blockedCount = new AtomicInteger();
+            applyRouting(context, blockedCount);
+
             // 새 페이지 생성
             page = context.newPage();
             
-            // 페이지 타임아웃 설정 (5분)
-            page.setDefaultTimeout(300000);
+            // 페이지 타임아웃 설정 (최대 5분, 요청 마감 시각까지)
+            page.setDefaultTimeout(Math.max(1000, deadline.budgetMillis(300000)));
 
             // 자동화 감지 방지를 위한 JavaScript 실행
             page.addInitScript("Object.defineProperty(navigator, 'webdriver', {get: () => undefined});");
             page.addInitScript("window.chrome = {runtime: {}};");
             page.addInitScript("Object.defineProperty(navigator, 'plugins', {get: () => [1, 2, 3, 4, 5]});");
+            timer.add(CrawlTimer.LAUNCH, System.currentTimeMillis() - phaseStart);
 
             // 페이지 로드
             log.info("페이지 로드 중...");
+            boolean navigationTimedOut = false;
+            int navigationStatus = 0; // 알 수 없으면 0
+            phaseStart = System.currentTimeMillis();
             try {
-                page.navigate(url);
+                Response navigation = page.navigate(url);
+                if (navigation != null) {
+                    navigationStatus = navigation.status();
+                }
             } catch (Exception e) {
                 log.warn("페이지 로드 중 오류 발생: {}. 현재 페이지 내용을 가져옵니다.", e.getMessage());
                 // 타임아웃이 발생해도 현재 페이지 내용은 가져올 수 있음
+                navigationTimedOut = e.getMessage() != null && e.getMessage().toLowerCase().contains("timeout");
             }
+            timer.add(CrawlTimer.NAVIGATE, System.currentTimeMillis() - phaseStart);
 
             // Cloudflare 검증 대기 (최대 30초 추가 대기)
             log.info("Cloudflare 검증 대기 중...");
             String html = "";
             boolean isCloudflare = false;
+            phaseStart = System.currentTimeMillis();
             
             for (int attempt = 0; attempt < 6; attempt++) { // 최대 6번 시도 (총 30초)
+                if (deadline.isExpired()) {
+                    log.warn("크롤링 마감 시각 도달 - 현재 페이지 내용으로 진행: {}", url);
+                    html = safeContent(page, html);
+                    break;
+                }
                 try {
-                    Thread.sleep(5000); // 5초 대기
+                    Thread.sleep(deadline.budgetMillis(5000)); // 5초 대기
                     html = page.content();
                     
                     // Cloudflare 검증 페이지인지 확인
-                    String htmlLower = html.toLowerCase();
-                    isCloudflare = htmlLower.contains("verify you are human") || 
-                                  htmlLower.contains("enable javascript and cookies") ||
-                                  htmlLower.contains("just a moment") ||
-                                  htmlLower.contains("checking your browser") ||
-                                  htmlLower.contains("ray id:");
+                    isCloudflare = StaticPageFetcher.isChallengePage(navigationStatus, html);
                     
                     if (!isCloudflare) {
                         // Cloudflare가 아니면 추가 대기 후 HTML 가져오기
                         try {
                             // 추가 대기 시간 (네트워크 요청 완료 대기)
-                            Thread.sleep(2000);
-                            html = page.content(); // 최신 HTML 가져오기
+                            Thread.sleep(deadline.budgetMillis(2000));
                             log.info("Cloudflare 검증 완료 또는 검증 불필요");
                         } catch (Exception e) {
-                            log.debug("HTML 가져오기 실패, 현재 HTML 사용: {}", e.getMessage());
-                            html = page.content(); // 최소한 현재 내용이라도 가져오기
+                            log.debug("추가 대기 중단: {}", e.getMessage());
                         }
                         break;
                     } else {
@@ -172,38 +349,55 @@ public class CrawlerService {
                     }
                 } catch (Exception e) {
                     log.warn("HTML 가져오기 실패: {}", e.getMessage());
-                    if (html.isEmpty()) {
-                        html = page.content(); // 최소한 현재 내용이라도 가져오기
-                    }
                 }
             }
-            
-            // 최종 HTML 가져오기
-            if (html.isEmpty()) {
+            timer.add(CrawlTimer.READINESS_WAIT, System.currentTimeMillis() - phaseStart);
+
+            // 최종 HTML 가져오기 (최신 HTML)
+            phaseStart = System.currentTimeMillis();
+            try {
                 html = page.content();
+            } catch (Exception e) {
+                log.debug("HTML 가져오기 실패, 현재 HTML 사용: {}", e.getMessage());
             }
+            timer.add(CrawlTimer.CONTENT_CAPTURE, System.currentTimeMillis() - phaseStart);
             
             if (isCloudflare) {
                 log.warn("Cloudflare 검증 페이지가 반환됩니다. 사용자에게 표시됩니다.");
             }
             
             // CSS 추출 (스타일 태그와 외부 스타일시트)
-            String css = "";
+            List<String> cssParts = List.of();
+            phaseStart = System.currentTimeMillis();
             try {
-                css = extractAllCSS(page, html);
+                cssParts = extractCSSParts(page.url(), html, deadline);
             } catch (Exception e) {
                 log.warn("CSS 추출 실패: {}", e.getMessage());
-                css = "";
             }
+            timer.add(CrawlTimer.CSS_EXTRACTION, System.currentTimeMillis() - phaseStart);
+            String css = String.join("", cssParts);
 
-            log.info("크롤링 완료. HTML 길이: {}, CSS 길이: {}, Cloudflare: {}", 
-                    html.length(), css.length(), isCloudflare);
+            log.info("크롤링 완료. HTML 길이: {}, CSS 길이: {}, Cloudflare: {}, 차단된 요청: {}",
+                    html.length(), css.length(), isCloudflare, blockedCount.get());
 
-            Map<String, String> result = new HashMap<>();
-            result.put("html", html);
-            result.put("css", css);
-            
-            return result;
+            String outcome = CrawlResult.OUTCOME_SUCCESS;
+            if (isCloudflare) {
+                outcome = CrawlResult.OUTCOME_CHALLENGE_DETECTED;
+            } else if (navigationTimedOut) {
+                outcome = CrawlResult.OUTCOME_TIMEOUT;
+            } else if (deadline.isExpired()) {
+                outcome = CrawlResult.OUTCOME_PARTIAL_CONTENT;
+            }
+
+            return CrawlResult.builder()
+                    .url(url)
+                    .finalUrl(page.url())
+                    .html(html)
+                    .css(css)
+                    .cssParts(cssParts)
+                    .fetchMode(CrawlResult.FETCH_MODE_BROWSER)
+                    .outcome(outcome)
+                    .build();
 
         } catch (Exception e) {
             // 타임아웃이 발생해도 현재 페이지 내용은 반환
@@ -211,19 +405,29 @@ public class CrawlerService {
                 log.warn("Playwright 타임아웃 발생: {}. 현재 페이지 내용을 반환합니다.", url);
                 if (page != null) {
                     try {
+                        long phaseStart = System.currentTimeMillis();
                         String html = page.content();
-                        String css = "";
+                        timer.add(CrawlTimer.CONTENT_CAPTURE, System.currentTimeMillis() - phaseStart);
+
+                        List<String> cssParts = List.of();
+                        phaseStart = System.currentTimeMillis();
                         try {
-                            css = extractAllCSS(page, html);
+                            cssParts = extractCSSParts(page.url(), html, deadline);
                         } catch (Exception ex) {
                             log.warn("CSS 추출 실패: {}", ex.getMessage());
                         }
-                        
-                        Map<String, String> result = new HashMap<>();
-                        result.put("html", html);
-                        result.put("css", css);
+                        timer.add(CrawlTimer.CSS_EXTRACTION, System.currentTimeMillis() - phaseStart);
+
                         log.warn("타임아웃 발생했지만 현재 페이지 내용을 반환합니다.");
-                        return result;
+                        return CrawlResult.builder()
+                                .url(url)
+                                .finalUrl(page.url())
+                                .html(html)
+                                .css(String.join("", cssParts))
+                                .cssParts(cssParts)
+                                .fetchMode(CrawlResult.FETCH_MODE_BROWSER)
+                                .outcome(CrawlResult.OUTCOME_PARTIAL_CONTENT)
+                                .build();
                     } catch (Exception ex) {
                         log.error("페이지 내용 가져오기 실패: {}", ex.getMessage());
                     }
@@ -232,28 +436,136 @@ public class CrawlerService {
             log.error("Playwright 크롤링 실패: {}", url, e);
             throw new RuntimeException("크롤링 실패: " + e.getMessage(), e);
         } finally {
-            if (browser != null) {
+            if (context != null) {
                 try {
-                    browser.close();
+                    context.close();
                 } catch (Exception e) {
-                    log.warn("브라우저 종료 실패: {}", e.getMessage());
+                    log.warn("브라우저 컨텍스트 종료 실패: {}", e.getMessage());
                 }
             }
         }
     }
 
+    private String safeContent(Page page, String fallback) {
+        try {
+            return page.content();
+        } catch (Exception e) {
+            log.debug("HTML 가져오기 실패, 이전 HTML 사용: {}", e.getMessage());
+            return fallback;
+        }
+    }
+
+    /**
+     * 컨텍스트의 모든 요청에 라우팅을 걸어 차단 대상 리소스는 중단시킨다.
+     * 문서와 스타일시트는 항상 허용하고, 그 외에는 리소스 타입과 호스트 패턴으로 판단한다.
+     * 아카이브 모드에서는 허용된 요청을 기록하거나 아카이브에서 응답한다.
+     */
+    private void applyRouting(BrowserContext context, AtomicInteger blockedCount) {
+        if (blockedResourceTypes.isEmpty() && blockedHostPatterns.isEmpty()
+                && crawlArchive.getMode() == CrawlArchive.Mode.OFF) {
+            return;
+        }
+
+        context.route("**/*", route -> {
+            if (shouldBlockRequest(route)) {
+                blockedCount.incrementAndGet();
+                route.abort();
+            } else if (crawlArchive.isReplaying()) {
+                replayFromArchive(route);
+            } else if (crawlArchive.isRecording() && "GET".equals(route.request().method())) {
+                recordToArchive(route);
+            } else {
+                route.resume();
+            }
+        });
+    }
+
+    /**
+     * 실제로 요청한 응답을 아카이브에 저장한 뒤 그대로 브라우저에 전달
+     * 리다이렉트는 따라가지 않고 그대로 기록하여 재생 시 브라우저가 같은 순서로 요청하도록 한다.
+     */
+    private void recordToArchive(Route route) {
+        String requestUrl = route.request().url();
+        try {
+            APIResponse response = route.fetch(new Route.FetchOptions().setMaxRedirects(0));
+            crawlArchive.record(requestUrl, new CrawlArchive.ArchivedResponse(
+                    response.status(), response.url(), response.headers(), response.body()));
+            route.fulfill(new Route.FulfillOptions().setResponse(response));
+        } catch (Exception e) {
+            log.debug("아카이브 기록 중 요청 실패: {} - {}", requestUrl, e.getMessage());
+            route.abort();
+        }
+    }
+
+    /**
+     * 아카이브에 저장된 응답으로 요청에 응답 (없으면 404, 네트워크는 사용하지 않음)
+     */
+    private void replayFromArchive(Route route) {
+        CrawlArchive.ArchivedResponse archived = crawlArchive.find(route.request().url());
+        if (archived == null) {
+            log.debug("아카이브에 없는 요청: {}", route.request().url());
+            route.fulfill(new Route.FulfillOptions().setStatus(404).setBody(""));
+            return;
+        }
+
+        // 본문은 압축 해제된 상태로 저장되므로 인코딩/길이 헤더는 제외
+        Map<String, String> headers = new java.util.HashMap<>(archived.getHeaders());
+        headers.remove("content-encoding");
+        headers.remove("content-length");
+        headers.remove("transfer-encoding");
+        route.fulfill(new Route.FulfillOptions()
+                .setStatus(archived.getStatus())
+                .setHeaders(headers)
+                .setBodyBytes(archived.getBody()));
+    }
+
+    private boolean shouldBlockRequest(Route route) {
+        String resourceType = route.request().resourceType();
+        if ("document".equals(resourceType) || "stylesheet".equals(resourceType)) {
+            return false;
+        }
+        if (blockedResourceTypes.contains(resourceType)) {
+            return true;
+        }
+        return isBlockedHost(route.request().url());
+    }
+
+    private boolean isBlockedHost(String requestUrl) {
+        if (blockedHostPatterns.isEmpty()) {
+            return false;
+        }
+        String host;
+        try {
+            host = java.net.URI.create(requestUrl).getHost();
+        } catch (Exception e) {
+            return false;
+        }
+        if (host == null) {
+            return false;
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        for (String pattern : blockedHostPatterns) {
+            if (host.equals(pattern) || host.endsWith("." + pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * CSS를 추출하는 헬퍼 메서드
+     * CSS를 조각(스타일 태그 / 외부 스타일시트 단위)으로 추출
+     * 여러 페이지가 공유하는 스타일시트는 같은 조각이 되므로 스냅샷 저장 시 한 번만 저장된다.
      */
-    private String extractAllCSS(Page page, String html) {
-        StringBuilder cssBuilder = new StringBuilder();
+    private List<String> extractCSSParts(String pageUrl, String html, Deadline deadline) {
+        List<String> cssParts = new java.util.ArrayList<>();
 
         try {
             // 1. <style> 태그 내의 CSS 추출
             Document doc = Jsoup.parse(html);
             Elements styleTags = doc.select("style");
             for (Element styleTag : styleTags) {
-                cssBuilder.append(styleTag.html()).append("\n");
+                cssParts.add(styleTag.html() + "\n");
             }
 
             // 2. 외부 CSS 링크 추출 및 다운로드
@@ -261,13 +573,17 @@ public class CrawlerService {
             for (Element linkTag : linkTags) {
                 String href = linkTag.attr("href");
                 if (href != null && !href.isEmpty()) {
+                    // 마감 시각이 지나면 남은 외부 CSS는 받지 않음
+                    if (deadline.isExpired()) {
+                        log.warn("크롤링 마감 시각 도달 - 남은 외부 CSS 다운로드 생략");
+                        break;
+                    }
                     try {
                         // 상대 URL을 절대 URL로 변환
-                        String absoluteUrl = resolveUrl(page.url(), href);
-                        String cssContent = fetchCSS(absoluteUrl);
+                        String absoluteUrl = resolveUrl(pageUrl, href);
+                        String cssContent = fetchCSS(absoluteUrl, deadline);
                         if (cssContent != null && !cssContent.isEmpty()) {
-                            cssBuilder.append("\n/* External CSS from: ").append(absoluteUrl).append(" */\n");
-                            cssBuilder.append(cssContent).append("\n");
+                            cssParts.add("\n/* External CSS from: " + absoluteUrl + " */\n" + cssContent + "\n");
                         }
                     } catch (Exception e) {
                         log.warn("CSS 다운로드 실패: {}", href, e);
@@ -281,7 +597,7 @@ public class CrawlerService {
             log.warn("CSS 추출 중 오류 발생: {}", e.getMessage());
         }
 
-        return cssBuilder.toString();
+        return cssParts;
     }
 
     /**
@@ -307,13 +623,27 @@ public class CrawlerService {
     /**
      * 외부 CSS 파일 다운로드
      */
-    private String fetchCSS(String cssUrl) {
+    private String fetchCSS(String cssUrl, Deadline deadline) {
+        if (crawlArchive.isReplaying()) {
+            CrawlArchive.ArchivedResponse archived = crawlArchive.find(cssUrl);
+            if (archived == null || archived.getStatus() >= 400) {
+                log.warn("아카이브에 CSS 없음: {}", cssUrl);
+                return null;
+            }
+            return Jsoup.parse(archived.getBodyAsString()).body().text();
+        }
+
         try {
-            Document doc = Jsoup.connect(cssUrl)
+            Connection.Response response = Jsoup.connect(cssUrl)
                     .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(10000)
+                    .timeout((int) Math.max(1, deadline.budgetMillis(10000)))
                     .ignoreContentType(true)
-                    .get();
+                    .execute();
+            if (crawlArchive.isRecording()) {
+                crawlArchive.record(cssUrl, new CrawlArchive.ArchivedResponse(
+                        response.statusCode(), response.url().toString(), response.headers(), response.bodyAsBytes()));
+            }
+            Document doc = response.parse();
             return doc.body().text();
         } catch (Exception e) {
             log.warn("CSS 다운로드 실패: {}", cssUrl);
@@ -321,66 +651,9 @@ public class CrawlerService {
         }
     }
 
-    /**
-     * Fallback: Jsoup을 사용한 크롤링 (비활성화됨 - Playwright만 사용)
-     * @deprecated Playwright만 사용하도록 변경됨
-     */
-    @Deprecated
-    private Map<String, String> crawlWebPageWithStylesFallback(String url) {
-        try {
-            log.info("Jsoup으로 크롤링 시작: {}", url);
-
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(TIMEOUT)
-                    .get();
-
-            // HTML 가져오기 (스크립트는 제거하되 스타일은 유지)
-            doc.select("script").remove();
-            String html = doc.html();
-
-            // CSS 추출
-            StringBuilder cssBuilder = new StringBuilder();
-            Elements styleTags = doc.select("style");
-            for (Element styleTag : styleTags) {
-                cssBuilder.append(styleTag.html()).append("\n");
-            }
-
-            // 외부 CSS 링크 추출
-            Elements linkTags = doc.select("link[rel=stylesheet]");
-            for (Element linkTag : linkTags) {
-                String href = linkTag.attr("href");
-                if (href != null && !href.isEmpty()) {
-                    try {
-                        String absoluteUrl = resolveUrl(url, href);
-                        String cssContent = fetchCSS(absoluteUrl);
-                        if (cssContent != null && !cssContent.isEmpty()) {
-                            cssBuilder.append("\n/* External CSS from: ").append(absoluteUrl).append(" */\n");
-                            cssBuilder.append(cssContent).append("\n");
-                        }
-                    } catch (Exception e) {
-                        log.warn("CSS 다운로드 실패: {}", href);
-                    }
-                }
-            }
-
-            Map<String, String> result = new HashMap<>();
-            result.put("html", html);
-            result.put("css", cssBuilder.toString());
-
-            log.info("Jsoup 크롤링 완료. HTML 길이: {}, CSS 길이: {}", html.length(), cssBuilder.length());
-            return result;
-
-        } catch (Exception e) {
-            log.error("Jsoup 크롤링 실패: {}", url, e);
-            throw new RuntimeException("웹페이지 크롤링 중 오류 발생: " + e.getMessage());
-        }
-    }
-
     /**
      * 기존 메서드 (하위 호환성 유지)
      * 텍스트만 추출하는 경우 사용
-     * Playwright만 사용 (Jsoup fallback 제거)
      */
     public String crawlWebPage(String url) {
         Map<String, String> result = crawlWebPageWithStyles(url);
@@ -389,16 +662,27 @@ public class CrawlerService {
         return doc.body().text();
     }
 
+    /**
+     * 호스트별 fetch 방식 판단 결과
+     */
+    private static class FetchModeDecision {
+        final boolean browserRequired;
+        final long decidedAt;
+
+        FetchModeDecision(boolean browserRequired) {
+            this.browserRequired = browserRequired;
+            this.decidedAt = System.currentTimeMillis();
+        }
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - decidedAt > ttlMillis;
+        }
+    }
+
     /**
      * 리소스 정리
      */
     public void cleanup() {
-        if (playwright != null) {
-            try {
-                playwright.close();
-            } catch (Exception e) {
-                log.warn("Playwright 종료 중 오류: {}", e.getMessage());
-            }
-        }
+        playwrightWorkerPool.shutdown();
     }
 }
\ No newline at end of file
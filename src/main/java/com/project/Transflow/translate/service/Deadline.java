@@ -0,0 +1,80 @@
+package com.project.Transflow.translate.service;
+
+import java.time.Duration;
+
+/**
+ * 요청 단위 마감 시각
+ * TransflowService가 요청마다 만들어 크롤링/HTML 번역/DeepL 호출에 전달하고,
+ * 각 단계는 고정 타임아웃 대신 남은 시간 안에서만 대기하여 마감을 넘기지 않도록 한다.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 지금부터 timeout 뒤에 마감
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 마감 없음 (기존 고정 타임아웃만 적용)
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public boolean isNone() {
+        return this == NONE;
+    }
+
+    /**
+     * 다음 단계를 위해 reserve만큼 남겨 둔 이른 마감 (이미 지난 경우 지금)
+     */
+    public Deadline reserve(Duration reserve) {
+        if (isNone()) {
+            return this;
+        }
+        long now = System.nanoTime();
+        return new Deadline(Math.max(now, deadlineNanos - reserve.toNanos()));
+    }
+
+    /**
+     * 두 마감 중 늦은 쪽 (여러 요청이 함께 기다리는 작업에 사용)
+     */
+    public Deadline later(Deadline other) {
+        if (isNone() || other.isNone()) {
+            return NONE;
+        }
+        return deadlineNanos - other.deadlineNanos >= 0 ? this : other;
+    }
+
+    public long remainingMillis() {
+        if (isNone()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public boolean isExpired() {
+        return !isNone() && System.nanoTime() >= deadlineNanos;
+    }
+
+    /**
+     * 단계별 최대 시간과 남은 시간 중 작은 값 (ms)
+     */
+    public long budgetMillis(long maxMillis) {
+        return Math.min(maxMillis, remainingMillis());
+    }
+
+    public Duration budget(Duration max) {
+        return Duration.ofMillis(budgetMillis(max.toMillis()));
+    }
+}
@@ -0,0 +1,394 @@
+package com.project.Transflow.translate.service;
+
+import org.jsoup.parser.Parser;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Reader에서 HTML을 조금씩 읽어 토큰(텍스트, 시작/종료 태그, 주석 등)으로 나누는 토크나이저
+ * DOM 트리를 만들지 않으므로 문서 크기와 관계없이 현재 토큰만 메모리에 둔다.
+ * 토큰의 raw에는 입력 원문이 그대로 들어 있어 변경하지 않은 토큰은 raw를 그대로 출력하면 된다.
+ */
+final class HtmlTokenizer {
+
+    enum Type {
+        TEXT,       // 일반 텍스트 (엔티티 디코딩 전 원문)
+        RAW_TEXT,   // script/style/textarea 안의 내용 (태그로 해석하지 않음)
+        START_TAG,
+        END_TAG,
+        OTHER       // 주석, DOCTYPE, 처리 명령 등
+    }
+
+    // 내용을 태그로 해석하지 않는 요소
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style", "textarea", "xmp", "noembed", "noframes");
+
+    // 텍스트 토큰 하나의 최대 길이 (넘으면 공백 위치에서 나눔, 공백이 없으면 두 배에서 강제로 나눔)
+    private static final int MAX_TEXT_LENGTH = 16 * 1024;
+
+    private final PushbackReader in;
+    private String rawTextTag;   // RAW_TEXT를 읽는 중인 요소 이름
+    private String rawTextCarry; // 종료 태그 일부일 수 있어 다음 청크로 넘긴 문자
+    private Token queued;
+
+    HtmlTokenizer(Reader reader) {
+        this.in = new PushbackReader(reader, 2);
+    }
+
+    /**
+     * 다음 토큰 (입력 끝이면 null)
+     */
+    Token next() throws IOException {
+        if (queued != null) {
+            Token token = queued;
+            queued = null;
+            return token;
+        }
+        if (rawTextTag != null) {
+            Token raw = readRawText();
+            if (raw != null) {
+                return raw;
+            }
+            return next();
+        }
+
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        if (c != '<') {
+            return readText(c);
+        }
+
+        int n = in.read();
+        if (n == '!' || n == '?') {
+            return readOther(n);
+        }
+        if (n == '/') {
+            int first = in.read();
+            if (first != -1) {
+                in.unread(first);
+            }
+            if (isLetter(first)) {
+                return readEndTag();
+            }
+            return readOther(n); // </ 뒤에 태그 이름이 없으면 주석으로 취급 (HTML 표준과 동일)
+        }
+        if (isLetter(n)) {
+            in.unread(n);
+            return readStartTag();
+        }
+
+        // 태그가 아닌 '<'는 텍스트
+        if (n != -1) {
+            in.unread(n);
+        }
+        return readText('<');
+    }
+
+    private Token readText(int first) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append((char) first);
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '<') {
+                int n = in.read();
+                if (n == -1 || isLetter(n) || n == '/' || n == '!' || n == '?') {
+                    if (n != -1) {
+                        in.unread(n);
+                    }
+                    in.unread(c);
+                    break;
+                }
+                in.unread(n);
+            }
+            sb.append((char) c);
+            if (sb.length() >= MAX_TEXT_LENGTH && (Character.isWhitespace(c) || sb.length() >= MAX_TEXT_LENGTH * 2)) {
+                break;
+            }
+        }
+        return new Token(Type.TEXT, sb.toString(), null, Collections.emptyList(), false);
+    }
+
+    private Token readStartTag() throws IOException {
+        StringBuilder sb = new StringBuilder("<");
+        char quote = 0;
+        char lastNonSpace = 0;
+        int c;
+        while ((c = in.read()) != -1) {
+            sb.append((char) c);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if ((c == '"' || c == '\'') && lastNonSpace == '=') {
+                quote = (char) c;
+            } else if (c == '>') {
+                break;
+            }
+            if (!Character.isWhitespace(c)) {
+                lastNonSpace = (char) c;
+            }
+        }
+        if (c == -1) {
+            return new Token(Type.OTHER, sb.toString(), null, Collections.emptyList(), false);
+        }
+
+        Token token = parseStartTag(sb.toString());
+        if (RAW_TEXT_TAGS.contains(token.tagName)) {
+            rawTextTag = token.tagName;
+            rawTextCarry = "";
+        }
+        return token;
+    }
+
+    private Token readEndTag() throws IOException {
+        StringBuilder sb = new StringBuilder("</");
+        readUntilClose(sb);
+        return new Token(Type.END_TAG, sb.toString(), tagName(sb, 2), Collections.emptyList(), false);
+    }
+
+    private Token readOther(int second) throws IOException {
+        StringBuilder sb = new StringBuilder("<");
+        sb.append((char) second);
+        if (second == '!') {
+            int c1 = in.read();
+            int c2 = c1 == '-' ? in.read() : -1;
+            if (c1 == '-' && c2 == '-') {
+                sb.append("--");
+                int c;
+                while ((c = in.read()) != -1) {
+                    sb.append((char) c);
+                    if (c == '>' && isCommentEnd(sb)) {
+                        break;
+                    }
+                }
+                return new Token(Type.OTHER, sb.toString(), null, Collections.emptyList(), false);
+            }
+            if (c2 != -1) {
+                in.unread(c2);
+            }
+            if (c1 != -1) {
+                in.unread(c1);
+            }
+        }
+        readUntilClose(sb);
+        return new Token(Type.OTHER, sb.toString(), null, Collections.emptyList(), false);
+    }
+
+    /**
+     * '>'로 끝난 주석 원문(<!-- 로 시작)이 완성된 주석인지 판단 (HTML 파싱 규칙과 같게)
+     * <!--> 와 <!---> 는 그 자체로 빈 주석이고, 그 밖에는 --> 또는 --!> 에서 끝난다.
+     * 브라우저보다 늦게 닫으면 뒤의 태그가 주석 원문에 섞여 정리 없이 출력되므로 규칙을 맞춰야 한다.
+     */
+    private static boolean isCommentEnd(StringBuilder sb) {
+        int len = sb.length();
+        if (len == 5 || (len == 6 && sb.charAt(4) == '-')) {
+            return true;
+        }
+        if (len >= 7 && sb.charAt(len - 2) == '-' && sb.charAt(len - 3) == '-') {
+            return true;
+        }
+        return len >= 8 && sb.charAt(len - 2) == '!' && sb.charAt(len - 3) == '-' && sb.charAt(len - 4) == '-';
+    }
+
+    /**
+     * script/style 등의 내용을 종료 태그 직전까지 읽음
+     * 내용이 길면 청크로 나누어 반환하고, 종료 태그를 만나면 종료 태그 토큰을 다음 토큰으로 예약한다.
+     */
+    private Token readRawText() throws IOException {
+        String close = "</" + rawTextTag;
+        StringBuilder sb = new StringBuilder(rawTextCarry);
+        rawTextCarry = "";
+        int c;
+        while ((c = in.read()) != -1) {
+            sb.append((char) c);
+            if (endsWithIgnoreCase(sb, close)) {
+                int next = in.read();
+                if (next != -1) {
+                    in.unread(next);
+                }
+                // </scriptx 처럼 이름이 이어지면 종료 태그가 아님
+                if (next == -1 || next == '>' || next == '/' || Character.isWhitespace(next)) {
+                    sb.setLength(sb.length() - close.length());
+                    StringBuilder endTag = new StringBuilder(close);
+                    readUntilClose(endTag);
+                    queued = new Token(Type.END_TAG, endTag.toString(), rawTextTag, Collections.emptyList(), false);
+                    Token raw = sb.length() > 0 ? rawText(sb.toString()) : null;
+                    rawTextTag = null;
+                    return raw;
+                }
+            }
+            if (sb.length() >= MAX_TEXT_LENGTH) {
+                // 종료 태그가 청크 경계에 걸칠 수 있으므로 끝부분은 다음 청크로 넘김
+                int keep = close.length();
+                rawTextCarry = sb.substring(sb.length() - keep);
+                return rawText(sb.substring(0, sb.length() - keep));
+            }
+        }
+        // 종료 태그 없이 입력이 끝남
+        Token raw = sb.length() > 0 ? rawText(sb.toString()) : null;
+        rawTextTag = null;
+        return raw;
+    }
+
+    private Token rawText(String text) {
+        return new Token(Type.RAW_TEXT, text, rawTextTag, Collections.emptyList(), false);
+    }
+
+    private void readUntilClose(StringBuilder sb) throws IOException {
+        int c;
+        while ((c = in.read()) != -1) {
+            sb.append((char) c);
+            if (c == '>') {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 시작 태그 원문에서 태그 이름과 속성 목록 추출
+     */
+    private static Token parseStartTag(String raw) {
+        String name = tagName(raw, 1);
+        int end = raw.endsWith(">") ? raw.length() - 1 : raw.length();
+        boolean selfClosing = end > 1 && raw.charAt(end - 1) == '/';
+
+        List<Attribute> attributes = new ArrayList<>();
+        int i = 1 + name.length();
+        while (i < end) {
+            char c = raw.charAt(i);
+            if (Character.isWhitespace(c) || c == '/') {
+                i++;
+                continue;
+            }
+            int nameStart = i;
+            while (i < end && !Character.isWhitespace(raw.charAt(i)) && raw.charAt(i) != '='
+                    && !(raw.charAt(i) == '/' && i > nameStart)) {
+                i++;
+            }
+            String attrName = raw.substring(nameStart, i);
+            int afterName = i;
+            while (i < end && Character.isWhitespace(raw.charAt(i))) {
+                i++;
+            }
+            if (i >= end || raw.charAt(i) != '=') {
+                attributes.add(new Attribute(attrName, null));
+                i = afterName;
+                continue;
+            }
+            i++; // '='
+            while (i < end && Character.isWhitespace(raw.charAt(i))) {
+                i++;
+            }
+            int valueStart = i;
+            if (i < end && (raw.charAt(i) == '"' || raw.charAt(i) == '\'')) {
+                char quote = raw.charAt(i);
+                int close = raw.indexOf(quote, i + 1);
+                i = close < 0 || close > end ? end : close + 1;
+            } else {
+                while (i < end && !Character.isWhitespace(raw.charAt(i))) {
+                    i++;
+                }
+            }
+            attributes.add(new Attribute(attrName, raw.substring(valueStart, i)));
+        }
+        return new Token(Type.START_TAG, raw, name, attributes, selfClosing);
+    }
+
+    private static String tagName(CharSequence raw, int start) {
+        int i = start;
+        while (i < raw.length()) {
+            char c = raw.charAt(i);
+            if (Character.isWhitespace(c) || c == '/' || c == '>') {
+                break;
+            }
+            i++;
+        }
+        return raw.subSequence(start, i).toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean endsWithIgnoreCase(StringBuilder sb, String suffix) {
+        int offset = sb.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (Character.toLowerCase(sb.charAt(offset + i)) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * HTML 토큰
+     */
+    static final class Token {
+        final Type type;
+        final String raw;
+        final String tagName; // 태그(또는 RAW_TEXT를 감싼 요소) 이름, 소문자
+        final List<Attribute> attributes;
+        final boolean selfClosing;
+
+        Token(Type type, String raw, String tagName, List<Attribute> attributes, boolean selfClosing) {
+            this.type = type;
+            this.raw = raw;
+            this.tagName = tagName;
+            this.attributes = attributes;
+            this.selfClosing = selfClosing;
+        }
+
+        /**
+         * 속성 목록을 바꾼 시작 태그 원문
+         */
+        String rebuild(List<Attribute> newAttributes) {
+            StringBuilder sb = new StringBuilder("<").append(tagName);
+            for (Attribute attribute : newAttributes) {
+                sb.append(' ').append(attribute.name);
+                if (attribute.rawValue != null) {
+                    sb.append('=').append(attribute.rawValue);
+                }
+            }
+            return sb.append(selfClosing ? " />" : ">").toString();
+        }
+    }
+
+    /**
+     * 시작 태그의 속성 (값은 따옴표를 포함한 원문, 값이 없으면 null)
+     */
+    static final class Attribute {
+        final String name;
+        final String rawValue;
+
+        Attribute(String name, String rawValue) {
+            this.name = name;
+            this.rawValue = rawValue;
+        }
+
+        /**
+         * 따옴표를 벗기고 엔티티를 디코딩한 소문자 값 (값이 없으면 빈 문자열)
+         */
+        String value() {
+            if (rawValue == null) {
+                return "";
+            }
+            String value = rawValue;
+            if (value.length() >= 2 && (value.charAt(0) == '"' || value.charAt(0) == '\'')
+                    && value.charAt(value.length() - 1) == value.charAt(0)) {
+                value = value.substring(1, value.length() - 1);
+            }
+            return Parser.unescapeEntities(value, true).trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
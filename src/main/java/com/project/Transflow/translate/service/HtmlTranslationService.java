@@ -1,5 +1,10 @@
 package com.project.Transflow.translate.service;
 
+import com.project.Transflow.checkpoint.service.TranslationCheckpointService;
+import com.project.Transflow.memory.service.TranslationMemoryService;
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
+import com.project.Transflow.translate.dto.TranslationEstimateResponse;
+import com.project.Transflow.translate.dto.TranslationOptions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
@@ -7,11 +12,23 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * HTML 구조를 유지하면서 텍스트만 번역하는 서비스
@@ -22,11 +39,38 @@ import java.util.regex.Pattern;
 public class HtmlTranslationService {
 
     private final TranslationService translationService;
+    private final MainContentExtractor mainContentExtractor;
+    private final SiteTemplateCache siteTemplateCache;
+    private final TranslationExecutor translationExecutor;
+    private final TranslationMemoryService translationMemoryService;
+    private final PlaceholderMasker placeholderMasker;
+    private final LanguageDetector languageDetector;
+    private final TranslationCheckpointService translationCheckpointService;
+    private final SegmentRetryQueue segmentRetryQueue;
 
-    // 번역하지 않아야 할 태그들
-    private static final List<String> SKIP_TAGS = List.of(
-            "script", "style", "noscript", "code", "pre"
-    );
+    // 대용량 페이지는 HTML 전체를 DeepL 문서 번역 API로 번역 (텍스트 노드 분할 요청 대신)
+    @Value("${translation.document-mode.enabled:true}")
+    private boolean documentModeEnabled;
+
+    @Value("${translation.document-mode.threshold-chars:100000}")
+    private int documentModeThresholdChars;
+
+    @Value("${translation.document-mode.timeout-seconds:240}")
+    private long documentModeTimeoutSeconds;
+
+    // 연속으로 이 횟수만큼 문맥 그룹 번역이 실패하면 남은 그룹은 호출하지 않고 재시도 대기열로 보냄
+    @Value("${translation.retry-queue.max-consecutive-failures:3}")
+    private int maxConsecutiveFailures;
+
+    // 번역에 실패해 재시도 대기 중인 텍스트의 부모 요소에 붙이는 속성
+    private static final String PENDING_ATTRIBUTE = "data-transflow-pending";
+
+    // 번역 비용 추정에 사용하는 처리 속도
+    @Value("${translation.estimate.provider-calls-per-second:2}")
+    private double providerCallsPerSecond;
+
+    @Value("${translation.estimate.document-chars-per-second:5000}")
+    private double documentCharsPerSecond;
 
 
     /**
@@ -38,92 +82,114 @@ public class HtmlTranslationService {
      * @return 번역된 HTML
      */
     public String translateHtml(String html, String targetLang, String sourceLang) {
+        return translateHtml(html, targetLang, sourceLang, TranslationOptions.defaults());
+    }
+
+    /**
+     * HTML을 파싱하여 텍스트 노드만 번역하고 HTML 구조는 유지
+     *
+     * @param options 번역 옵션 (본문만 번역 등)
+     */
+    public String translateHtml(String html, String targetLang, String sourceLang, TranslationOptions options) {
+        return translate(html, targetLang, sourceLang, options).getHtml();
+    }
+
+    /**
+     * HTML을 번역하고 부분 번역 여부를 함께 반환
+     * 옵션의 마감 시각이 지나면 남은 텍스트는 원문으로 두고 그때까지의 결과를 반환한다.
+     */
+    public HtmlTranslationResult translate(String html, String targetLang, String sourceLang, TranslationOptions options) {
+        return translateToLanguages(html, List.of(targetLang), sourceLang, options).get(targetLang);
+    }
+
+    /**
+     * 하나의 HTML을 여러 언어로 번역
+     * 파싱/정리와 텍스트 수집, 문맥 그룹화는 한 번만 하고, 언어별 번역은 공유된 세그먼트 목록으로 동시에 실행한다.
+     *
+     * @return 대상 언어 -> 번역 결과 (요청 순서 유지)
+     */
+    public Map<String, HtmlTranslationResult> translateToLanguages(String html, List<String> targetLangs, String sourceLang,
+                                                                   TranslationOptions options) {
+        Deadline deadline = options != null && options.getDeadline() != null ? options.getDeadline() : Deadline.none();
         try {
-            log.info("HTML 번역 시작 - Target: {}, HTML 길이: {}", targetLang, html.length());
+            log.info("HTML 번역 시작 - Target: {}, HTML 길이: {}", targetLangs, html.length());
 
             Document doc = Jsoup.parse(html);
-            
-            // JavaScript 완전 제거 (번역 전에 제거하여 동적 콘텐츠 변경 방지)
-            // 1. 모든 script 태그 제거 (인라인, 외부 모두) - 여러 번 제거하여 확실히
-            doc.select("script").remove();
-            doc.select("noscript").remove();
-            // 혹시 모를 경우를 위해 다시 한 번
-            doc.select("script").remove();
-            
-            // 2. 외부 스크립트 파일 링크 제거
-            doc.select("link[rel='preload'][as='script']").remove();
-            doc.select("link[rel='modulepreload']").remove();
-            // type이 module인 스크립트도 제거
-            doc.select("script[type='module']").remove();
-            doc.select("script[type='text/javascript']").remove();
-            
-            // 3. 이벤트 핸들러 속성 제거 (onclick, onload 등)
-            doc.select("*").forEach(element -> {
-                java.util.List<org.jsoup.nodes.Attribute> attrsToRemove = new java.util.ArrayList<>();
-                element.attributes().forEach(attr -> {
-                    String key = attr.getKey().toLowerCase();
-                    // 이벤트 핸들러 제거
-                    if (key.startsWith("on")) {
-                        attrsToRemove.add(attr);
-                    }
-                });
-                attrsToRemove.forEach(attr -> element.removeAttr(attr.getKey()));
-            });
-            
-            // 4. React나 다른 프레임워크가 실행되지 않도록 제거
-            // React는 data-reactroot 등을 사용하므로 제거
-            doc.select("[data-reactroot]").removeAttr("data-reactroot");
-            doc.select("[data-react-helmet]").removeAttr("data-react-helmet");
-            // React 컴포넌트 마운트 지점 제거
-            doc.select("#root, #app, [id^='react'], [class^='react']").forEach(element -> {
-                // React 관련 속성 제거
-                element.removeAttr("data-reactroot");
-                element.removeAttr("data-react-helmet");
-            });
-            
-            // 5. 외부 API 호출을 하는 요소 제거 또는 비활성화
-            // iframe 제거 (다른 페이지 로드 방지)
-            doc.select("iframe[src]").forEach(iframe -> {
-                iframe.removeAttr("src");
-                iframe.attr("data-disabled", "true");
-            });
-            
-            // 6. manifest.json 링크 제거 (로컬 파일 로드 방지)
-            doc.select("link[rel='manifest']").remove();
-            
-            // 번역할 텍스트 노드들을 수집
-            List<TranslatableText> translatableTexts = collectTranslatableTexts(doc);
+            sanitize(doc);
 
-            log.info("번역 가능한 텍스트 노드 수: {}", translatableTexts.size());
+            // 번역할 텍스트 노드 수집과 문맥 그룹화 (모든 언어가 공유)
+            PreparedHtml prepared = prepare(doc, options, true);
+            // 체크포인트 작업 식별: 페이지 URL, 없으면 HTML 내용
+            prepared.sourceUrl = options != null ? options.getSourceUrl() : null;
+            prepared.checkpointSource = prepared.sourceUrl != null ? prepared.sourceUrl : html;
 
-            // 텍스트들을 배치로 번역 (DeepL API 효율성 고려)
-            translateTextNodes(translatableTexts, targetLang, sourceLang);
-
-            // 번역된 텍스트로 HTML 재구성 전에 한 번 더 스크립트 제거 (혹시 모를 경우 대비)
-            doc.select("script").remove();
-            doc.select("noscript").remove();
-            
-            // React나 다른 프레임워크의 초기화 코드가 있는지 확인하고 제거
-            // window 객체를 사용하는 인라인 코드 제거를 위해 <script> 태그는 이미 제거됨
-            
-            // 번역된 텍스트로 HTML 재구성
-            String translatedHtml = doc.html();
-            
-            // 디버깅: 번역이 제대로 적용되었는지 확인
-            // 원본 텍스트가 남아있는지 체크 (일부만)
-            int originalTextCount = 0;
-            for (TranslatableText tt : translatableTexts) {
-                String currentText = tt.textNode.text().trim();
-                if (currentText.equals(tt.originalText)) {
-                    originalTextCount++;
+            // 대용량 페이지는 문서 번역 API 사용 (실패하면 텍스트 노드 단위 번역으로 진행)
+            if (useDocumentMode(prepared)) {
+                Map<String, HtmlTranslationResult> documentResults =
+                        translateAsDocument(doc, targetLangs, sourceLang, deadline);
+                if (documentResults != null) {
+                    return documentResults;
                 }
             }
-            if (originalTextCount > 0) {
-                log.warn("번역이 적용되지 않은 텍스트 노드가 {}개 있습니다.", originalTextCount);
+
+            // 언어별 번역 (결과는 언어별 배열에 저장하고 문서는 변경하지 않음)
+            Map<String, LanguageRun> runs = new LinkedHashMap<>();
+            if (targetLangs.size() == 1) {
+                String targetLang = targetLangs.get(0);
+                runs.put(targetLang, translateLanguage(prepared, targetLang, sourceLang, deadline));
+            } else {
+                Map<String, CompletableFuture<LanguageRun>> futures = new LinkedHashMap<>();
+                for (String targetLang : targetLangs) {
+                    futures.put(targetLang, translationExecutor.submit(
+                            () -> translateLanguage(prepared, targetLang, sourceLang, deadline)));
+                }
+                for (Map.Entry<String, CompletableFuture<LanguageRun>> entry : futures.entrySet()) {
+                    runs.put(entry.getKey(), translationExecutor.await(entry.getValue()));
+                }
             }
 
-            log.info("HTML 번역 완료");
-            return translatedHtml;
+            // 언어별로 번역 결과를 문서에 적용하고 HTML 재구성 (공유 문서이므로 순차 처리)
+            Map<String, HtmlTranslationResult> results = new LinkedHashMap<>();
+            for (Map.Entry<String, LanguageRun> entry : runs.entrySet()) {
+                LanguageRun run = entry.getValue();
+                applyTranslations(prepared.texts, run.translated);
+                List<Element> pendingElements = markPending(run.pending);
+
+                // 번역된 텍스트로 HTML 재구성 전에 한 번 더 스크립트 제거 (혹시 모를 경우 대비)
+                doc.select("script").remove();
+                doc.select("noscript").remove();
+
+                // React나 다른 프레임워크의 초기화 코드가 있는지 확인하고 제거
+                // window 객체를 사용하는 인라인 코드 제거를 위해 <script> 태그는 이미 제거됨
+
+                // 번역된 텍스트로 HTML 재구성
+                String translatedHtml = doc.html();
+                pendingElements.forEach(element -> element.removeAttr(PENDING_ATTRIBUTE));
+
+                // 디버깅: 번역이 제대로 적용되었는지 확인
+                int originalTextCount = 0;
+                for (TranslatableText tt : prepared.texts) {
+                    String currentText = tt.textNode.text().trim();
+                    if (currentText.equals(tt.originalText)) {
+                        originalTextCount++;
+                    }
+                }
+                if (originalTextCount > 0) {
+                    log.warn("[{}] 번역이 적용되지 않은 텍스트 노드가 {}개 있습니다.", entry.getKey(), originalTextCount);
+                }
+
+                log.info("HTML 번역 완료 [{}]{}{}", entry.getKey(),
+                        run.untranslatedCount > 0 ? " (마감 시각 초과로 부분 번역)" : "",
+                        run.pending.isEmpty() ? "" : " (재시도 대기 " + run.pending.size() + "개)");
+                results.put(entry.getKey(), HtmlTranslationResult.builder()
+                        .html(translatedHtml)
+                        .partial(run.untranslatedCount > 0 || !run.pending.isEmpty())
+                        .untranslatedCount(run.untranslatedCount)
+                        .pendingCount(run.pending.size())
+                        .jobId(run.jobId)
+                        .build());
+            }
+            return results;
 
         } catch (Exception e) {
             log.error("HTML 번역 실패", e);
@@ -132,7 +198,480 @@ public class HtmlTranslationService {
     }
 
     /**
-     * 번역 가능한 텍스트 노드들을 수집
+     * 번역 API를 호출하지 않고 번역 비용 추정 (정리/수집/그룹화 단계와 캐시 조회만 수행)
+     * 사이트 템플릿 출현 횟수는 기록하지 않는다.
+     */
+    public TranslationEstimateResponse estimate(String html, String targetLang, String sourceLang, TranslationOptions options) {
+        Document doc = Jsoup.parse(html);
+        sanitize(doc);
+        PreparedHtml prepared = prepare(doc, options, false);
+
+        long totalChars = countCharacters(prepared.texts);
+        int skipped = prepared.mainTexts != null ? prepared.texts.size() - prepared.mainTexts.size() : 0;
+
+        // 문서 번역 API는 HTML 전체를 한 번에 보내므로 캐시를 사용하지 않음
+        if (exceedsDocumentModeThreshold(prepared, totalChars)) {
+            return TranslationEstimateResponse.builder()
+                    .targetLang(targetLang)
+                    .segmentCount(prepared.texts.size())
+                    .groupCount(prepared.contextGroups.size())
+                    .totalCharacters(totalChars)
+                    .charactersToTranslate(totalChars)
+                    .uniqueCharacters(totalChars)
+                    .documentMode(true)
+                    .estimatedProviderCalls(1)
+                    .estimatedSeconds((long) Math.ceil(totalChars / documentCharsPerSecond))
+                    .build();
+        }
+
+        // 실제 번역과 같은 순서로 캐시 적용 (결과는 버리는 임시 배열에 기록)
+        String[] scratch = new String[prepared.texts.size()];
+        TemplateRun templateRun = applyTemplateCache(
+                prepared.templateIndex, templateLangKey(targetLang, sourceLang), prepared.texts, scratch);
+        List<List<TranslatableText>> selected = selectGroups(prepared, templateRun.remaining);
+        List<List<TranslatableText>> groups = skipTargetLanguageGroups(selected, targetLang);
+        List<List<TranslatableText>> remaining = applyTranslationMemory(groups, targetLang, scratch);
+
+        long charsToTranslate = 0;
+        int providerCalls = 0;
+        long uniqueChars = 0;
+        Set<String> seen = new HashSet<>();
+        for (List<TranslatableText> group : remaining) {
+            // 보호 토큰으로 바뀌는 부분은 번역기로 보내지 않으므로 제외
+            PlaceholderMasker.Masked masked = placeholderMasker.mask(combineGroupText(group));
+            if (masked.isOnlyPlaceholders()) {
+                continue;
+            }
+            String text = masked.getText();
+            providerCalls++;
+            charsToTranslate += text.length();
+            if (seen.add(text)) {
+                uniqueChars += text.length();
+            }
+        }
+
+        return TranslationEstimateResponse.builder()
+                .targetLang(targetLang)
+                .segmentCount(prepared.texts.size())
+                .groupCount(prepared.contextGroups.size())
+                .templateCachedSegments(templateRun.covered.size())
+                .memoryCachedGroups(groups.size() - remaining.size())
+                .targetLanguageGroups(selected.size() - groups.size())
+                .detectedSourceLang(prepared.pageLang)
+                .skippedSegments(skipped)
+                .totalCharacters(totalChars)
+                .charactersToTranslate(charsToTranslate)
+                .uniqueCharacters(uniqueChars)
+                .documentMode(false)
+                .estimatedProviderCalls(providerCalls)
+                .estimatedSeconds((long) Math.ceil(providerCalls / providerCallsPerSecond))
+                .build();
+    }
+
+    /**
+     * 번역 전 정리와 같은 규칙으로 스크립트, 이벤트 핸들러 등을 제거한 HTML (원문 보관/미리보기용)
+     */
+    public String sanitizeHtml(String html) {
+        Document doc = Jsoup.parse(html);
+        sanitize(doc);
+        return doc.outerHtml();
+    }
+
+    /**
+     * 번역 전에 스크립트, 이벤트 핸들러 등 동적 동작 요소를 제거
+     */
+    private void sanitize(Document doc) {
+        // JavaScript 완전 제거 (번역 전에 제거하여 동적 콘텐츠 변경 방지)
+        // 1. 모든 script 태그 제거 (인라인, 외부 모두) - 여러 번 제거하여 확실히
+        doc.select("script").remove();
+        doc.select("noscript").remove();
+        // 혹시 모를 경우를 위해 다시 한 번
+        doc.select("script").remove();
+        
+        // 2. 외부 스크립트 파일 링크 제거
+        doc.select("link[rel='preload'][as='script']").remove();
+        doc.select("link[rel='modulepreload']").remove();
+        // type이 module인 스크립트도 제거
+        doc.select("script[type='module']").remove();
+        doc.select("script[type='text/javascript']").remove();
+        
+        // 3. 이벤트 핸들러 속성 제거 (onclick, onload 등), javascript: URL 제거
+        doc.select("*").forEach(element -> {
+            java.util.List<org.jsoup.nodes.Attribute> attrsToRemove = new java.util.ArrayList<>();
+            element.attributes().forEach(attr -> {
+                String key = attr.getKey().toLowerCase();
+                // 이벤트 핸들러, 스크립트 URL 제거
+                if (key.startsWith("on") || ScriptUrlFilter.isScriptUrl(key, attr.getValue())) {
+                    attrsToRemove.add(attr);
+                }
+            });
+            attrsToRemove.forEach(attr -> element.removeAttr(attr.getKey()));
+        });
+        
+        // 4. React나 다른 프레임워크가 실행되지 않도록 제거
+        // React는 data-reactroot 등을 사용하므로 제거
+        doc.select("[data-reactroot]").removeAttr("data-reactroot");
+        doc.select("[data-react-helmet]").removeAttr("data-react-helmet");
+        // React 컴포넌트 마운트 지점 제거
+        doc.select("#root, #app, [id^='react'], [class^='react']").forEach(element -> {
+            // React 관련 속성 제거
+            element.removeAttr("data-reactroot");
+            element.removeAttr("data-react-helmet");
+        });
+        
+        // 5. 외부 API 호출을 하는 요소 제거 또는 비활성화
+        // iframe 제거 (다른 페이지 로드 방지)
+        doc.select("iframe[src]").forEach(iframe -> {
+            iframe.removeAttr("src");
+            iframe.attr("data-disabled", "true");
+        });
+        
+        // 6. manifest.json 링크 제거 (로컬 파일 로드 방지)
+        doc.select("link[rel='manifest']").remove();
+    }
+
+    /**
+     * 텍스트 노드 수집, 사이트 템플릿 블록 분석, 본문 영역 판단, 문맥 그룹화 (언어와 무관하므로 한 번만 수행)
+     *
+     * @param countTemplateOccurrence 사이트 템플릿 블록 출현 횟수 기록 여부 (비용 추정 시 false)
+     */
+    private PreparedHtml prepare(Document doc, TranslationOptions options, boolean countTemplateOccurrence) {
+        PreparedHtml prepared = new PreparedHtml();
+        prepared.texts = collectTranslatableTexts(doc);
+        log.info("번역 가능한 텍스트 노드 수: {}", prepared.texts.size());
+
+        // 같은 사이트의 반복 블록(헤더/푸터 등) 분석 - 페이지당 한 번 출현 횟수 기록
+        String host = options != null ? SiteTemplateCache.extractHost(options.getSourceUrl()) : null;
+        prepared.templateIndex = indexTemplateBlocks(doc, host, prepared.texts, countTemplateOccurrence);
+
+        // 본문만 번역하는 경우 내비게이션, 푸터, 사이드바 등의 텍스트는 원문 유지 (캐시된 번역은 적용됨)
+        if (options != null && options.isMainContentOnly()) {
+            prepared.mainTexts = Collections.newSetFromMap(new IdentityHashMap<>());
+            prepared.mainTexts.addAll(filterMainContent(doc, prepared.texts));
+        }
+
+        // 문맥을 고려한 그룹화: 같은 부모 요소(문단, 섹션 등)의 텍스트를 함께 번역
+        prepared.contextGroups = groupByContext(prepared.texts);
+        log.info("문맥 그룹 수: {}개", prepared.contextGroups.size());
+
+        // 문맥 그룹별 언어 감지 (이미 대상 언어인 그룹 건너뛰기, 페이지 언어 표시에 사용)
+        detectLanguages(prepared);
+        return prepared;
+    }
+
+    /**
+     * 문맥 그룹별로 언어를 감지하고, 문자 수 기준으로 가장 많은 언어를 페이지 언어로 정함
+     * 번역을 건너뛰는 판단에는 길고 점수 차이가 큰 그룹만 판별하는 엄격한 감지 결과를 따로 저장
+     */
+    private void detectLanguages(PreparedHtml prepared) {
+        if (!languageDetector.isEnabled()) {
+            return;
+        }
+        Map<String, Long> charsByLang = new HashMap<>();
+        for (List<TranslatableText> group : prepared.contextGroups) {
+            String text = combineGroupText(group);
+            String lang = languageDetector.detect(text);
+            if (lang == null) {
+                continue;
+            }
+            String confidentLang = languageDetector.detectConfidently(text);
+            for (TranslatableText tt : group) {
+                tt.confidentLang = confidentLang;
+            }
+            charsByLang.merge(lang, (long) text.length(), Long::sum);
+        }
+        prepared.pageLang = charsByLang.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+        if (prepared.pageLang != null) {
+            log.info("감지된 페이지 언어: {} (언어별 문자 수: {})", prepared.pageLang, charsByLang);
+        }
+    }
+
+    /**
+     * 문서 번역 API를 사용할지 판단 (본문만 번역하는 경우는 노드 단위 선택이 필요하므로 제외)
+     */
+    private boolean useDocumentMode(PreparedHtml prepared) {
+        long totalChars = countCharacters(prepared.texts);
+        if (!exceedsDocumentModeThreshold(prepared, totalChars)) {
+            return false;
+        }
+        log.info("번역할 텍스트가 {}자로 기준({}자)을 넘어 문서 번역 API를 사용합니다.", totalChars, documentModeThresholdChars);
+        return true;
+    }
+
+    private boolean exceedsDocumentModeThreshold(PreparedHtml prepared, long totalChars) {
+        return documentModeEnabled && prepared.mainTexts == null && totalChars >= documentModeThresholdChars;
+    }
+
+    private long countCharacters(List<TranslatableText> texts) {
+        long totalChars = 0;
+        for (TranslatableText tt : texts) {
+            totalChars += tt.originalText.length();
+        }
+        return totalChars;
+    }
+
+    /**
+     * 정리된 HTML 전체를 DeepL 문서 번역 API로 번역
+     * 언어별 업로드/상태 확인/다운로드는 비동기로 동시에 진행되고, 호출 스레드는 결과만 기다린다.
+     *
+     * @return 대상 언어 -> 번역 결과, 실패하면 null (호출자가 텍스트 노드 단위 번역으로 대체)
+     */
+    private Map<String, HtmlTranslationResult> translateAsDocument(Document doc, List<String> targetLangs, String sourceLang,
+                                                                   Deadline deadline) {
+        doc.select("script").remove();
+        doc.select("noscript").remove();
+        String sanitizedHtml = doc.html();
+
+        // 제한 시간이 지나면 Mono가 스스로 취소되어 DeepL 폴링이 계속 남지 않음
+        Duration timeout = Duration.ofMillis(Math.max(0,
+                deadline.budgetMillis(TimeUnit.SECONDS.toMillis(documentModeTimeoutSeconds))));
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        for (String targetLang : targetLangs) {
+            futures.put(targetLang, translationService.translateDocument(sanitizedHtml, targetLang, sourceLang, timeout).toFuture());
+        }
+
+        Map<String, HtmlTranslationResult> results = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, CompletableFuture<String>> entry : futures.entrySet()) {
+                long waitMillis = deadline.budgetMillis(TimeUnit.SECONDS.toMillis(documentModeTimeoutSeconds));
+                String translatedHtml = entry.getValue().get(Math.max(0, waitMillis), TimeUnit.MILLISECONDS);
+                log.info("HTML 문서 번역 완료 [{}] - 길이: {}", entry.getKey(), translatedHtml.length());
+                results.put(entry.getKey(), HtmlTranslationResult.builder()
+                        .html(translatedHtml)
+                        .partial(false)
+                        .untranslatedCount(0)
+                        .build());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(f -> f.cancel(true));
+            throw new IllegalStateException("문서 번역 대기 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            futures.values().forEach(f -> f.cancel(true));
+            log.warn("문서 번역 실패. 텍스트 노드 단위 번역으로 진행합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 한 언어의 번역 실행. 결과는 텍스트 노드 순서의 배열로 반환하고 문서는 변경하지 않는다.
+     */
+    private LanguageRun translateLanguage(PreparedHtml prepared, String targetLang, String sourceLang, Deadline deadline) {
+        String[] translated = new String[prepared.texts.size()];
+
+        // 캐시된 반복 블록 번역 적용
+        TemplateRun templateRun = applyTemplateCache(
+                prepared.templateIndex, templateLangKey(targetLang, sourceLang), prepared.texts, translated);
+
+        Set<TranslatableText> toTranslate = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<List<TranslatableText>> groups = selectGroups(prepared, templateRun.remaining);
+        for (List<TranslatableText> group : groups) {
+            toTranslate.addAll(group);
+        }
+
+        // 이미 대상 언어로 쓰인 문맥 그룹은 원문 유지
+        groups = skipTargetLanguageGroups(groups, targetLang);
+
+        // 검수된 번역이 번역 메모리에 있는 문맥 그룹은 DeepL 호출 없이 적용
+        groups = applyTranslationMemory(groups, targetLang, translated);
+
+        // 이전 실행(실패/부분 번역)에서 번역해 둔 문맥 그룹은 체크포인트에서 적용
+        TranslationCheckpointService.Checkpoint checkpoint = translationCheckpointService.open(
+                prepared.checkpointSource, prepared.sourceUrl, targetLang, sourceLang, groups.size());
+        groups = applyCheckpoint(groups, checkpoint, targetLang, translated);
+
+        // 텍스트들을 배치로 번역 (DeepL API 효율성 고려)
+        List<TranslatableText> pending = new ArrayList<>();
+        int untranslatedCount = -1;
+        try {
+            untranslatedCount = translateTextNodes(groups, targetLang, sourceLang, deadline,
+                    checkpoint, translated, pending);
+        } finally {
+            // 중간에 예외가 나도 그때까지 번역된 문맥 그룹은 저장 (재시도 시 실패한 그룹부터 번역)
+            translationCheckpointService.finish(checkpoint, untranslatedCount < 0 ? -1 : untranslatedCount + pending.size());
+        }
+
+        // 이번에 번역된 반복 블록을 캐시에 저장
+        storeTemplateTranslations(templateRun, toTranslate, translated);
+
+        return new LanguageRun(translated, untranslatedCount, pending, checkpoint.getJobId());
+    }
+
+    /**
+     * 엄격한 로컬 언어 감지 결과가 대상 언어와 같은 문맥 그룹 제외 (번역 결과를 비워 두어 원문이 유지됨)
+     */
+    private List<List<TranslatableText>> skipTargetLanguageGroups(List<List<TranslatableText>> groups, String targetLang) {
+        List<List<TranslatableText>> remaining = new ArrayList<>();
+        int skipped = 0;
+        for (List<TranslatableText> group : groups) {
+            if (LanguageDetector.isSameLanguage(group.get(0).confidentLang, targetLang)) {
+                skipped++;
+            } else {
+                remaining.add(group);
+            }
+        }
+        if (skipped > 0) {
+            log.info("이미 대상 언어({})인 문맥 그룹 {}개는 번역하지 않음", targetLang, skipped);
+        }
+        return remaining;
+    }
+
+    /**
+     * 원문 언어가 자동(auto)이면 null을 반환해 source_lang 없이 요청 (DeepL이 직접 감지)
+     * 로컬 감지 결과는 오판할 수 있으므로 원문 언어로 지정하지 않음
+     */
+    private String resolveSourceLang(String sourceLang) {
+        if (sourceLang != null && !sourceLang.isEmpty() && !sourceLang.equalsIgnoreCase("auto")) {
+            return sourceLang;
+        }
+        return null;
+    }
+
+    /**
+     * 공유 문맥 그룹에서 이번에 번역할 텍스트만 남김 (캐시가 적용되지 않았고, 본문만 번역하는 경우 본문인 텍스트)
+     */
+    private List<List<TranslatableText>> selectGroups(PreparedHtml prepared, List<TranslatableText> candidates) {
+        Set<TranslatableText> toTranslate = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TranslatableText tt : candidates) {
+            if (prepared.mainTexts == null || prepared.mainTexts.contains(tt)) {
+                toTranslate.add(tt);
+            }
+        }
+
+        List<List<TranslatableText>> groups = new ArrayList<>();
+        for (List<TranslatableText> group : prepared.contextGroups) {
+            List<TranslatableText> filtered = new ArrayList<>();
+            for (TranslatableText tt : group) {
+                if (toTranslate.contains(tt)) {
+                    filtered.add(tt);
+                }
+            }
+            if (!filtered.isEmpty()) {
+                groups.add(filtered);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * 번역 메모리에서 문맥 그룹의 검수된 번역을 찾아 적용
+     * 그룹 전체 텍스트가 없으면 문장 단위로 찾아, 모든 문장이 있을 때만 이어 붙여 적용한다.
+     *
+     * @return 번역 메모리에 없어 번역해야 하는 그룹
+     */
+    private List<List<TranslatableText>> applyTranslationMemory(List<List<TranslatableText>> groups, String targetLang,
+                                                                String[] translated) {
+        if (!translationMemoryService.isEnabled() || groups.isEmpty()) {
+            return groups;
+        }
+
+        List<String> groupTexts = new ArrayList<>(groups.size());
+        Set<String> lookupTexts = new LinkedHashSet<>();
+        for (List<TranslatableText> group : groups) {
+            String groupText = combineGroupText(group);
+            groupTexts.add(groupText);
+            lookupTexts.add(groupText);
+            String[] sentences = ContextSegmenter.splitSentences(groupText);
+            if (sentences.length > 1) {
+                Collections.addAll(lookupTexts, sentences);
+            }
+        }
+        Map<String, String> memory = translationMemoryService.lookup(lookupTexts, targetLang);
+        if (memory.isEmpty()) {
+            return groups;
+        }
+
+        List<List<TranslatableText>> remaining = new ArrayList<>();
+        int hitGroups = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            String reviewed = memory.get(groupTexts.get(i));
+            if (reviewed == null) {
+                reviewed = joinSentenceTranslations(groupTexts.get(i), memory, targetLang);
+            }
+            if (reviewed != null) {
+                distributeTranslatedText(groups.get(i), groupTexts.get(i), reviewed, translated);
+                hitGroups++;
+            } else {
+                remaining.add(groups.get(i));
+            }
+        }
+        log.info("번역 메모리 적용 [{}] - 문맥 그룹 {}개", targetLang, hitGroups);
+        return remaining;
+    }
+
+    /**
+     * 그룹 텍스트의 모든 문장이 번역 메모리에 있으면 문장 번역을 이어 붙여 반환
+     *
+     * @return 이어 붙인 번역, 문장이 하나뿐이거나 없는 문장이 있으면 null
+     */
+    private String joinSentenceTranslations(String groupText, Map<String, String> memory, String targetLang) {
+        String[] sentences = ContextSegmenter.splitSentences(groupText);
+        if (sentences.length < 2) {
+            return null;
+        }
+        // 중국어/일본어는 문장 사이에 공백을 두지 않음
+        String lang = targetLang.toUpperCase(Locale.ROOT);
+        String separator = lang.startsWith("ZH") || lang.startsWith("JA") ? "" : " ";
+        StringBuilder joined = new StringBuilder();
+        for (String sentence : sentences) {
+            String reviewed = memory.get(sentence);
+            if (reviewed == null) {
+                return null;
+            }
+            if (joined.length() > 0) {
+                joined.append(separator);
+            }
+            joined.append(reviewed);
+        }
+        return joined.toString();
+    }
+
+    /**
+     * 체크포인트에 저장된 문맥 그룹 번역 적용
+     *
+     * @return 체크포인트에 없어 번역해야 하는 그룹
+     */
+    private List<List<TranslatableText>> applyCheckpoint(List<List<TranslatableText>> groups,
+                                                         TranslationCheckpointService.Checkpoint checkpoint,
+                                                         String targetLang, String[] translated) {
+        if (!checkpoint.isEnabled() || groups.isEmpty()) {
+            return groups;
+        }
+
+        List<List<TranslatableText>> remaining = new ArrayList<>();
+        int resumedGroups = 0;
+        for (List<TranslatableText> group : groups) {
+            String fullText = combineGroupText(group);
+            String saved = checkpoint.lookup(fullText);
+            if (saved != null) {
+                distributeTranslatedText(group, fullText, saved, translated);
+                resumedGroups++;
+            } else {
+                remaining.add(group);
+            }
+        }
+        if (resumedGroups > 0) {
+            log.info("번역 체크포인트 적용 [{}] - 문맥 그룹 {}개 재사용, {}개 번역", targetLang, resumedGroups, remaining.size());
+        }
+        return remaining;
+    }
+
+    /**
+     * 언어별 번역 결과를 텍스트 노드에 적용 (번역되지 않은 노드는 원문으로 되돌림)
+     */
+    private void applyTranslations(List<TranslatableText> texts, String[] translated) {
+        for (TranslatableText tt : texts) {
+            String text = translated[tt.index];
+            tt.textNode.text(text != null ? text : tt.rawText);
+        }
+    }
+
+    /**
+     * 번역 가능한 텍스트 노드들을 수집 (선택 규칙은 번역 메모리 정렬과 공유)
      */
     private List<TranslatableText> collectTranslatableTexts(Document doc) {
         List<TranslatableText> texts = new ArrayList<>();
@@ -141,30 +680,9 @@ public class HtmlTranslationService {
         doc.traverse(new org.jsoup.select.NodeVisitor() {
             @Override
             public void head(Node node, int depth) {
-                if (node instanceof TextNode) {
+                if (node instanceof TextNode && ContextSegmenter.isTranslatable((TextNode) node)) {
                     TextNode textNode = (TextNode) node;
-                    String text = textNode.text().trim();
-                    
-                    // 빈 텍스트나 공백만 있는 경우 스킵
-                    if (text.isEmpty() || text.length() < 2) {
-                        return;
-                    }
-
-                    // 부모 태그 확인
-                    Node parentNode = textNode.parent();
-                    if (parentNode instanceof Element) {
-                        Element parent = (Element) parentNode;
-                        if (SKIP_TAGS.contains(parent.tagName().toLowerCase())) {
-                            return;
-                        }
-                    }
-
-                    // 특정 패턴 스킵 (URL, 이메일, 숫자만 있는 경우 등)
-                    if (shouldSkipText(text)) {
-                        return;
-                    }
-
-                    texts.add(new TranslatableText(textNode, text));
+                    texts.add(new TranslatableText(textNode, textNode.text().trim(), texts.size()));
                 }
             }
 
@@ -178,52 +696,189 @@ public class HtmlTranslationService {
     }
 
     /**
-     * 번역하지 않아야 할 텍스트인지 확인
+     * 페이지의 템플릿 후보 블록을 분석하고 텍스트 노드를 자신이 속한 블록들에 배정 (블록 내 순서 = 문서 순서)
      */
-    private boolean shouldSkipText(String text) {
-        // URL 패턴
-        if (Pattern.matches("^https?://.*", text)) {
-            return true;
+    private TemplateIndex indexTemplateBlocks(Document doc, String host, List<TranslatableText> texts,
+                                              boolean countOccurrence) {
+        TemplateIndex index = new TemplateIndex(host, siteTemplateCache.analyze(host, doc, countOccurrence));
+        if (index.blocks.isEmpty()) {
+            return index;
         }
-        
-        // 이메일 패턴
-        if (Pattern.matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$", text)) {
-            return true;
+
+        Map<Element, SiteTemplateCache.TemplateBlock> blockByElement = new IdentityHashMap<>();
+        for (SiteTemplateCache.TemplateBlock block : index.blocks) {
+            blockByElement.put(block.getElement(), block);
         }
-        
-        // 숫자만 있는 경우
-        if (Pattern.matches("^\\d+$", text)) {
-            return true;
+        for (TranslatableText tt : texts) {
+            for (Node node = tt.textNode.parent(); node instanceof Element; node = node.parent()) {
+                SiteTemplateCache.TemplateBlock block = blockByElement.get(node);
+                if (block != null) {
+                    index.blockTexts.computeIfAbsent(block, b -> new ArrayList<>()).add(tt);
+                }
+            }
         }
-        
-        // 공백이나 특수문자만 있는 경우
-        if (Pattern.matches("^[\\s\\p{Punct}]+$", text)) {
-            return true;
+        return index;
+    }
+
+    /**
+     * 반복 블록 중 번역이 캐시된 블록은 캐시를 결과 배열에 적용하고, 나머지 텍스트 노드를 번역 대상으로 반환한다.
+     * 캐시가 없는 반복 블록은 번역 후 저장할 수 있도록 기록해 둔다.
+     */
+    private TemplateRun applyTemplateCache(TemplateIndex index, String langKey, List<TranslatableText> texts,
+                                           String[] translated) {
+        TemplateRun run = new TemplateRun(index.host, langKey);
+        if (index.blocks.isEmpty()) {
+            run.remaining = texts;
+            return run;
+        }
+
+        // 바깥 블록부터 (문서 순서) 캐시 적용
+        Set<TranslatableText> covered = Collections.newSetFromMap(new IdentityHashMap<>());
+        int hitBlocks = 0;
+        for (SiteTemplateCache.TemplateBlock block : index.blocks) {
+            List<TranslatableText> ownTexts = index.blockTexts.get(block);
+            if (!block.isRecurring() || ownTexts == null || ownTexts.stream().anyMatch(covered::contains)) {
+                continue;
+            }
+            List<String> cached = siteTemplateCache.getTranslation(index.host, block.getFingerprint(), langKey);
+            if (cached != null && cached.size() == ownTexts.size()) {
+                for (int i = 0; i < ownTexts.size(); i++) {
+                    translated[ownTexts.get(i).index] = cached.get(i);
+                }
+                covered.addAll(ownTexts);
+                hitBlocks++;
+            } else {
+                run.blocksToStore.put(block, ownTexts);
+            }
+        }
+
+        List<TranslatableText> remaining = new ArrayList<>();
+        for (TranslatableText tt : texts) {
+            if (!covered.contains(tt)) {
+                remaining.add(tt);
+            }
+        }
+        run.remaining = remaining;
+        run.covered = covered;
+
+        if (hitBlocks > 0) {
+            log.info("사이트 템플릿 캐시 적용 - 호스트: {}, 언어: {}, 블록 {}개, 텍스트 노드 {}개",
+                    index.host, langKey, hitBlocks, covered.size());
+        }
+        return run;
+    }
+
+    /**
+     * 번역된 반복 블록의 결과를 캐시에 저장. 블록의 모든 텍스트가 이번에 번역(또는 캐시 적용)된 경우만 저장한다.
+     */
+    private void storeTemplateTranslations(TemplateRun run, Set<TranslatableText> requested, String[] translated) {
+        if (run.blocksToStore.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<SiteTemplateCache.TemplateBlock, List<TranslatableText>> entry : run.blocksToStore.entrySet()) {
+            List<TranslatableText> ownTexts = entry.getValue();
+            boolean complete = true;
+            boolean changed = false;
+            List<String> result = new ArrayList<>();
+            for (TranslatableText tt : ownTexts) {
+                String current = translated[tt.index];
+                if (current == null || (!requested.contains(tt) && !run.covered.contains(tt))) {
+                    complete = false;
+                    break;
+                }
+                if (!current.trim().equals(tt.originalText)) {
+                    changed = true;
+                }
+                result.add(current);
+            }
+            // 번역 실패로 원문이 그대로 남은 블록은 저장하지 않음
+            if (complete && changed) {
+                siteTemplateCache.putTranslation(run.host, entry.getKey().getFingerprint(), run.langKey, result);
+            }
+        }
+    }
+
+    private String templateLangKey(String targetLang, String sourceLang) {
+        String source = sourceLang == null || sourceLang.isEmpty() ? "AUTO" : sourceLang.toUpperCase();
+        return source + ":" + targetLang.toUpperCase();
+    }
+
+    /**
+     * 본문 영역(및 문서 제목, h1)에 속한 텍스트 노드만 남긴다.
+     * 본문 영역을 찾지 못하면 전체 텍스트를 그대로 번역한다.
+     */
+    private List<TranslatableText> filterMainContent(Document doc, List<TranslatableText> texts) {
+        List<Element> mainBlocks = mainContentExtractor.findMainContent(doc);
+        if (mainBlocks.isEmpty()) {
+            return texts;
+        }
+
+        Set<Element> mainSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        mainSet.addAll(mainBlocks);
+
+        List<TranslatableText> filtered = new ArrayList<>();
+        for (TranslatableText tt : texts) {
+            if (isInMainContent(tt.textNode, mainSet)) {
+                filtered.add(tt);
+            }
         }
+        log.info("본문 영역 텍스트 노드: {}개 (제외: {}개)", filtered.size(), texts.size() - filtered.size());
+        return filtered;
+    }
 
+    private boolean isInMainContent(TextNode textNode, Set<Element> mainSet) {
+        for (Node node = textNode.parent(); node instanceof Element; node = node.parent()) {
+            Element element = (Element) node;
+            if (mainSet.contains(element)) {
+                return true;
+            }
+            String tagName = element.tagName().toLowerCase();
+            if (tagName.equals("title") || tagName.equals("h1")) {
+                return true;
+            }
+        }
         return false;
     }
 
     /**
      * 텍스트 노드들을 번역
      * 문맥을 고려한 배치 번역으로 품질과 속도 모두 개선
+     * 번역 결과는 텍스트 노드 순서의 배열(translated)에 저장한다.
+     * 번역에 실패한 문맥 그룹은 텍스트 노드별로 다시 호출하지 않고 재시도 대기열로 보내며,
+     * 그 텍스트 노드는 pending에 담아 원문으로 둔다.
+     *
+     * @return 마감 시각 초과로 번역하지 못한 텍스트 노드 수
      */
-    private void translateTextNodes(List<TranslatableText> texts, String targetLang, String sourceLang) {
-        if (texts.isEmpty()) {
-            return;
+    private int translateTextNodes(List<List<TranslatableText>> contextGroups, String targetLang, String sourceLang,
+                                   Deadline deadline, TranslationCheckpointService.Checkpoint checkpoint,
+                                   String[] translated, List<TranslatableText> pending) {
+        if (contextGroups.isEmpty()) {
+            return 0;
         }
 
-        log.info("번역 시작 - 총 {}개 텍스트 노드", texts.size());
-        
-        // 문맥을 고려한 그룹화: 같은 부모 요소(문단, 섹션 등)의 텍스트를 함께 번역
-        List<List<TranslatableText>> contextGroups = groupByContext(texts);
-        log.info("문맥 그룹 수: {}개", contextGroups.size());
+        log.info("번역 시작 [{}] - 문맥 그룹 {}개, 텍스트 노드 {}개", targetLang, contextGroups.size(),
+                contextGroups.stream().mapToInt(List::size).sum());
         
         int totalBatches = 0;
         int currentBatchNumber = 0;
+        int untranslatedCount = 0;
+        int consecutiveFailures = 0;
         
         // 각 문맥 그룹을 처리
-        for (List<TranslatableText> contextGroup : contextGroups) {
+        for (int groupIndex = 0; groupIndex < contextGroups.size(); groupIndex++) {
+            List<TranslatableText> contextGroup = contextGroups.get(groupIndex);
+
+            // 마감 시각이 지나면 남은 그룹은 원문으로 두고 중단
+            if (deadline.isExpired()) {
+                for (int i = groupIndex; i < contextGroups.size(); i++) {
+                    untranslatedCount += contextGroups.get(i).size();
+                }
+                log.warn("번역 마감 시각 초과 - 남은 그룹 {}개 ({}개 텍스트 노드)는 원문 유지",
+                        contextGroups.size() - groupIndex, untranslatedCount);
+                break;
+            }
+
             // 문맥 그룹의 모든 텍스트를 합쳐서 하나의 문장/문단으로 번역
             // 이렇게 하면 문맥이 유지되어 번역 품질이 향상됨
             if (contextGroup.isEmpty()) {
@@ -231,33 +886,31 @@ public class HtmlTranslationService {
             }
             
             // 같은 문맥 그룹의 모든 텍스트를 합치기
-            StringBuilder combinedText = new StringBuilder();
-            for (int i = 0; i < contextGroup.size(); i++) {
-                TranslatableText tt = contextGroup.get(i);
-                String text = tt.originalText;
-                
-                // 텍스트 사이에 공백 추가 (단, 이미 공백으로 시작/끝나면 제외)
-                if (i > 0 && !text.startsWith(" ") && !combinedText.toString().endsWith(" ")) {
-                    combinedText.append(" ");
-                }
-                combinedText.append(text);
-            }
-            
-            String fullText = combinedText.toString().trim();
+            String fullText = combineGroupText(contextGroup);
+            String groupSourceLang = resolveSourceLang(sourceLang);
             
             // 빈 텍스트 체크
             if (fullText.isEmpty()) {
                 log.debug("빈 텍스트 그룹 스킵");
                 continue;
             }
+
+            // 연속 실패 중이면 (대부분 Rate Limit) 더 호출하지 않고 재시도 대기열로 보냄
+            if (consecutiveFailures >= maxConsecutiveFailures) {
+                deferGroup(contextGroup, groupIndex, fullText, targetLang, groupSourceLang, checkpoint, pending);
+                continue;
+            }
             
             // 합쳐진 텍스트를 번역
             try {
-                String translatedText = translationService.translate(fullText, targetLang, sourceLang);
+                // 동시에 번역 중인 다른 요청의 텍스트와 한 번의 API 호출로 묶일 수 있음
+                String translatedText = translateProtected(fullText, targetLang, groupSourceLang, deadline);
                 
                 // 번역된 텍스트를 원래 텍스트 노드들에 분배
                 // 원본 텍스트의 비율에 따라 번역된 텍스트를 분배
-                distributeTranslatedText(contextGroup, fullText, translatedText);
+                distributeTranslatedText(contextGroup, fullText, translatedText, translated);
+                checkpoint.record(groupIndex, fullText, translatedText);
+                consecutiveFailures = 0;
                 
                 currentBatchNumber++;
                 totalBatches++;
@@ -266,15 +919,12 @@ public class HtmlTranslationService {
                 
             } catch (Exception e) {
                 log.error("문맥 그룹 번역 실패: {}", e.getMessage());
-                // 실패 시 개별 번역으로 폴백
-                for (TranslatableText tt : contextGroup) {
-                    try {
-                        String translated = translationService.translate(tt.originalText, targetLang, sourceLang);
-                        tt.textNode.text(translated.trim());
-                    } catch (Exception ex) {
-                        log.warn("개별 번역 실패: {}", ex.getMessage());
-                    }
+                consecutiveFailures++;
+                if (consecutiveFailures == maxConsecutiveFailures) {
+                    log.warn("문맥 그룹 번역이 {}회 연속 실패하여 남은 그룹은 재시도 대기열로 보냅니다.", consecutiveFailures);
                 }
+                deferGroup(contextGroup, groupIndex, fullText, targetLang, groupSourceLang, checkpoint, pending);
+                continue;
             }
             
             // 배치 간 짧은 대기 (50ms)
@@ -286,53 +936,87 @@ public class HtmlTranslationService {
             }
         }
         
-        log.info("모든 텍스트 노드 번역 완료! (총 {}개 배치)", totalBatches);
+        log.info("모든 텍스트 노드 번역 완료! (총 {}개 배치, 재시도 대기 텍스트 노드 {}개)", totalBatches, pending.size());
+        return untranslatedCount;
+    }
+
+    /**
+     * 번역하지 못한 문맥 그룹을 재시도 대기열에 넣고 텍스트 노드는 재시도 대기로 표시 (원문 유지)
+     * 재시도 결과는 체크포인트에 저장되어 같은 페이지를 다시 번역할 때 적용된다.
+     */
+    private void deferGroup(List<TranslatableText> contextGroup, int groupIndex, String fullText, String targetLang,
+                            String groupSourceLang, TranslationCheckpointService.Checkpoint checkpoint,
+                            List<TranslatableText> pending) {
+        segmentRetryQueue.enqueue(checkpoint, groupIndex, fullText, targetLang, groupSourceLang);
+        pending.addAll(contextGroup);
+    }
+
+    /**
+     * 재시도 대기 중인 텍스트 노드의 부모 요소에 표시 속성을 붙임
+     *
+     * @return 속성을 붙인 요소 (HTML 생성 후 속성 제거용, 문서는 언어 간에 공유됨)
+     */
+    private List<Element> markPending(List<TranslatableText> pending) {
+        List<Element> marked = new ArrayList<>();
+        for (TranslatableText tt : pending) {
+            Element parent = tt.textNode.parent() instanceof Element ? (Element) tt.textNode.parent() : null;
+            if (parent != null && !parent.hasAttr(PENDING_ATTRIBUTE)) {
+                parent.attr(PENDING_ATTRIBUTE, "true");
+                marked.add(parent);
+            }
+        }
+        return marked;
     }
     
+    /**
+     * URL, 코드 식별자, 버전 번호 등은 토큰으로 바꿔 번역하고 번역 후 복원
+     * 번역기가 토큰을 잃어버리면 원문 그대로 다시 번역한다.
+     */
+    private String translateProtected(String text, String targetLang, String sourceLang, Deadline deadline) {
+        PlaceholderMasker.Masked masked = placeholderMasker.mask(text);
+        if (!masked.hasSpans()) {
+            return translationService.translateBatched(text, targetLang, sourceLang, deadline);
+        }
+        if (masked.isOnlyPlaceholders()) {
+            return text; // 번역할 내용 없음
+        }
+
+        String translated = translationService.translateBatched(masked.getText(), targetLang, sourceLang, deadline);
+        String restored = placeholderMasker.unmask(translated, masked);
+        if (restored != null) {
+            return restored;
+        }
+        log.debug("번역 결과에서 보호 토큰을 복원하지 못해 원문으로 다시 번역합니다.");
+        return translationService.translateBatched(text, targetLang, sourceLang, deadline);
+    }
+
+    /**
+     * 문맥 그룹의 텍스트를 하나의 문장/문단으로 합침
+     */
+    private String combineGroupText(List<TranslatableText> contextGroup) {
+        List<String> texts = new ArrayList<>(contextGroup.size());
+        for (TranslatableText tt : contextGroup) {
+            texts.add(tt.originalText);
+        }
+        return ContextGroupText.combine(texts);
+    }
+
     /**
      * 번역된 텍스트를 원래 텍스트 노드들에 분배
      * 원본 텍스트의 비율에 따라 번역된 텍스트를 분배하여 HTML 구조 유지
      */
-    private void distributeTranslatedText(List<TranslatableText> textNodes, String originalFullText, String translatedFullText) {
-        if (textNodes.size() == 1) {
-            // 텍스트 노드가 하나면 그대로 적용
-            textNodes.get(0).textNode.text(translatedFullText.trim());
-            return;
+    private void distributeTranslatedText(List<TranslatableText> textNodes, String originalFullText, String translatedFullText,
+                                          String[] translated) {
+        List<String> originalTexts = new ArrayList<>(textNodes.size());
+        for (TranslatableText tt : textNodes) {
+            originalTexts.add(tt.originalText);
         }
-        
-        // 원본 텍스트의 각 부분의 길이 비율 계산
-        int totalLength = originalFullText.length();
-        if (totalLength == 0) {
+        List<String> parts = ContextGroupText.distribute(originalTexts, originalFullText, translatedFullText);
+        if (parts == null) {
             return;
         }
-        
-        // 각 텍스트 노드의 원본 텍스트 길이 비율 계산
-        List<Double> ratios = new ArrayList<>();
-        for (TranslatableText tt : textNodes) {
-            double ratio = (double) tt.originalText.length() / totalLength;
-            ratios.add(ratio);
-        }
-        
-        // 번역된 텍스트를 비율에 따라 분배
-        int translatedLength = translatedFullText.length();
-        int currentPos = 0;
-        
         for (int i = 0; i < textNodes.size(); i++) {
-            TranslatableText tt = textNodes.get(i);
-            double ratio = ratios.get(i);
-            int segmentLength = (int) (translatedLength * ratio);
-            
-            // 마지막 세그먼트는 남은 모든 텍스트 사용
-            if (i == textNodes.size() - 1) {
-                String remainingText = translatedFullText.substring(currentPos).trim();
-                tt.textNode.text(remainingText.isEmpty() ? translatedFullText.substring(currentPos) : remainingText);
-            } else {
-                int endPos = Math.min(currentPos + segmentLength, translatedLength);
-                String segmentText = translatedFullText.substring(currentPos, endPos).trim();
-                // 빈 텍스트가 되면 공백 하나만 유지
-                tt.textNode.text(segmentText.isEmpty() ? " " : segmentText);
-                currentPos = endPos;
-            }
+            translated[textNodes.get(i).index] = parts.get(i);
         }
     }
     
@@ -346,32 +1030,8 @@ public class HtmlTranslationService {
         Element lastParent = null;
         
         for (TranslatableText translatableText : texts) {
-            Node parentNode = translatableText.textNode.parent();
-            Element currentParent = null;
-            
-            if (parentNode instanceof Element) {
-                currentParent = (Element) parentNode;
-                
-                // 문단, 제목, 리스트 항목 등 문맥 단위 찾기
-                while (currentParent != null) {
-                    String tagName = currentParent.tagName().toLowerCase();
-                    // 문맥 단위로 간주할 태그들
-                    if (tagName.equals("p") || tagName.equals("h1") || tagName.equals("h2") || 
-                        tagName.equals("h3") || tagName.equals("h4") || tagName.equals("h5") || 
-                        tagName.equals("h6") || tagName.equals("li") || tagName.equals("td") || 
-                        tagName.equals("th") || tagName.equals("blockquote") || 
-                        tagName.equals("article") || tagName.equals("section") ||
-                        tagName.equals("div") || tagName.equals("span")) {
-                        break;
-                    }
-                    Node parent = currentParent.parent();
-                    if (parent instanceof Element) {
-                        currentParent = (Element) parent;
-                    } else {
-                        currentParent = null;
-                    }
-                }
-            }
+            // 문단, 제목, 리스트 항목 등 문맥 단위 찾기 (규칙은 번역 메모리 정렬과 공유)
+            Element currentParent = ContextSegmenter.contextParent(translatableText.textNode);
             
             // 부모가 변경되면 새 그룹 시작
             if (lastParent != null && !lastParent.equals(currentParent)) {
@@ -458,16 +1118,81 @@ public class HtmlTranslationService {
     }
 
 
+    /**
+     * 언어와 무관한 번역 준비 결과 (모든 대상 언어가 공유)
+     */
+    private static class PreparedHtml {
+        List<TranslatableText> texts;
+        List<List<TranslatableText>> contextGroups;
+        TemplateIndex templateIndex;
+        Set<TranslatableText> mainTexts; // 본문만 번역하는 경우의 본문 텍스트 (null이면 전체)
+        String pageLang; // 로컬 감지한 페이지 주 언어 (감지하지 못하면 null)
+        String sourceUrl; // 원본 페이지 URL (없으면 null)
+        String checkpointSource; // 체크포인트 작업 식별에 사용하는 원본 (URL 또는 HTML)
+    }
+
+    /**
+     * 한 언어의 번역 결과 (텍스트 노드 순서, 번역하지 않은 노드는 null)
+     */
+    private static class LanguageRun {
+        final String[] translated;
+        final int untranslatedCount;
+        final List<TranslatableText> pending; // 번역에 실패해 재시도 대기 중인 텍스트 노드
+        final Long jobId; // 번역 체크포인트 작업 ID (체크포인트가 없으면 null)
+
+        LanguageRun(String[] translated, int untranslatedCount, List<TranslatableText> pending, Long jobId) {
+            this.translated = translated;
+            this.untranslatedCount = untranslatedCount;
+            this.pending = pending;
+            this.jobId = jobId;
+        }
+    }
+
+    /**
+     * 페이지의 사이트 템플릿 후보 블록과 블록별 텍스트 노드
+     */
+    private static class TemplateIndex {
+        final String host;
+        final List<SiteTemplateCache.TemplateBlock> blocks;
+        final Map<SiteTemplateCache.TemplateBlock, List<TranslatableText>> blockTexts = new IdentityHashMap<>();
+
+        TemplateIndex(String host, List<SiteTemplateCache.TemplateBlock> blocks) {
+            this.host = host;
+            this.blocks = blocks;
+        }
+    }
+
+    /**
+     * 한 언어 번역에서 사이트 템플릿 캐시 처리 상태
+     */
+    private static class TemplateRun {
+        final String host;
+        final String langKey;
+        List<TranslatableText> remaining;
+        Set<TranslatableText> covered = Collections.emptySet();
+        final Map<SiteTemplateCache.TemplateBlock, List<TranslatableText>> blocksToStore = new IdentityHashMap<>();
+
+        TemplateRun(String host, String langKey) {
+            this.host = host;
+            this.langKey = langKey;
+        }
+    }
+
     /**
      * 번역 가능한 텍스트 노드를 나타내는 내부 클래스
      */
     private static class TranslatableText {
         final TextNode textNode;
         final String originalText;
+        final String rawText; // 공백을 포함한 원본 텍스트 (원문 복원용)
+        final int index; // 수집 순서 (언어별 번역 결과 배열의 위치)
+        String confidentLang; // 엄격한 감지로 확신한 문맥 그룹의 언어 (대상 언어와 같으면 번역 생략)
 
-        TranslatableText(TextNode textNode, String originalText) {
+        TranslatableText(TextNode textNode, String originalText, int index) {
             this.textNode = textNode;
             this.originalText = originalText;
+            this.rawText = textNode.getWholeText();
+            this.index = index;
         }
     }
 }
@@ -0,0 +1,280 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 네트워크 없이 텍스트의 언어를 판별하는 로컬 언어 감지기
+ * - 문자 체계(한글, 가나, 한자, 키릴 문자 등)로 판별 가능한 언어는 바로 판별
+ * - 라틴 문자 언어는 jar에 포함된 언어별 예문(langdetect/{lang}.txt)의 문자 3-gram 빈도로
+ *   나이브 베이즈 점수를 계산하여 판별
+ * 반환하는 언어 코드는 DeepL 원문 언어 코드(EN, DE, KO ...)이며, 확신할 수 없으면 null
+ * 라틴 문자 예문은 언어당 한 문단 정도라 오판할 수 있으므로, 번역을 건너뛰는 판단에는
+ * 더 긴 텍스트와 큰 점수 차이를 요구하는 {@link #detectConfidently(String)}를 사용한다.
+ */
+@Slf4j
+@Component
+public class LanguageDetector {
+
+    // 예문이 포함된 라틴 문자 언어
+    private static final List<String> LATIN_LANGUAGES = List.of("en", "de", "fr", "es", "it", "pt", "nl", "pl", "sv", "tr");
+
+    // 감지에 사용하는 최대 문자 수 (긴 문단은 앞부분만 사용)
+    private static final int MAX_DETECT_LENGTH = 1000;
+
+    private final boolean enabled;
+    private final int minTextLength;
+    private final double minMargin;
+    private final int skipMinTextLength;
+    private final double skipMinMargin;
+    private final Map<String, TrigramProfile> profiles = new LinkedHashMap<>();
+
+    public LanguageDetector(
+            @Value("${translation.language-detection.enabled:true}") boolean enabled,
+            @Value("${translation.language-detection.min-text-length:20}") int minTextLength,
+            @Value("${translation.language-detection.min-margin:0.1}") double minMargin,
+            @Value("${translation.language-detection.skip-min-text-length:80}") int skipMinTextLength,
+            @Value("${translation.language-detection.skip-min-margin:0.3}") double skipMinMargin) {
+        this.enabled = enabled;
+        this.minTextLength = minTextLength;
+        this.minMargin = minMargin;
+        this.skipMinTextLength = skipMinTextLength;
+        this.skipMinMargin = skipMinMargin;
+        if (enabled) {
+            loadProfiles();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 텍스트의 언어 감지
+     *
+     * @return DeepL 언어 코드 (대문자), 텍스트가 짧거나 판별이 애매하면 null
+     */
+    public String detect(String text) {
+        return detect(text, minTextLength, minMargin, false);
+    }
+
+    /**
+     * 이미 대상 언어인 텍스트를 번역하지 않고 건너뛸지 판단할 때 사용하는 엄격한 감지
+     * 문자 체계와 관계없이 글자 수가 충분하고, 라틴 문자 언어는 1, 2위 점수 차이도 충분히 클 때만 판별
+     *
+     * @return DeepL 언어 코드 (대문자), 확신할 수 없으면 null
+     */
+    public String detectConfidently(String text) {
+        return detect(text, skipMinTextLength, skipMinMargin, true);
+    }
+
+    private String detect(String text, int minLength, double margin, boolean strict) {
+        if (!enabled || text == null) {
+            return null;
+        }
+        String sample = text.length() > MAX_DETECT_LENGTH ? text.substring(0, MAX_DETECT_LENGTH) : text;
+
+        // 1. 문자 체계별 글자 수
+        int letters = 0;
+        int latin = 0;
+        int hangul = 0;
+        int kana = 0;
+        int han = 0;
+        int cyrillic = 0;
+        int ukrainian = 0;
+        int greek = 0;
+        int arabic = 0;
+        for (int i = 0; i < sample.length(); i++) {
+            char c = sample.charAt(i);
+            if (!Character.isLetter(c)) {
+                continue;
+            }
+            letters++;
+            Character.UnicodeScript script = Character.UnicodeScript.of(c);
+            switch (script) {
+                case LATIN:
+                    latin++;
+                    break;
+                case HANGUL:
+                    hangul++;
+                    break;
+                case HIRAGANA:
+                case KATAKANA:
+                    kana++;
+                    break;
+                case HAN:
+                    han++;
+                    break;
+                case CYRILLIC:
+                    cyrillic++;
+                    if ("іїєґІЇЄҐ".indexOf(c) >= 0) {
+                        ukrainian++;
+                    }
+                    break;
+                case GREEK:
+                    greek++;
+                    break;
+                case ARABIC:
+                    arabic++;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        if (strict && letters < minLength) {
+            return null;
+        }
+
+        // 한중일 문자는 글자당 정보량이 많으므로 짧은 텍스트도 판별
+        int cjk = hangul + kana + han;
+        if (cjk >= 2 && cjk * 2 >= letters) {
+            if (hangul >= kana + han) {
+                return "KO";
+            }
+            return kana > 0 ? "JA" : "ZH";
+        }
+        if (letters < minLength) {
+            return null;
+        }
+        if (cyrillic * 2 >= letters) {
+            return ukrainian > 0 ? "UK" : "RU";
+        }
+        if (greek * 2 >= letters) {
+            return "EL";
+        }
+        if (arabic * 2 >= letters) {
+            return "AR";
+        }
+        if (latin * 2 < letters || profiles.isEmpty()) {
+            return null;
+        }
+
+        // 2. 라틴 문자 언어는 3-gram 점수로 판별
+        return detectLatin(sample, margin);
+    }
+
+    /**
+     * 두 언어 코드가 같은 언어인지 (EN-US와 EN, PT-BR과 PT, ZH-HANS와 ZH 등은 같은 언어로 취급)
+     */
+    public static boolean isSameLanguage(String lang1, String lang2) {
+        if (lang1 == null || lang2 == null) {
+            return false;
+        }
+        return baseLanguage(lang1).equals(baseLanguage(lang2));
+    }
+
+    private static String baseLanguage(String lang) {
+        String upper = lang.trim().toUpperCase(Locale.ROOT);
+        int dash = upper.indexOf('-');
+        return dash > 0 ? upper.substring(0, dash) : upper;
+    }
+
+    private String detectLatin(String text, double requiredMargin) {
+        List<String> trigrams = TrigramProfile.trigrams(text);
+        if (trigrams.isEmpty()) {
+            return null;
+        }
+
+        String best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double secondScore = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<String, TrigramProfile> entry : profiles.entrySet()) {
+            double score = entry.getValue().score(trigrams);
+            if (score > bestScore) {
+                secondScore = bestScore;
+                bestScore = score;
+                best = entry.getKey();
+            } else if (score > secondScore) {
+                secondScore = score;
+            }
+        }
+
+        // 3-gram당 평균 로그 확률 차이가 작으면 판별하지 않음
+        double margin = (bestScore - secondScore) / trigrams.size();
+        if (margin < requiredMargin) {
+            return null;
+        }
+        return best.toUpperCase(Locale.ROOT);
+    }
+
+    private void loadProfiles() {
+        for (String lang : LATIN_LANGUAGES) {
+            ClassPathResource resource = new ClassPathResource("langdetect/" + lang + ".txt");
+            try (InputStream in = resource.getInputStream()) {
+                String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                profiles.put(lang, TrigramProfile.build(text));
+            } catch (Exception e) {
+                log.warn("언어 감지 프로필 로드 실패: {} - {}", lang, e.getMessage());
+            }
+        }
+        log.info("언어 감지 프로필 로드 완료 - {}개 언어", profiles.size());
+    }
+
+    /**
+     * 한 언어의 문자 3-gram 빈도 (단어 경계는 공백으로 표현)
+     */
+    private static class TrigramProfile {
+        private final Map<String, Integer> counts;
+        private final double logTotal;
+
+        private TrigramProfile(Map<String, Integer> counts, int total) {
+            this.counts = counts;
+            // 라플라스 평활화: 보지 못한 3-gram도 작은 확률을 갖도록 분모에 종류 수를 더함
+            this.logTotal = Math.log(total + counts.size() + 1);
+        }
+
+        static TrigramProfile build(String text) {
+            Map<String, Integer> counts = new HashMap<>();
+            int total = 0;
+            for (String trigram : trigrams(text)) {
+                counts.merge(trigram, 1, Integer::sum);
+                total++;
+            }
+            return new TrigramProfile(counts, total);
+        }
+
+        double score(List<String> trigrams) {
+            double score = 0;
+            for (String trigram : trigrams) {
+                score += Math.log(counts.getOrDefault(trigram, 0) + 1) - logTotal;
+            }
+            return score;
+        }
+
+        /**
+         * 소문자 글자만 남긴 단어들의 3-gram (단어 앞뒤에 공백을 붙여 어두/어미 특징 포함)
+         */
+        static List<String> trigrams(String text) {
+            List<String> trigrams = new ArrayList<>();
+            StringBuilder word = new StringBuilder();
+            String lower = text.toLowerCase(Locale.ROOT);
+            for (int i = 0; i <= lower.length(); i++) {
+                char c = i < lower.length() ? lower.charAt(i) : ' ';
+                if (Character.isLetter(c)) {
+                    word.append(c);
+                    continue;
+                }
+                if (word.length() > 0) {
+                    String padded = " " + word + " ";
+                    for (int j = 0; j + 3 <= padded.length(); j++) {
+                        trigrams.add(padded.substring(j, j + 3));
+                    }
+                    word.setLength(0);
+                }
+            }
+            return trigrams;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Readability 방식으로 DOM 블록에 점수를 매겨 본문(기사) 영역을 찾는 추출기
+ * - 문단(p, pre, td, blockquote)의 텍스트 양과 쉼표 수를 부모/조부모 블록 점수로 누적
+ * - class/id 이름과 링크 밀도로 점수 보정
+ * - 최고 점수 블록과, 그 형제 중 점수가 충분히 높은 블록을 본문으로 선택
+ */
+@Slf4j
+@Component
+public class MainContentExtractor {
+
+    // 본문이 아닐 가능성이 높은 class/id
+    private static final Pattern UNLIKELY_CANDIDATES = Pattern.compile(
+            "banner|breadcrumbs|combx|comment|community|cookie|consent|disqus|extra|footer|gdpr|header|" +
+            "legends|menu|modal|nav|related|remark|replies|rss|share|shoutbox|sidebar|skyscraper|social|" +
+            "sponsor|ad-break|agegate|pagination|pager|popup|promo|subscribe|newsletter",
+            Pattern.CASE_INSENSITIVE);
+    // 위 패턴에 걸려도 본문일 수 있는 class/id
+    private static final Pattern MAYBE_CANDIDATE = Pattern.compile(
+            "and|article|body|column|content|main|shadow", Pattern.CASE_INSENSITIVE);
+    private static final Pattern POSITIVE = Pattern.compile(
+            "article|body|content|entry|hentry|h-entry|main|page|post|text|blog|story",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern NEGATIVE = Pattern.compile(
+            "hidden|banner|combx|comment|com-|contact|foot|footer|footnote|masthead|media|meta|outbrain|" +
+            "promo|related|scroll|share|shoutbox|sidebar|skyscraper|sponsor|shopping|tags|tool|widget|cookie|nav",
+            Pattern.CASE_INSENSITIVE);
+
+    // 본문이 될 수 없는 시맨틱 태그
+    private static final List<String> BOILERPLATE_TAGS = List.of("nav", "footer", "aside", "header", "form");
+
+    private static final int MIN_PARAGRAPH_LENGTH = 25;
+
+    private final int minContentLength;
+
+    public MainContentExtractor(@Value("${translation.main-content.min-text-length:250}") int minContentLength) {
+        this.minContentLength = minContentLength;
+    }
+
+    /**
+     * 본문 영역 블록 목록을 찾는다. 문서는 변경하지 않는다.
+     *
+     * @return 본문으로 판단된 블록들, 본문을 확신할 수 없으면 빈 리스트 (전체 번역으로 폴백)
+     */
+    public List<Element> findMainContent(Document doc) {
+        Element body = doc.body();
+        if (body == null) {
+            return new ArrayList<>();
+        }
+
+        Map<Element, Double> scores = new IdentityHashMap<>();
+        for (Element paragraph : body.select("p, pre, td, blockquote")) {
+            if (isUnlikely(paragraph)) {
+                continue;
+            }
+            String text = paragraph.text().trim();
+            if (text.length() < MIN_PARAGRAPH_LENGTH) {
+                continue;
+            }
+
+            double contentScore = 1 + countCommas(text) + Math.min(text.length() / 100, 3);
+            Element parent = paragraph.parent();
+            if (parent == null || parent == body.parent()) {
+                continue;
+            }
+            addScore(scores, parent, contentScore);
+            Element grandParent = parent.parent();
+            if (grandParent != null && grandParent != body.parent()) {
+                addScore(scores, grandParent, contentScore / 2);
+            }
+        }
+
+        Element top = null;
+        double topScore = 0;
+        for (Map.Entry<Element, Double> entry : scores.entrySet()) {
+            double score = entry.getValue() * (1 - linkDensity(entry.getKey()));
+            entry.setValue(score);
+            if (top == null || score > topScore) {
+                top = entry.getKey();
+                topScore = score;
+            }
+        }
+
+        if (top == null || top.text().trim().length() < minContentLength) {
+            log.debug("본문 영역을 찾지 못함 - 전체 번역으로 폴백");
+            return new ArrayList<>();
+        }
+
+        // 최고 점수 블록의 형제 중 본문의 일부로 보이는 블록도 포함
+        List<Element> content = new ArrayList<>();
+        Element parent = top.parent();
+        if (parent == null || parent == body.parent()) {
+            content.add(top);
+        } else {
+            double siblingThreshold = Math.max(10, topScore * 0.2);
+            for (Element sibling : parent.children()) {
+                if (sibling == top || isContentSibling(sibling, scores.get(sibling), siblingThreshold)) {
+                    content.add(sibling);
+                }
+            }
+        }
+
+        log.info("본문 영역 추출 - 블록 {}개, 점수 {}, 텍스트 {}자",
+                content.size(), String.format("%.1f", topScore), top.text().length());
+        return content;
+    }
+
+    private boolean isContentSibling(Element sibling, Double score, double threshold) {
+        if (score != null && score >= threshold) {
+            return true;
+        }
+        if (!sibling.tagName().equalsIgnoreCase("p") || isUnlikely(sibling)) {
+            return false;
+        }
+        // 점수가 없는 문단도 링크가 적고 충분히 길면 본문으로 간주
+        String text = sibling.text().trim();
+        double density = linkDensity(sibling);
+        return (text.length() > 80 && density < 0.25)
+                || (text.length() > 0 && density == 0 && text.matches(".*\\.( |$).*"));
+    }
+
+    private void addScore(Map<Element, Double> scores, Element element, double contentScore) {
+        Double current = scores.get(element);
+        if (current == null) {
+            current = initialScore(element);
+        }
+        scores.put(element, current + contentScore);
+    }
+
+    /**
+     * 태그 종류와 class/id 이름에 따른 블록 초기 점수
+     */
+    private double initialScore(Element element) {
+        double score;
+        switch (element.tagName().toLowerCase()) {
+            case "div":
+            case "article":
+            case "main":
+                score = 5;
+                break;
+            case "pre":
+            case "td":
+            case "blockquote":
+                score = 3;
+                break;
+            case "address":
+            case "ol":
+            case "ul":
+            case "dl":
+            case "dd":
+            case "dt":
+            case "li":
+            case "form":
+                score = -3;
+                break;
+            case "h1":
+            case "h2":
+            case "h3":
+            case "h4":
+            case "h5":
+            case "h6":
+            case "th":
+                score = -5;
+                break;
+            default:
+                score = 0;
+        }
+        return score + classWeight(element);
+    }
+
+    private double classWeight(Element element) {
+        double weight = 0;
+        String className = element.className();
+        String id = element.id();
+        if (!className.isEmpty()) {
+            if (NEGATIVE.matcher(className).find()) {
+                weight -= 25;
+            }
+            if (POSITIVE.matcher(className).find()) {
+                weight += 25;
+            }
+        }
+        if (!id.isEmpty()) {
+            if (NEGATIVE.matcher(id).find()) {
+                weight -= 25;
+            }
+            if (POSITIVE.matcher(id).find()) {
+                weight += 25;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * 요소 자신 또는 조상이 시맨틱 boilerplate 태그이거나 본문이 아닐 가능성이 높은 이름을 가졌는지 확인
+     */
+    private boolean isUnlikely(Element element) {
+        for (Element current = element; current != null; current = current.parent()) {
+            String tagName = current.tagName().toLowerCase();
+            if (tagName.equals("body")) {
+                break;
+            }
+            if (BOILERPLATE_TAGS.contains(tagName)) {
+                return true;
+            }
+            String role = current.attr("role");
+            if (role.equals("navigation") || role.equals("banner") || role.equals("contentinfo")
+                    || role.equals("complementary")) {
+                return true;
+            }
+            String matchString = current.className() + " " + current.id();
+            if (UNLIKELY_CANDIDATES.matcher(matchString).find() && !MAYBE_CANDIDATE.matcher(matchString).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요소 텍스트 중 링크 텍스트가 차지하는 비율
+     */
+    private double linkDensity(Element element) {
+        int textLength = element.text().length();
+        if (textLength == 0) {
+            return 0;
+        }
+        int linkLength = 0;
+        for (Element link : element.select("a")) {
+            linkLength += link.text().length();
+        }
+        return (double) linkLength / textLength;
+    }
+
+    private int countCommas(String text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '，' || c == '、') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.Transflow.translate.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 문장 안의 번역하면 안 되는 부분(URL, 이메일, 코드 식별자, 버전 번호, ID/코드)을
+ * 짧은 토큰(⟦0⟧, ⟦1⟧ ...)으로 바꿔 번역기에 보내고, 번역 후 원래 문자열로 되돌린다.
+ * 번역기로 보내는 문자 수가 줄고 해당 부분이 번역기에 의해 바뀌지 않는다.
+ * 일반 숫자(1,234,567 / 98765.43)는 번역기가 대상 언어의 숫자 형식으로 바꿀 수 있도록 보호하지 않는다.
+ */
+@Component
+public class PlaceholderMasker {
+
+    private static final char TOKEN_OPEN = '⟦';
+    private static final char TOKEN_CLOSE = '⟧';
+
+    // 번역기가 토큰 안에 공백을 넣는 경우도 허용
+    private static final Pattern TOKEN = Pattern.compile("⟦\\s*(\\d+)\\s*⟧");
+
+    // 보호할 부분 (앞쪽 패턴이 우선)
+    private static final Pattern PROTECTED_SPAN = Pattern.compile(String.join("|",
+            "https?://[^\\s<>\"']+[^\\s<>\"'.,;:!?)\\]]",                           // URL
+            "[\\w.+-]+@[\\w-]+(?:\\.[\\w-]+)*\\.[A-Za-z]{2,}",                         // 이메일
+            "`[^`\\n]+`",                                                             // 인라인 코드
+            "(?<![\\w.])(?:/[\\w.-]+){2,}/?",                                         // 파일 경로
+            "\\bv?\\d+(?:\\.\\d+){2,}(?:-[\\w.]+)?\\b|\\bv\\d+(?:\\.\\d+)+\\b",       // 버전 번호 (1.2.3, v2.0)
+            "\\b[0-9a-fA-F]{8}(?:-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}\\b",                  // UUID
+            "\\b(?=[A-Za-z0-9-]*[A-Za-z])(?=[A-Za-z0-9-]*\\d)[A-Za-z0-9]+(?:-[A-Za-z0-9]+)+\\b", // 하이픈 코드 (ABC-12345, SKU-42-B)
+            "\\b[A-Z]{2,}\\d{2,}[A-Z0-9]*\\b",                                         // 대문자+숫자 ID (INC0012345)
+            "\\b(?=[0-9a-f]*[a-f])(?=[0-9a-f]*\\d)[0-9a-f]{7,40}\\b",                    // 해시 (커밋 SHA 등)
+            "#\\d+\\b",                                                                   // 이슈/티켓 번호 (#1234)
+            "\\b[A-Za-z_]\\w+(?:\\.[A-Za-z_]\\w+)+(?:\\(\\))?",                       // 점 표기 식별자 (os.path.join, a.b())
+            "\\b[A-Za-z][A-Za-z0-9]*(?:_[A-Za-z0-9]+)+\\b",                           // snake_case
+            "\\b[a-z]+[A-Z][A-Za-z0-9]*\\b"                                           // camelCase
+    ));
+
+    // 토큰보다 짧은 부분은 바꿔도 문자 수가 줄지 않으므로 그대로 둠
+    private static final int MIN_SPAN_LENGTH = 4;
+
+    private final boolean enabled;
+
+    public PlaceholderMasker(@Value("${translation.placeholder.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 보호할 부분을 토큰으로 바꾼 텍스트 반환 (바꿀 부분이 없거나 비활성화면 원문 그대로)
+     */
+    public Masked mask(String text) {
+        if (!enabled || text == null || text.indexOf(TOKEN_OPEN) >= 0) {
+            return new Masked(text, Collections.emptyList());
+        }
+
+        List<String> spans = new ArrayList<>();
+        StringBuilder masked = new StringBuilder(text.length());
+        Matcher matcher = PROTECTED_SPAN.matcher(text);
+        int last = 0;
+        while (matcher.find()) {
+            String span = matcher.group();
+            if (span.length() < MIN_SPAN_LENGTH) {
+                continue;
+            }
+            masked.append(text, last, matcher.start());
+            masked.append(TOKEN_OPEN).append(spans.size()).append(TOKEN_CLOSE);
+            spans.add(span);
+            last = matcher.end();
+        }
+        if (spans.isEmpty()) {
+            return new Masked(text, spans);
+        }
+        masked.append(text, last, text.length());
+        return new Masked(masked.toString(), spans);
+    }
+
+    /**
+     * 번역 결과의 토큰을 원래 문자열로 복원
+     *
+     * @return 복원된 텍스트, 토큰이 빠지거나 중복되어 복원할 수 없으면 null
+     */
+    public String unmask(String translated, Masked masked) {
+        if (!masked.hasSpans()) {
+            return translated;
+        }
+
+        List<String> spans = masked.getSpans();
+        boolean[] restored = new boolean[spans.size()];
+        StringBuffer result = new StringBuffer(translated.length() + 32);
+        Matcher matcher = TOKEN.matcher(translated);
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(1));
+            if (index >= spans.size() || restored[index]) {
+                return null;
+            }
+            restored[index] = true;
+            matcher.appendReplacement(result, Matcher.quoteReplacement(spans.get(index)));
+        }
+        matcher.appendTail(result);
+
+        for (boolean r : restored) {
+            if (!r) {
+                return null;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 토큰으로 바꾼 텍스트와 토큰 번호 순서의 원래 문자열
+     */
+    public static class Masked {
+        private final String text;
+        private final List<String> spans;
+
+        Masked(String text, List<String> spans) {
+            this.text = text;
+            this.spans = spans;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public List<String> getSpans() {
+            return spans;
+        }
+
+        public boolean hasSpans() {
+            return !spans.isEmpty();
+        }
+
+        /**
+         * 토큰과 공백/문장부호만 남아 번역할 내용이 없는지 여부
+         */
+        public boolean isOnlyPlaceholders() {
+            return hasSpans() && TOKEN.matcher(text).replaceAll("").replaceAll("[\\s\\p{Punct}]", "").isEmpty();
+        }
+    }
+}
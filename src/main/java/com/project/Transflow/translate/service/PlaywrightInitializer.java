@@ -0,0 +1,129 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playwright 브라우저 설치와 워커 시작을 애플리케이션 기동 이후 백그라운드에서 수행
+ * 브라우저 설치(수십 초)가 Spring 컨텍스트 시작을 막지 않도록 하여,
+ * 문서/작업/리뷰 API는 바로 요청을 받을 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class PlaywrightInitializer {
+
+    public enum State {
+        PENDING, INSTALLING, STARTING, READY, FAILED
+    }
+
+    private final PlaywrightWorkerPool playwrightWorkerPool;
+    private final boolean autoInstall;
+    private final long installTimeoutMinutes;
+
+    private volatile State state = State.PENDING;
+    private volatile String failureMessage;
+
+    public PlaywrightInitializer(
+            PlaywrightWorkerPool playwrightWorkerPool,
+            @Value("${crawler.playwright.auto-install:true}") boolean autoInstall,
+            @Value("${crawler.playwright.install-timeout-minutes:10}") long installTimeoutMinutes) {
+        this.playwrightWorkerPool = playwrightWorkerPool;
+        this.autoInstall = autoInstall;
+        this.installTimeoutMinutes = installTimeoutMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeInBackground() {
+        Thread initializer = new Thread(this::initialize, "playwright-initializer");
+        initializer.setDaemon(true);
+        initializer.start();
+    }
+
+    private void initialize() {
+        try {
+            if (autoInstall) {
+                state = State.INSTALLING;
+                installPlaywrightBrowsersIfNeeded();
+            }
+
+            // 워커 스레드별 Playwright 인스턴스 생성 및 브라우저 실행
+            state = State.STARTING;
+            playwrightWorkerPool.start();
+
+            if (playwrightWorkerPool.isAvailable()) {
+                state = State.READY;
+                log.info("Playwright 초기화 완료");
+            } else {
+                failureMessage = "사용 가능한 Playwright 워커가 없습니다.";
+                state = State.FAILED;
+                log.warn("Playwright 초기화 실패. 정적 크롤링만 사용됩니다.");
+            }
+        } catch (Exception e) {
+            failureMessage = e.getMessage();
+            state = State.FAILED;
+            log.warn("Playwright 초기화 실패. 정적 크롤링만 사용됩니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Playwright 브라우저 자동 설치
+     */
+    private void installPlaywrightBrowsersIfNeeded() {
+        try {
+            // 브라우저가 설치되어 있는지 확인하고, 없으면 설치
+            log.info("Playwright 브라우저 설치 확인 중...");
+
+            // CLI를 통한 브라우저 설치
+            // 이미 설치되어 있으면 스킵됨
+            ProcessBuilder pb = new ProcessBuilder(
+                "java",
+                "-cp",
+                System.getProperty("java.class.path"),
+                "com.microsoft.playwright.CLI",
+                "install",
+                "chromium"
+            );
+            // 출력 버퍼가 가득 차서 프로세스가 멈추지 않도록 출력은 버림
+            pb.redirectErrorStream(true);
+            pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+
+            Process process = pb.start();
+            if (!process.waitFor(installTimeoutMinutes, TimeUnit.MINUTES)) {
+                process.destroyForcibly();
+                log.warn("Playwright 브라우저 설치 시간 초과 ({}분). 수동 설치가 필요할 수 있습니다.", installTimeoutMinutes);
+                return;
+            }
+
+            if (process.exitValue() == 0) {
+                log.info("Playwright 브라우저 설치 완료 또는 이미 설치됨");
+            } else {
+                log.warn("Playwright 브라우저 설치 실패. 수동 설치가 필요할 수 있습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Playwright 브라우저 설치 중 인터럽트 발생");
+        } catch (Exception e) {
+            log.warn("Playwright 브라우저 자동 설치 실패: {}. 수동 설치를 시도하세요.", e.getMessage());
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 초기화가 끝났는지 여부 (성공/실패 무관)
+     */
+    public boolean isFinished() {
+        return state == State.READY || state == State.FAILED;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+}
@@ -0,0 +1,210 @@
+package com.project.Transflow.translate.service;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 스레드 전용(thread-confined) Playwright 워커 풀
+ * Playwright Java 클라이언트는 스레드 안전하지 않으므로, 각 워커 스레드가 자신의 Playwright와
+ * 브라우저를 소유하고 큐에서 작업을 꺼내 실행한다. 브라우저는 워커가 재사용하며 작업마다
+ * 새 BrowserContext를 만들어 쿠키/세션을 격리한다.
+ */
+@Slf4j
+@Component
+public class PlaywrightWorkerPool {
+
+    private static final long BROWSER_LAUNCH_TIMEOUT = 30000; // 브라우저 시작 타임아웃 30초
+
+    private final int workerCount;
+    private final BlockingQueue<BrowserTask<?>> taskQueue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicInteger readyWorkers = new AtomicInteger();
+    private volatile boolean running = false;
+
+    public PlaywrightWorkerPool(
+            @Value("${crawler.playwright.workers:2}") int workerCount,
+            @Value("${crawler.playwright.queue-capacity:50}") int queueCapacity) {
+        this.workerCount = workerCount;
+        this.taskQueue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 워커 스레드 시작. 모든 워커의 Playwright/브라우저 초기화가 끝날 때까지 대기한다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+
+        CountDownLatch initialized = new CountDownLatch(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(() -> runWorker(initialized), "playwright-worker-" + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        try {
+            initialized.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Playwright 워커 풀 시작 - 준비된 워커: {}/{}", readyWorkers.get(), workerCount);
+    }
+
+    /**
+     * 사용 가능한 워커가 하나라도 있는지 여부
+     */
+    public boolean isAvailable() {
+        return running && readyWorkers.get() > 0;
+    }
+
+    /**
+     * 브라우저를 사용하는 작업을 워커 큐에 넣는다.
+     * 작업은 워커 스레드에서 실행되며, 전달받은 Browser는 작업 밖으로 노출하면 안 된다.
+     */
+    public <T> CompletableFuture<T> submit(Function<Browser, T> work) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Playwright가 설치되지 않았습니다. 백엔드 설정을 확인해주세요.");
+        }
+        BrowserTask<T> task = new BrowserTask<>(work);
+        if (!taskQueue.offer(task)) {
+            throw new IllegalStateException("브라우저 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return task.future;
+    }
+
+    private void runWorker(CountDownLatch initialized) {
+        String name = Thread.currentThread().getName();
+        Playwright playwright = null;
+        Browser browser = null;
+        try {
+            try {
+                playwright = Playwright.create();
+                browser = launchBrowser(playwright);
+                readyWorkers.incrementAndGet();
+                log.info("{} 초기화 완료", name);
+            } catch (Exception e) {
+                log.warn("{} 초기화 실패: {}", name, e.getMessage());
+                return;
+            } finally {
+                initialized.countDown();
+            }
+
+            while (running) {
+                BrowserTask<?> task;
+                try {
+                    task = taskQueue.poll(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (task == null) {
+                    continue;
+                }
+
+                // 이전 작업으로 브라우저가 종료되었으면 다시 실행
+                if (!browser.isConnected()) {
+                    log.warn("{} 브라우저 연결 끊김. 재시작합니다.", name);
+                    closeQuietly(browser);
+                    try {
+                        browser = launchBrowser(playwright);
+                    } catch (Exception e) {
+                        task.future.completeExceptionally(e);
+                        continue;
+                    }
+                }
+
+                task.run(browser);
+            }
+        } finally {
+            if (browser != null) {
+                readyWorkers.decrementAndGet();
+            }
+            closeQuietly(browser);
+            if (playwright != null) {
+                try {
+                    playwright.close();
+                } catch (Exception e) {
+                    log.warn("Playwright 종료 중 오류: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Browser launchBrowser(Playwright playwright) {
+        // 브라우저 실행 (headless 모드, 실제 브라우저처럼 보이게 설정)
+        return playwright.chromium().launch(new BrowserType.LaunchOptions()
+                .setHeadless(true)
+                .setTimeout(BROWSER_LAUNCH_TIMEOUT)
+                .setArgs(Arrays.asList(
+                        "--disable-blink-features=AutomationControlled", // 자동화 감지 방지
+                        "--disable-dev-shm-usage",
+                        "--no-sandbox",
+                        "--disable-setuid-sandbox"
+                )));
+    }
+
+    private void closeQuietly(Browser browser) {
+        if (browser == null) {
+            return;
+        }
+        try {
+            browser.close();
+        } catch (Exception e) {
+            log.warn("브라우저 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        BrowserTask<?> task;
+        while ((task = taskQueue.poll()) != null) {
+            task.future.completeExceptionally(new IllegalStateException("Playwright 워커 풀이 종료되었습니다."));
+        }
+    }
+
+    /**
+     * 워커 큐에 들어가는 작업
+     */
+    private static class BrowserTask<T> {
+        final Function<Browser, T> work;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        BrowserTask(Function<Browser, T> work) {
+            this.work = work;
+        }
+
+        void run(Browser browser) {
+            if (future.isCancelled()) {
+                return;
+            }
+            try {
+                future.complete(work.apply(browser));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.Transflow.translate.service;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 링크/리소스 속성의 값이 스크립트를 실행하는 URL(javascript:, vbscript:)인지 판별
+ * 브라우저는 scheme 앞의 공백/제어 문자와 scheme 안의 탭/줄바꿈을 무시하므로 같은 방식으로 정리한 뒤 비교한다.
+ * DOM 기반 번역과 스트리밍 번역이 같은 규칙을 사용한다. (값은 엔티티를 디코딩한 상태로 전달)
+ */
+final class ScriptUrlFilter {
+
+    // URL을 값으로 받는 속성
+    private static final Set<String> URL_ATTRIBUTES = Set.of(
+            "href", "src", "action", "formaction", "xlink:href", "data", "poster", "background", "cite");
+
+    private static final String[] SCRIPT_SCHEMES = {"javascript:", "vbscript:"};
+
+    private ScriptUrlFilter() {
+    }
+
+    static boolean isScriptUrl(String attrName, String value) {
+        if (value == null || !URL_ATTRIBUTES.contains(attrName.toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        StringBuilder scheme = new StringBuilder(16);
+        for (int i = 0; i < value.length() && scheme.length() < 16; i++) {
+            char c = value.charAt(i);
+            if (c <= ' ') {
+                continue;
+            }
+            scheme.append(Character.toLowerCase(c));
+        }
+        String prefix = scheme.toString();
+        for (String scriptScheme : SCRIPT_SCHEMES) {
+            if (prefix.startsWith(scriptScheme)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,305 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.checkpoint.service.TranslationCheckpointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번역에 실패한 문맥 그룹을 나중에 배치로 다시 번역하는 재시도 대기열
+ * 실패한 그룹을 요청 안에서 텍스트 노드별로 다시 번역하면 호출 수가 수십 배로 늘어나고,
+ * 대부분 Rate Limit 상황이라 상황을 더 나쁘게 만든다. 대신 실패한 그룹은 대기열에 넣고
+ * 지수 백오프로 기다렸다가 언어 쌍별로 묶어 한 번의 배치 호출로 다시 번역한다.
+ * 재시도 결과는 번역 체크포인트에 저장되어 같은 페이지를 다시 번역하면 적용된다.
+ * 대기 중인 그룹은 체크포인트 저장소에도 기록하여 서버가 재시작되면 대기열을 복원하고,
+ * 같은 작업의 같은 원문은 대기열에 한 번만 넣는다.
+ */
+@Slf4j
+@Component
+public class SegmentRetryQueue {
+
+    private final TranslationService translationService;
+    private final TranslationCheckpointService translationCheckpointService;
+    private final PlaceholderMasker placeholderMasker;
+    private final boolean enabled;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxAttempts;
+    private final int batchSize;
+    private final int maxQueueSize;
+
+    private final PriorityQueue<RetryEntry> queue = new PriorityQueue<>(Comparator.comparingLong(e -> e.dueMillis));
+    private final Set<String> queuedKeys = new HashSet<>(); // 대기 중이거나 재시도 중인 항목 (작업 ID + 원문)
+    private final ScheduledExecutorService scheduler;
+
+    public SegmentRetryQueue(
+            TranslationService translationService,
+            TranslationCheckpointService translationCheckpointService,
+            PlaceholderMasker placeholderMasker,
+            @Value("${translation.retry-queue.enabled:true}") boolean enabled,
+            @Value("${translation.retry-queue.initial-delay-ms:5000}") long initialDelayMillis,
+            @Value("${translation.retry-queue.max-delay-ms:300000}") long maxDelayMillis,
+            @Value("${translation.retry-queue.max-attempts:5}") int maxAttempts,
+            @Value("${translation.retry-queue.batch-size:50}") int batchSize,
+            @Value("${translation.retry-queue.max-queue-size:10000}") int maxQueueSize,
+            @Value("${translation.retry-queue.poll-interval-ms:1000}") long pollIntervalMillis) {
+        this.translationService = translationService;
+        this.translationCheckpointService = translationCheckpointService;
+        this.placeholderMasker = placeholderMasker;
+        this.enabled = enabled;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+        this.maxQueueSize = maxQueueSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "segment-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::drainSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 재시도 결과를 저장할 체크포인트가 있어야 대기열을 사용할 수 있음
+     */
+    public boolean accepts(TranslationCheckpointService.Checkpoint checkpoint) {
+        return enabled && checkpoint.isEnabled();
+    }
+
+    /**
+     * 실패한 문맥 그룹을 재시도 대기열에 추가
+     *
+     * @return 대기열에 있는지 여부 (이미 대기 중이면 true, 비활성화, 체크포인트 없음, 대기열이 가득 찬 경우 false)
+     */
+    public boolean enqueue(TranslationCheckpointService.Checkpoint checkpoint, int segmentIndex, String text,
+                           String targetLang, String sourceLang) {
+        if (!accepts(checkpoint)) {
+            return false;
+        }
+        if (!add(checkpoint, segmentIndex, text, targetLang, sourceLang)) {
+            return isQueued(checkpoint, text);
+        }
+        translationCheckpointService.markPending(checkpoint, segmentIndex, text);
+        return true;
+    }
+
+    /**
+     * 서버 시작 시 저장된 재시도 대기 문맥 그룹을 대기열로 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restorePending() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int restored = 0;
+            for (TranslationCheckpointService.PendingSegment segment : translationCheckpointService.loadPending(maxQueueSize)) {
+                if (add(segment.getCheckpoint(), segment.getSegmentIndex(), segment.getSourceText(),
+                        segment.getTargetLang(), segment.getSourceLang())) {
+                    restored++;
+                }
+            }
+            if (restored > 0) {
+                log.info("저장된 재시도 대기 문맥 그룹 {}개를 대기열로 복원했습니다.", restored);
+            }
+        } catch (Exception e) {
+            log.warn("재시도 대기 문맥 그룹 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기열에 항목 추가 (같은 작업의 같은 원문이 이미 있거나 대기열이 가득 차면 false)
+     */
+    private boolean add(TranslationCheckpointService.Checkpoint checkpoint, int segmentIndex, String text,
+                        String targetLang, String sourceLang) {
+        if (!checkpoint.isEnabled()) {
+            return false;
+        }
+        synchronized (queue) {
+            if (!queuedKeys.add(key(checkpoint, text))) {
+                return false;
+            }
+            if (queue.size() >= maxQueueSize) {
+                queuedKeys.remove(key(checkpoint, text));
+                log.warn("문맥 그룹 재시도 대기열이 가득 찼습니다 ({}개). 재시도하지 않습니다.", maxQueueSize);
+                return false;
+            }
+            queue.add(new RetryEntry(checkpoint, segmentIndex, text, targetLang, sourceLang,
+                    System.currentTimeMillis() + initialDelayMillis));
+        }
+        return true;
+    }
+
+    private boolean isQueued(TranslationCheckpointService.Checkpoint checkpoint, String text) {
+        synchronized (queue) {
+            return queuedKeys.contains(key(checkpoint, text));
+        }
+    }
+
+    private static String key(TranslationCheckpointService.Checkpoint checkpoint, String text) {
+        return checkpoint.getJobId() + "|" + text;
+    }
+
+    /**
+     * 대기 중인 문맥 그룹 수
+     */
+    public int size() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("문맥 그룹 재시도 처리 중 오류", e);
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 항목을 언어 쌍별로 묶어 배치 번역
+     */
+    private void drain() {
+        Map<String, List<RetryEntry>> due = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        synchronized (queue) {
+            while (!queue.isEmpty() && queue.peek().dueMillis <= now) {
+                RetryEntry entry = queue.poll();
+                String key = entry.targetLang + "|" + (entry.sourceLang != null ? entry.sourceLang : "");
+                due.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        for (List<RetryEntry> entries : due.values()) {
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                retryBatch(entries.subList(from, Math.min(entries.size(), from + batchSize)));
+            }
+        }
+    }
+
+    private void retryBatch(List<RetryEntry> entries) {
+        RetryEntry first = entries.get(0);
+        List<PlaceholderMasker.Masked> masks = new ArrayList<>(entries.size());
+        List<String> texts = new ArrayList<>(entries.size());
+        for (RetryEntry entry : entries) {
+            // 이전 시도에서 보호 토큰을 복원하지 못했으면 원문 그대로 보냄
+            PlaceholderMasker.Masked masked = entry.unmasked ? null : placeholderMasker.mask(entry.text);
+            masks.add(masked);
+            texts.add(masked != null ? masked.getText() : entry.text);
+        }
+
+        List<String> results;
+        try {
+            results = translationService.translateBatch(texts, first.targetLang, first.sourceLang,
+                    Deadline.after(Duration.ofMinutes(1)));
+            if (results.size() != texts.size()) {
+                throw new IllegalStateException("배치 번역 결과 수가 요청과 다릅니다: " + results.size() + "/" + texts.size());
+            }
+        } catch (Exception e) {
+            log.warn("문맥 그룹 재시도 실패 ({}개): {}", entries.size(), e.getMessage());
+            for (RetryEntry entry : entries) {
+                reschedule(entry);
+            }
+            return;
+        }
+
+        int succeeded = 0;
+        List<TranslationCheckpointService.Checkpoint> touched = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            RetryEntry entry = entries.get(i);
+            String restored = masks.get(i) != null ? placeholderMasker.unmask(results.get(i), masks.get(i)) : results.get(i);
+            if (restored == null) {
+                entry.unmasked = true;
+                reschedule(entry);
+                continue;
+            }
+            entry.checkpoint.record(entry.segmentIndex, entry.text, restored);
+            release(entry);
+            if (!touched.contains(entry.checkpoint)) {
+                touched.add(entry.checkpoint);
+            }
+            succeeded++;
+        }
+        for (TranslationCheckpointService.Checkpoint checkpoint : touched) {
+            translationCheckpointService.flush(checkpoint);
+        }
+        log.info("문맥 그룹 재시도 완료 [{}] - {}/{}개 번역", first.targetLang, succeeded, entries.size());
+    }
+
+    /**
+     * 지수 백오프로 다시 대기열에 넣음 (최대 시도 횟수를 넘으면 버림)
+     */
+    private void reschedule(RetryEntry entry) {
+        entry.attempts++;
+        if (entry.attempts >= maxAttempts) {
+            log.warn("문맥 그룹 재시도 횟수 초과 ({}회) - 다음 번역 요청에서 다시 번역됩니다.", entry.attempts);
+            release(entry);
+            translationCheckpointService.clearPending(entry.checkpoint, entry.text);
+            return;
+        }
+        long delay = Math.min(maxDelayMillis, initialDelayMillis * (1L << Math.min(entry.attempts, 20)));
+        entry.dueMillis = System.currentTimeMillis() + delay;
+        synchronized (queue) {
+            queue.add(entry);
+        }
+    }
+
+    private void release(RetryEntry entry) {
+        synchronized (queue) {
+            queuedKeys.remove(key(entry.checkpoint, entry.text));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        int dropped = size();
+        if (dropped > 0) {
+            log.info("재시도 대기 중이던 문맥 그룹 {}개는 다음 서버 시작 시 대기열로 복원됩니다.", dropped);
+        }
+    }
+
+    /**
+     * 재시도 대기 중인 문맥 그룹
+     */
+    private static class RetryEntry {
+        final TranslationCheckpointService.Checkpoint checkpoint;
+        final int segmentIndex;
+        final String text;
+        final String targetLang;
+        final String sourceLang;
+        long dueMillis;
+        int attempts;
+        boolean unmasked; // 보호 토큰 없이 원문 그대로 보낼지
+
+        RetryEntry(TranslationCheckpointService.Checkpoint checkpoint, int segmentIndex, String text,
+                   String targetLang, String sourceLang, long dueMillis) {
+            this.checkpoint = checkpoint;
+            this.segmentIndex = segmentIndex;
+            this.text = text;
+            this.targetLang = targetLang;
+            this.sourceLang = sourceLang;
+            this.dueMillis = dueMillis;
+        }
+    }
+}
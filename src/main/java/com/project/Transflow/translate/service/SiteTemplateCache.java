@@ -0,0 +1,228 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 호스트별 사이트 템플릿 학습 캐시
+ * 같은 사이트의 페이지들은 헤더/푸터/사이드바 등 동일한 DOM 블록을 공유하므로,
+ * 블록의 구조+텍스트 지문(fingerprint)을 페이지 간에 세어 반복되는 블록을 템플릿으로 판단하고
+ * 그 블록의 번역 결과를 캐시해 다음 페이지에서 DeepL 호출 없이 그대로 적용한다.
+ */
+@Slf4j
+@Component
+public class SiteTemplateCache {
+
+    // 템플릿 후보 블록 (시맨틱 영역 + body의 얕은 하위 블록)
+    private static final String CANDIDATE_SELECTOR =
+            "header, footer, nav, aside, [role=navigation], [role=banner], [role=contentinfo], " +
+            "[role=complementary], body > *, body > * > *";
+
+    private final boolean enabled;
+    private final int minOccurrences;
+    private final int maxBlocksPerHost;
+    private final int maxHosts;
+    private final int maxBlockTextLength;
+
+    private final Map<String, HostTemplate> hosts;
+
+    public SiteTemplateCache(
+            @Value("${translation.site-template.enabled:true}") boolean enabled,
+            @Value("${translation.site-template.min-occurrences:2}") int minOccurrences,
+            @Value("${translation.site-template.max-blocks-per-host:500}") int maxBlocksPerHost,
+            @Value("${translation.site-template.max-hosts:200}") int maxHosts,
+            @Value("${translation.site-template.max-block-text-length:5000}") int maxBlockTextLength) {
+        this.enabled = enabled;
+        this.minOccurrences = minOccurrences;
+        this.maxBlocksPerHost = maxBlocksPerHost;
+        this.maxHosts = maxHosts;
+        this.maxBlockTextLength = maxBlockTextLength;
+        this.hosts = new LinkedHashMap<String, HostTemplate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HostTemplate> eldest) {
+                return size() > SiteTemplateCache.this.maxHosts;
+            }
+        };
+    }
+
+    /**
+     * URL에서 호스트 추출 (추출할 수 없으면 null)
+     */
+    public static String extractHost(String url) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 페이지의 템플릿 후보 블록을 지문화하고 호스트별 출현 횟수를 기록
+     *
+     * @return 문서 순서의 후보 블록 목록 (반복 출현 여부 포함), 비활성화 또는 호스트가 없으면 빈 리스트
+     */
+    public List<TemplateBlock> analyze(String host, Document doc) {
+        return analyze(host, doc, true);
+    }
+
+    /**
+     * 페이지의 템플릿 후보 블록을 지문화
+     *
+     * @param countOccurrence false이면 출현 횟수를 기록하지 않고 지금까지의 통계만 참고 (번역 비용 추정 등)
+     */
+    public List<TemplateBlock> analyze(String host, Document doc, boolean countOccurrence) {
+        List<TemplateBlock> blocks = new ArrayList<>();
+        if (!enabled || host == null || doc.body() == null) {
+            return blocks;
+        }
+
+        HostTemplate template = hostTemplate(host);
+        Set<String> seenOnPage = new HashSet<>();
+        synchronized (template) {
+            for (Element element : doc.body().select(CANDIDATE_SELECTOR)) {
+                int textLength = element.text().length();
+                if (textLength == 0 || textLength > maxBlockTextLength) {
+                    continue;
+                }
+                String fingerprint = fingerprint(element);
+                if (!countOccurrence) {
+                    BlockStats stats = template.blocks.get(fingerprint);
+                    blocks.add(new TemplateBlock(element, fingerprint, stats != null && stats.pageCount >= minOccurrences));
+                    continue;
+                }
+                BlockStats stats = template.blocks.computeIfAbsent(fingerprint, f -> new BlockStats());
+                if (seenOnPage.add(fingerprint)) {
+                    stats.pageCount++;
+                }
+                blocks.add(new TemplateBlock(element, fingerprint, stats.pageCount >= minOccurrences));
+            }
+        }
+        return blocks;
+    }
+
+    /**
+     * 캐시된 블록 번역 (블록 내 번역 대상 텍스트 노드 순서), 없으면 null
+     */
+    public List<String> getTranslation(String host, String fingerprint, String langKey) {
+        HostTemplate template = hostTemplate(host);
+        synchronized (template) {
+            BlockStats stats = template.blocks.get(fingerprint);
+            return stats != null ? stats.translations.get(langKey) : null;
+        }
+    }
+
+    /**
+     * 반복 블록의 번역 결과 저장
+     */
+    public void putTranslation(String host, String fingerprint, String langKey, List<String> translatedTexts) {
+        HostTemplate template = hostTemplate(host);
+        synchronized (template) {
+            BlockStats stats = template.blocks.get(fingerprint);
+            if (stats != null) {
+                stats.translations.put(langKey, new ArrayList<>(translatedTexts));
+            }
+        }
+    }
+
+    private HostTemplate hostTemplate(String host) {
+        synchronized (hosts) {
+            return hosts.computeIfAbsent(host, h -> new HostTemplate(maxBlocksPerHost));
+        }
+    }
+
+    /**
+     * 블록의 태그 구조와 텍스트로 지문 생성 (속성은 제외하여 활성 메뉴 class 등의 차이는 무시)
+     */
+    private String fingerprint(Element element) {
+        StringBuilder canonical = new StringBuilder();
+        appendCanonical(element, canonical);
+        return DigestUtils.md5DigestAsHex(canonical.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void appendCanonical(Element element, StringBuilder out) {
+        out.append('<').append(element.normalName());
+        for (Node child : element.childNodes()) {
+            if (child instanceof Element) {
+                appendCanonical((Element) child, out);
+            } else if (child instanceof TextNode) {
+                String text = ((TextNode) child).text().trim();
+                if (!text.isEmpty()) {
+                    out.append('#').append(text);
+                }
+            }
+        }
+        out.append('>');
+    }
+
+    /**
+     * 페이지에서 찾은 템플릿 후보 블록
+     */
+    public static class TemplateBlock {
+        private final Element element;
+        private final String fingerprint;
+        private final boolean recurring;
+
+        TemplateBlock(Element element, String fingerprint, boolean recurring) {
+            this.element = element;
+            this.fingerprint = fingerprint;
+            this.recurring = recurring;
+        }
+
+        public Element getElement() {
+            return element;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * 여러 페이지에서 반복 출현한 블록인지 (템플릿으로 판단)
+         */
+        public boolean isRecurring() {
+            return recurring;
+        }
+    }
+
+    /**
+     * 호스트별 블록 통계 (LRU로 개수 제한)
+     */
+    private static class HostTemplate {
+        final Map<String, BlockStats> blocks;
+
+        HostTemplate(int maxBlocks) {
+            this.blocks = new LinkedHashMap<String, BlockStats>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BlockStats> eldest) {
+                    return size() > maxBlocks;
+                }
+            };
+        }
+    }
+
+    private static class BlockStats {
+        int pageCount;
+        final Map<String, List<String>> translations = new HashMap<>(); // 언어 키 -> 번역 텍스트 목록
+    }
+}
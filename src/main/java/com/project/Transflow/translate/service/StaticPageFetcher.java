@@ -0,0 +1,235 @@
+package com.project.Transflow.translate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 브라우저 없이 HTTP로 페이지를 가져오는 경량 fetcher
+ * 가져온 HTML이 서버 렌더링된 완전한 페이지인지 판단하여,
+ * 아니라면 Playwright로 넘겨야 하는 이유(escalationReason)를 함께 반환한다.
+ */
+@Slf4j
+@Component
+public class StaticPageFetcher {
+
+    // Cloudflare 봇 검증 페이지에만 있는 마커 ("just a moment" 같은 문구는 일반 기사에도 나오므로 사용하지 않음)
+    private static final List<String> CHALLENGE_MARKERS = List.of(
+            "_cf_chl_opt",
+            "cf-chl",
+            "/cdn-cgi/challenge-platform"
+    );
+
+    // SPA 프레임워크의 마운트 지점 (비어 있으면 클라이언트 렌더링 페이지)
+    private static final String SPA_ROOT_SELECTOR =
+            "#root, #app, #__next, #__nuxt, #___gatsby, [ng-app], [ng-version], app-root, [data-reactroot]";
+
+    // 텍스트가 없어도 내용으로 인정할 요소
+    private static final String SPA_ROOT_CONTENT_SELECTOR = "img, svg, video, canvas, iframe, picture";
+
+    private final CrawlArchive crawlArchive;
+    private final int timeoutMillis;
+    private final int minBodyTextLength;
+    private final int maxBodySize;
+
+    public StaticPageFetcher(
+            CrawlArchive crawlArchive,
+            @Value("${crawler.static-first.timeout-ms:10000}") int timeoutMillis,
+            @Value("${crawler.static-first.min-body-text-length:200}") int minBodyTextLength,
+            @Value("${crawler.static-first.max-body-size:10485760}") int maxBodySize) {
+        this.crawlArchive = crawlArchive;
+        this.timeoutMillis = timeoutMillis;
+        this.minBodyTextLength = minBodyTextLength;
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * 응답이 봇 검증(challenge) 페이지인지 확인
+     * Cloudflare는 일반 페이지에도 /cdn-cgi/challenge-platform 스크립트를 넣으므로 검증 응답 상태(403/503)일 때만 인정한다.
+     *
+     * @param status HTTP 상태 코드 (알 수 없으면 0, 이때는 검증 페이지 전용 설정값 _cf_chl_opt만 확인)
+     */
+    public static boolean isChallengePage(int status, String html) {
+        if (html == null) {
+            return false;
+        }
+        String htmlLower = html.toLowerCase(Locale.ROOT);
+        if (status <= 0) {
+            return htmlLower.contains("_cf_chl_opt");
+        }
+        if (status != 403 && status != 503) {
+            return false;
+        }
+        for (String marker : CHALLENGE_MARKERS) {
+            if (htmlLower.contains(marker)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * URL을 HTTP로 가져오고 브라우저 렌더링이 필요한지 판단
+     */
+    public Result fetch(String url) {
+        return fetch(url, Deadline.none());
+    }
+
+    /**
+     * 요청 마감 시각 안에서 URL을 HTTP로 가져오고 브라우저 렌더링이 필요한지 판단
+     */
+    public Result fetch(String url, Deadline deadline) {
+        // 재생 모드: 네트워크 대신 아카이브 응답 사용
+        if (crawlArchive.isReplaying()) {
+            CrawlArchive.ArchivedResponse archived = crawlArchive.find(url);
+            if (archived == null) {
+                return Result.escalate("아카이브에 없는 URL", false);
+            }
+            return analyze(archived.getStatus(), archived.getContentType(), archived.getBodyAsString(),
+                    archived.getFinalUrl());
+        }
+
+        int timeout = (int) deadline.budgetMillis(timeoutMillis);
+        if (timeout <= 0) {
+            return Result.escalate("요청 마감 시각 초과", false);
+        }
+
+        Connection.Response response;
+        try {
+            response = Jsoup.connect(url)
+                    .userAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+                    .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                    .header("Accept-Language", "en-US,en;q=0.9")
+                    .timeout(timeout)
+                    .maxBodySize(maxBodySize)
+                    .followRedirects(true)
+                    .ignoreHttpErrors(true)
+                    .execute();
+        } catch (Exception e) {
+            // 네트워크 오류는 호스트 특성이 아니므로 판단을 캐시하지 않음
+            return Result.escalate("HTTP 요청 실패: " + e.getMessage(), false);
+        }
+
+        if (crawlArchive.isRecording()) {
+            crawlArchive.record(url, new CrawlArchive.ArchivedResponse(
+                    response.statusCode(), response.url().toString(), response.headers(), response.bodyAsBytes()));
+        }
+
+        return analyze(response.statusCode(), response.contentType(), response.body(), response.url().toString());
+    }
+
+    /**
+     * 응답 상태/타입/본문으로 브라우저 렌더링이 필요한지 판단
+     */
+    private Result analyze(int status, String contentType, String html, String finalUrl) {
+        if (isChallengePage(status, html)) {
+            return Result.escalate("봇 검증 페이지 감지 (HTTP " + status + ")", true);
+        }
+        if (status == 403 || status == 429 || status == 503) {
+            return Result.escalate("차단 응답 (HTTP " + status + ")", true);
+        }
+        if (status >= 400) {
+            return Result.escalate("HTTP 오류 응답 (" + status + ")", false);
+        }
+
+        if (contentType != null && !contentType.toLowerCase().contains("html")) {
+            return Result.escalate("HTML이 아닌 응답 (" + contentType + ")", false);
+        }
+
+        Document doc = Jsoup.parse(html, finalUrl);
+        String reason = detectClientRendering(doc);
+        if (reason != null) {
+            return Result.escalate(reason, true);
+        }
+
+        return Result.ok(html, finalUrl);
+    }
+
+    /**
+     * 클라이언트 렌더링(SPA) 페이지인지 판단
+     * @return 브라우저가 필요한 이유, 필요 없으면 null
+     */
+    private String detectClientRendering(Document doc) {
+        Element body = doc.body();
+        if (body == null) {
+            return "body 없음";
+        }
+
+        Document textOnly = doc.clone();
+        textOnly.select("script, style, noscript, template").remove();
+
+        // 서버 렌더링된 SPA는 루트에 내용이 있으므로, 텍스트와 미디어가 전혀 없는 루트만 클라이언트 렌더링으로 판단
+        for (Element root : textOnly.select(SPA_ROOT_SELECTOR)) {
+            if (root.text().trim().isEmpty() && root.select(SPA_ROOT_CONTENT_SELECTOR).isEmpty()) {
+                return "비어 있는 SPA 루트 (" + root.cssSelector() + ")";
+            }
+        }
+
+        int textLength = textOnly.body() != null ? textOnly.body().text().trim().length() : 0;
+        if (textLength < minBodyTextLength) {
+            return "본문 텍스트 부족 (" + textLength + "자)";
+        }
+
+        String noscriptText = doc.select("noscript").text().toLowerCase();
+        if (noscriptText.contains("enable javascript") && textLength < minBodyTextLength * 5) {
+            return "JavaScript 필요 안내 (noscript)";
+        }
+
+        return null;
+    }
+
+    /**
+     * 정적 fetch 결과
+     */
+    public static class Result {
+        private final String html;
+        private final String finalUrl;
+        private final String escalationReason;
+        private final boolean cacheable;
+
+        private Result(String html, String finalUrl, String escalationReason, boolean cacheable) {
+            this.html = html;
+            this.finalUrl = finalUrl;
+            this.escalationReason = escalationReason;
+            this.cacheable = cacheable;
+        }
+
+        static Result ok(String html, String finalUrl) {
+            return new Result(html, finalUrl, null, true);
+        }
+
+        static Result escalate(String reason, boolean cacheable) {
+            return new Result(null, null, reason, cacheable);
+        }
+
+        public boolean needsBrowser() {
+            return escalationReason != null;
+        }
+
+        public String getHtml() {
+            return html;
+        }
+
+        public String getFinalUrl() {
+            return finalUrl;
+        }
+
+        public String getEscalationReason() {
+            return escalationReason;
+        }
+
+        /**
+         * 판단 결과를 호스트 단위로 캐시해도 되는지 (일시적인 네트워크 오류는 캐시하지 않음)
+         */
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+}
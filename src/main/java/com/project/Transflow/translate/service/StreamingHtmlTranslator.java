@@ -0,0 +1,535 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.memory.service.TranslationMemoryService;
+import com.project.Transflow.translate.dto.StreamingTranslationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Entities;
+import org.jsoup.parser.Parser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대용량 HTML을 DOM 트리 없이 번역하는 스트리밍 번역기
+ * HTML을 토큰 단위로 읽으면서 번역할 텍스트를 문맥 그룹으로 모으고, 창(window) 크기만큼 모이면
+ * 한 번의 배치 호출로 번역한 뒤 그때까지의 HTML을 바로 Writer로 출력한다.
+ * 메모리에는 현재 창의 토큰만 남으므로 페이지 크기와 관계없이 사용량이 거의 일정하다.
+ *
+ * DOM 기반 번역(HtmlTranslationService)과 같은 정리 규칙(스크립트/이벤트 핸들러 제거 등),
+ * 건너뛰기 규칙, 번역 메모리, 로컬 언어 감지, 보호 토큰을 적용한다.
+ * 본문만 번역, 사이트 템플릿 캐시, 문서 번역 API는 문서 전체가 필요하므로 사용하지 않는다.
+ */
+@Slf4j
+@Component
+public class StreamingHtmlTranslator {
+
+    // 번역하지 않고 그대로 출력하는 요소
+    private static final Set<String> SKIP_TAGS = Set.of("style", "code", "pre", "textarea", "xmp");
+
+    // 내용까지 통째로 제거하는 요소
+    private static final Set<String> DROP_TAGS = Set.of("script", "noscript");
+
+    // 문맥 그룹 경계가 되는 요소 (인라인 요소 a, b, em, strong 등은 그룹을 나누지 않음)
+    private static final Set<String> CONTEXT_TAGS = Set.of(
+            "p", "h1", "h2", "h3", "h4", "h5", "h6", "li", "td", "th", "blockquote", "article", "section",
+            "div", "span", "html", "head", "body", "title", "ul", "ol", "table", "tr", "header", "footer",
+            "nav", "main", "aside");
+
+    private final TranslationService translationService;
+    private final TranslationMemoryService translationMemoryService;
+    private final PlaceholderMasker placeholderMasker;
+    private final LanguageDetector languageDetector;
+    private final int windowChars;
+    private final int windowGroups;
+    private final int maxBufferedChars;
+
+    public StreamingHtmlTranslator(
+            TranslationService translationService,
+            TranslationMemoryService translationMemoryService,
+            PlaceholderMasker placeholderMasker,
+            LanguageDetector languageDetector,
+            @Value("${translation.streaming.window-chars:20000}") int windowChars,
+            @Value("${translation.streaming.window-groups:50}") int windowGroups,
+            @Value("${translation.streaming.max-buffered-chars:1048576}") int maxBufferedChars) {
+        this.translationService = translationService;
+        this.translationMemoryService = translationMemoryService;
+        this.placeholderMasker = placeholderMasker;
+        this.languageDetector = languageDetector;
+        this.windowChars = windowChars;
+        this.windowGroups = windowGroups;
+        this.maxBufferedChars = maxBufferedChars;
+    }
+
+    /**
+     * reader의 HTML을 번역하여 writer로 출력
+     * 마감 시각이 지나면 남은 텍스트는 원문 그대로 출력한다.
+     *
+     * @param sourceLang 원본 언어 (null 또는 auto면 DeepL 자동 감지)
+     */
+    public StreamingTranslationResult translate(Reader reader, Writer writer, String targetLang, String sourceLang,
+                                                Deadline deadline) throws IOException {
+        log.info("스트리밍 HTML 번역 시작 - Target: {}", targetLang);
+        StreamRun run = new StreamRun(writer, targetLang, sourceLang, deadline != null ? deadline : Deadline.none());
+        HtmlTokenizer tokenizer = new HtmlTokenizer(reader);
+
+        HtmlTokenizer.Token token;
+        while ((token = tokenizer.next()) != null) {
+            handle(run, token);
+        }
+        flushWindow(run);
+        writer.flush();
+
+        log.info("스트리밍 HTML 번역 완료 [{}] - 텍스트 조각 {}개, 문맥 그룹 {}개, 창 {}개, 원문 유지 {}개",
+                targetLang, run.segmentCount, run.groupCount, run.windowCount, run.untranslatedCount);
+        return StreamingTranslationResult.builder()
+                .segmentCount(run.segmentCount)
+                .groupCount(run.groupCount)
+                .windowCount(run.windowCount)
+                .memoryHitGroups(run.memoryHitGroups)
+                .targetLanguageGroups(run.targetLanguageGroups)
+                .untranslatedCount(run.untranslatedCount)
+                .partial(run.untranslatedCount > 0)
+                .build();
+    }
+
+    private void handle(StreamRun run, HtmlTokenizer.Token token) throws IOException {
+        // script/noscript는 종료 태그까지 통째로 제거
+        if (run.dropTag != null) {
+            if (token.type == HtmlTokenizer.Type.START_TAG && run.dropTag.equals(token.tagName) && !token.selfClosing) {
+                run.dropDepth++;
+            } else if (token.type == HtmlTokenizer.Type.END_TAG && run.dropTag.equals(token.tagName) && --run.dropDepth == 0) {
+                run.dropTag = null;
+            }
+            return;
+        }
+
+        switch (token.type) {
+            case TEXT:
+                if (run.skipDepth > 0) {
+                    appendMarkup(run, token.raw);
+                } else {
+                    appendText(run, token.raw);
+                }
+                break;
+            case RAW_TEXT:
+            case OTHER:
+                appendMarkup(run, token.raw);
+                break;
+            case START_TAG:
+                handleStartTag(run, token);
+                break;
+            case END_TAG:
+                if (DROP_TAGS.contains(token.tagName)) {
+                    return; // 짝이 없는 종료 태그
+                }
+                if (SKIP_TAGS.contains(token.tagName) && run.skipDepth > 0) {
+                    run.skipDepth--;
+                }
+                if (CONTEXT_TAGS.contains(token.tagName)) {
+                    closeGroup(run);
+                }
+                appendMarkup(run, token.raw);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void handleStartTag(StreamRun run, HtmlTokenizer.Token token) throws IOException {
+        String name = token.tagName;
+        if (DROP_TAGS.contains(name)) {
+            // script는 자기 닫힘 표기여도 내용이 이어짐
+            if (!token.selfClosing || "script".equals(name)) {
+                run.dropTag = name;
+                run.dropDepth = 1;
+            }
+            return;
+        }
+        if ("link".equals(name) && isBlockedLink(token)) {
+            return;
+        }
+        if (CONTEXT_TAGS.contains(name)) {
+            closeGroup(run);
+        }
+        if (SKIP_TAGS.contains(name) && !token.selfClosing) {
+            run.skipDepth++;
+        }
+        appendMarkup(run, sanitizeTag(token));
+    }
+
+    /**
+     * 스크립트 미리 로드, 모듈 미리 로드, manifest 링크인지 (DOM 번역의 정리 규칙과 동일)
+     */
+    private boolean isBlockedLink(HtmlTokenizer.Token token) {
+        String rel = "";
+        String as = "";
+        for (HtmlTokenizer.Attribute attribute : token.attributes) {
+            String attrName = attribute.name.toLowerCase();
+            if ("rel".equals(attrName)) {
+                rel = attribute.value();
+            } else if ("as".equals(attrName)) {
+                as = attribute.value();
+            }
+        }
+        return "manifest".equals(rel) || "modulepreload".equals(rel) || ("preload".equals(rel) && "script".equals(as));
+    }
+
+    /**
+     * 이벤트 핸들러, javascript: URL, React 속성 제거, iframe 로드 비활성화 (바뀐 것이 없으면 원문 그대로)
+     */
+    private String sanitizeTag(HtmlTokenizer.Token token) {
+        boolean iframe = "iframe".equals(token.tagName);
+        boolean changed = false;
+        boolean disabledSrc = false;
+        List<HtmlTokenizer.Attribute> kept = new ArrayList<>(token.attributes.size());
+        for (HtmlTokenizer.Attribute attribute : token.attributes) {
+            String attrName = attribute.name.toLowerCase();
+            if (attrName.startsWith("on") || "data-reactroot".equals(attrName) || "data-react-helmet".equals(attrName)
+                    || ScriptUrlFilter.isScriptUrl(attrName, attribute.value())) {
+                changed = true;
+                continue;
+            }
+            if (iframe && "src".equals(attrName)) {
+                changed = true;
+                disabledSrc = true;
+                continue;
+            }
+            kept.add(attribute);
+        }
+        if (!changed) {
+            return token.raw;
+        }
+        if (disabledSrc) {
+            kept.add(new HtmlTokenizer.Attribute("data-disabled", "\"true\""));
+        }
+        return token.rebuild(kept);
+    }
+
+    /**
+     * 텍스트 토큰을 현재 문맥 그룹에 추가 (번역하지 않을 텍스트는 그대로 출력)
+     */
+    private void appendText(StreamRun run, String raw) throws IOException {
+        String text = normalizeWhitespace(Parser.unescapeEntities(raw, false)).trim();
+        if (text.length() < 2 || TextSkipClassifier.shouldSkip(text)) {
+            appendMarkup(run, raw);
+            return;
+        }
+
+        Segment segment = new Segment(raw, text);
+        if (run.currentGroup == null) {
+            run.currentGroup = new ArrayList<>();
+        }
+        run.currentGroup.add(segment);
+        run.window.add(segment);
+        run.bufferedChars += raw.length();
+        run.windowTextChars += text.length();
+        run.segmentCount++;
+        // 문맥 그룹이 끝나지 않아도 창 크기를 넘으면 출력 (아주 긴 문단도 한 번의 호출 크기를 넘지 않도록)
+        if (run.bufferedChars >= maxBufferedChars || run.windowTextChars >= windowChars) {
+            flushWindow(run);
+        }
+    }
+
+    /**
+     * 번역하지 않는 HTML 조각 출력 (번역 대기 중인 텍스트가 있으면 순서를 지키기 위해 창에 보관)
+     */
+    private void appendMarkup(StreamRun run, String markup) throws IOException {
+        if (run.window.isEmpty()) {
+            run.writer.write(markup);
+            return;
+        }
+        run.window.add(markup);
+        run.bufferedChars += markup.length();
+        if (run.bufferedChars >= maxBufferedChars) {
+            flushWindow(run);
+        }
+    }
+
+    /**
+     * 현재 문맥 그룹을 닫고, 창이 가득 찼으면 번역하여 출력
+     */
+    private void closeGroup(StreamRun run) throws IOException {
+        if (run.currentGroup == null) {
+            return;
+        }
+        Group group = new Group(run.currentGroup);
+        run.currentGroup = null;
+        run.groups.add(group);
+        run.groupCount++;
+        if (run.windowTextChars >= windowChars || run.groups.size() >= windowGroups) {
+            flushWindow(run);
+        }
+    }
+
+    /**
+     * 창에 모인 문맥 그룹을 번역하고 창의 HTML을 출력한 뒤 비움
+     */
+    private void flushWindow(StreamRun run) throws IOException {
+        // 그룹 중간에서 창이 끝나면 그 지점에서 그룹을 나눔
+        if (run.currentGroup != null) {
+            run.groups.add(new Group(run.currentGroup));
+            run.groupCount++;
+            run.currentGroup = null;
+        }
+        if (!run.groups.isEmpty()) {
+            translateWindow(run, run.groups);
+            run.windowCount++;
+        }
+
+        for (Object piece : run.window) {
+            if (piece instanceof Segment) {
+                writeSegment(run.writer, (Segment) piece);
+            } else {
+                run.writer.write((String) piece);
+            }
+        }
+        run.writer.flush();
+
+        run.window.clear();
+        run.groups.clear();
+        run.windowTextChars = 0;
+        run.bufferedChars = 0;
+    }
+
+    private void writeSegment(Writer writer, Segment segment) throws IOException {
+        if (segment.translated == null) {
+            writer.write(segment.raw);
+            return;
+        }
+        // 원문 앞뒤 공백은 유지
+        String raw = segment.raw;
+        int start = 0;
+        while (start < raw.length() && Character.isWhitespace(raw.charAt(start))) {
+            start++;
+        }
+        int end = raw.length();
+        while (end > start && Character.isWhitespace(raw.charAt(end - 1))) {
+            end--;
+        }
+        writer.write(raw, 0, start);
+        writer.write(Entities.escape(segment.translated));
+        writer.write(raw, end, raw.length() - end);
+    }
+
+    /**
+     * 창의 문맥 그룹 번역: 언어 감지 -> 번역 메모리 -> 배치 호출
+     */
+    private void translateWindow(StreamRun run, List<Group> groups) {
+        List<Group> pending = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            if (run.deadline.isExpired()) {
+                run.untranslatedCount += group.segments.size();
+                continue;
+            }
+            // 짧은 텍스트는 오판할 수 있으므로 확신할 때만 이미 대상 언어인 그룹으로 보고 건너뜀
+            if (LanguageDetector.isSameLanguage(languageDetector.detectConfidently(group.text), run.targetLang)) {
+                run.targetLanguageGroups++;
+                continue;
+            }
+            pending.add(group);
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        if (translationMemoryService.isEnabled()) {
+            List<String> texts = new ArrayList<>(pending.size());
+            for (Group group : pending) {
+                texts.add(group.text);
+            }
+            Map<String, String> memory = translationMemoryService.lookup(texts, run.targetLang);
+            if (!memory.isEmpty()) {
+                List<Group> remaining = new ArrayList<>(pending.size());
+                for (Group group : pending) {
+                    String reviewed = memory.get(group.text);
+                    if (reviewed != null) {
+                        group.apply(reviewed);
+                        run.memoryHitGroups++;
+                    } else {
+                        remaining.add(group);
+                    }
+                }
+                pending = remaining;
+            }
+        }
+
+        translateGroups(run, pending, resolveSourceLang(run.sourceLang));
+    }
+
+    /**
+     * 같은 원문 언어의 문맥 그룹들을 보호 토큰을 적용해 한 번의 배치 호출로 번역
+     * 배치 호출이 실패하면 그룹별로 다시 호출하지 않고 창 전체를 원문으로 둔다. (Rate Limit 중 호출 수 증폭 방지)
+     */
+    private void translateGroups(StreamRun run, List<Group> groups, String sourceLang) {
+        List<Group> requested = new ArrayList<>(groups.size());
+        List<PlaceholderMasker.Masked> masks = new ArrayList<>(groups.size());
+        List<String> texts = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            PlaceholderMasker.Masked masked = placeholderMasker.mask(group.text);
+            if (masked.isOnlyPlaceholders()) {
+                continue; // 번역할 내용 없음
+            }
+            requested.add(group);
+            masks.add(masked);
+            texts.add(masked.getText());
+        }
+        if (requested.isEmpty()) {
+            return;
+        }
+
+        List<String> results;
+        try {
+            results = translationService.translateBatch(texts, run.targetLang, sourceLang, run.deadline);
+            if (results.size() != texts.size()) {
+                throw new IllegalStateException("배치 번역 결과 수가 요청과 다릅니다: " + results.size() + "/" + texts.size());
+            }
+        } catch (Exception e) {
+            log.warn("스트리밍 창 배치 번역 실패, 문맥 그룹 {}개는 원문 유지: {}", requested.size(), e.getMessage());
+            for (Group group : requested) {
+                run.untranslatedCount += group.segments.size();
+            }
+            return;
+        }
+
+        for (int i = 0; i < requested.size(); i++) {
+            Group group = requested.get(i);
+            String restored = placeholderMasker.unmask(results.get(i), masks.get(i));
+            if (restored == null) {
+                // 보호 토큰을 복원하지 못하면 원문 그대로 다시 번역
+                if (run.deadline.isExpired()) {
+                    run.untranslatedCount += group.segments.size();
+                    continue;
+                }
+                try {
+                    restored = translationService.translate(group.text, run.targetLang, sourceLang, run.deadline);
+                } catch (Exception e) {
+                    log.warn("문맥 그룹 번역 실패: {}", e.getMessage());
+                    run.untranslatedCount += group.segments.size();
+                    continue;
+                }
+            }
+            group.apply(restored);
+        }
+    }
+
+    /**
+     * 원문 언어가 자동(auto)이면 null을 반환해 source_lang 없이 요청 (DeepL이 직접 감지)
+     */
+    private String resolveSourceLang(String sourceLang) {
+        if (sourceLang != null && !sourceLang.isEmpty() && !sourceLang.equalsIgnoreCase("auto")) {
+            return sourceLang;
+        }
+        return null;
+    }
+
+    /**
+     * 연속된 공백 문자를 공백 하나로 (Jsoup TextNode.text()와 같은 정규화)
+     */
+    private static String normalizeWhitespace(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean lastWasSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r') {
+                if (!lastWasSpace) {
+                    sb.append(' ');
+                    lastWasSpace = true;
+                }
+            } else {
+                sb.append(c);
+                lastWasSpace = false;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한 번의 스트리밍 번역 상태
+     */
+    private static class StreamRun {
+        final Writer writer;
+        final String targetLang;
+        final String sourceLang;
+        final Deadline deadline;
+
+        // 출력 대기 중인 조각 (HTML 문자열 또는 Segment), 첫 번역 대상 텍스트부터 창이 비워질 때까지 보관
+        final List<Object> window = new ArrayList<>();
+        final List<Group> groups = new ArrayList<>();
+        List<Segment> currentGroup;
+        int windowTextChars;
+        int bufferedChars;
+
+        String dropTag;
+        int dropDepth;
+        int skipDepth;
+
+        int segmentCount;
+        int groupCount;
+        int windowCount;
+        int memoryHitGroups;
+        int targetLanguageGroups;
+        int untranslatedCount;
+
+        StreamRun(Writer writer, String targetLang, String sourceLang, Deadline deadline) {
+            this.writer = writer;
+            this.targetLang = targetLang;
+            this.sourceLang = sourceLang;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * 번역 대상 텍스트 토큰
+     */
+    private static class Segment {
+        final String raw;  // 입력 원문 (엔티티 포함, 번역하지 않으면 그대로 출력)
+        final String text; // 엔티티 디코딩, 공백 정리한 텍스트
+        String translated;
+
+        Segment(String raw, String text) {
+            this.raw = raw;
+            this.text = text;
+        }
+    }
+
+    /**
+     * 문맥 그룹 (같은 문단/제목/셀의 텍스트 토큰들)
+     */
+    private static class Group {
+        final List<Segment> segments;
+        final String text;
+
+        Group(List<Segment> segments) {
+            this.segments = segments;
+            List<String> texts = new ArrayList<>(segments.size());
+            for (Segment segment : segments) {
+                texts.add(segment.text);
+            }
+            this.text = ContextGroupText.combine(texts);
+        }
+
+        /**
+         * 그룹 번역 결과를 원문 길이 비율대로 각 텍스트 토큰에 분배
+         */
+        void apply(String translatedText) {
+            List<String> texts = new ArrayList<>(segments.size());
+            for (Segment segment : segments) {
+                texts.add(segment.text);
+            }
+            List<String> parts = ContextGroupText.distribute(texts, text, translatedText);
+            if (parts == null) {
+                return;
+            }
+            for (int i = 0; i < segments.size(); i++) {
+                segments.get(i).translated = parts.get(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.Transflow.translate.service;
+
+/**
+ * 번역하지 않아야 할 텍스트 노드(URL, 이메일, 숫자만, 공백/문장부호만)인지 판별
+ * 텍스트 노드마다 호출되므로 정규식 없이 문자열을 한 번만 훑어서 모든 경우를 함께 판단한다.
+ * 판별 기준은 기존 정규식과 같다.
+ * - URL: ^https?://.* (줄바꿈 없음)
+ * - 이메일: ^[\w-\.]+@([\w-]+\.)+[\w-]{2,4}$
+ * - 숫자: ^\d+$
+ * - 공백/문장부호: ^[\s\p{Punct}]+$
+ */
+final class TextSkipClassifier {
+
+    private TextSkipClassifier() {
+    }
+
+    static boolean shouldSkip(String text) {
+        int length = text.length();
+        if (length == 0) {
+            return true;
+        }
+
+        boolean url = text.startsWith("http://") || text.startsWith("https://");
+        boolean singleLine = true;
+        boolean digitsOnly = true;
+        boolean spaceOrPunctOnly = true;
+
+        // 이메일 형태 추적: @ 위치, 도메인 부분의 마지막 점 위치
+        boolean emailCandidate = true;
+        int at = -1;
+        int lastDot = -1;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c < '0' || c > '9') {
+                digitsOnly = false;
+            }
+            if (spaceOrPunctOnly && !isSpace(c) && !isPunct(c)) {
+                spaceOrPunctOnly = false;
+            }
+            if (singleLine && isLineTerminator(c)) {
+                singleLine = false;
+            }
+
+            if (emailCandidate) {
+                if (c == '@') {
+                    if (at >= 0 || i == 0) {
+                        emailCandidate = false;
+                    }
+                    at = i;
+                } else if (c == '.') {
+                    // 도메인 부분의 빈 라벨(@. 또는 ..)은 허용하지 않음
+                    if (at >= 0) {
+                        if (i == at + 1 || i == lastDot + 1) {
+                            emailCandidate = false;
+                        }
+                        lastDot = i;
+                    }
+                } else if (!isWordOrDash(c)) {
+                    emailCandidate = false;
+                }
+            }
+
+            // 어느 경우에도 해당하지 않게 되면 더 볼 필요 없음
+            if (!digitsOnly && !spaceOrPunctOnly && !emailCandidate && !(url && singleLine)) {
+                return false;
+            }
+        }
+
+        if (url && singleLine) {
+            return true;
+        }
+        if (digitsOnly || spaceOrPunctOnly) {
+            return true;
+        }
+        if (emailCandidate && at > 0 && lastDot > at) {
+            int topLevelLength = length - 1 - lastDot;
+            return topLevelLength >= 2 && topLevelLength <= 4;
+        }
+        return false;
+    }
+
+    // \w (ASCII) 또는 '-'
+    private static boolean isWordOrDash(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+
+    // \s (ASCII 공백)
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    // \p{Punct} (ASCII 문장부호)
+    private static boolean isPunct(char c) {
+        return (c >= '!' && c <= '/') || (c >= ':' && c <= '@') || (c >= '[' && c <= '`') || (c >= '{' && c <= '~');
+    }
+
+    // 정규식의 '.'이 매칭하지 않는 줄 끝 문자
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == (char) 0x2028 || c == (char) 0x2029;
+    }
+}
@@ -1,15 +1,35 @@
 package com.project.Transflow.translate.service;
 
 
+import com.project.Transflow.asset.service.AssetUrlRewriter;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.snapshot.service.CrawlSnapshotService;
+import com.project.Transflow.translate.dto.CrawlResult;
 import com.project.Transflow.translate.dto.HtmlTranslationRequest;
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
+import com.project.Transflow.translate.dto.StreamingTranslationResult;
+import com.project.Transflow.translate.dto.TranslationEstimateRequest;
+import com.project.Transflow.translate.dto.TranslationEstimateResponse;
+import com.project.Transflow.translate.dto.TranslationOptions;
 import com.project.Transflow.translate.dto.TranslationRequest;
 import com.project.Transflow.translate.dto.TranslationResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -19,30 +39,90 @@ public class TransflowService {
 
     private final CrawlerService crawlerService;
     private final HtmlTranslationService htmlTranslationService;
+    private final StreamingHtmlTranslator streamingHtmlTranslator;
+    private final CrawlSnapshotService crawlSnapshotService;
+    private final AssetUrlRewriter assetUrlRewriter;
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+
+    // 요청 하나의 전체 처리 시간 (Tomcat connection-timeout 5분보다 짧게)
+    @Value("${translation.request-timeout-seconds:270}")
+    private long requestTimeoutSeconds;
+
+    // 크롤링이 늦어져도 번역에 남겨 둘 최소 시간
+    @Value("${translation.translate-reserve-seconds:60}")
+    private long translateReserveSeconds;
+
+    /**
+     * 크롤링한 HTML을 원문으로 보관/표시할 수 있게 정리
+     * 스크립트, 이벤트 핸들러를 제거하고 이미지/폰트 URL을 에셋 프록시 경로로 변경한다.
+     * (미리보기가 원본 사이트를 직접 참조하지 않도록, 상대 경로는 리다이렉트 후 최종 URL 기준으로 해석)
+     * 웹페이지 번역과 문서 초벌 번역 파이프라인(DocumentDraftPipeline)이 같이 사용한다.
+     */
+    public String prepareOriginalHtml(CrawlResult crawlResult, String requestUrl) {
+        String html = htmlTranslationService.sanitizeHtml(crawlResult.getHtml());
+        if (assetUrlRewriter.isEnabled()) {
+            html = assetUrlRewriter.rewriteHtml(html, assetBaseUrl(crawlResult, requestUrl));
+        }
+        return html;
+    }
+
+    private String assetBaseUrl(CrawlResult crawlResult, String requestUrl) {
+        return crawlResult.getFinalUrl() != null ? crawlResult.getFinalUrl() : requestUrl;
+    }
 
     public TranslationResponse translateWebPage(TranslationRequest request) {
         try {
             log.info("웹페이지 번역 프로세스 시작 - URL: {}", request.getUrl());
+            Deadline deadline = Deadline.after(Duration.ofSeconds(requestTimeoutSeconds));
 
-            // 1. 웹페이지 크롤링 (HTML과 CSS 포함)
-            Map<String, String> crawlResult = crawlerService.crawlWebPageWithStyles(request.getUrl());
-            String originalHtml = crawlResult.get("html");
-            String css = crawlResult.get("css");
+            // 1. 웹페이지 크롤링 (HTML과 CSS 포함, 번역 시간을 남겨 둔 마감 시각 안에서)
+            CrawlResult crawlResult = crawlerService.crawl(
+                    request.getUrl(), deadline.reserve(Duration.ofSeconds(translateReserveSeconds)));
+            String originalHtml = prepareOriginalHtml(crawlResult, request.getUrl());
+            String css = crawlResult.getCss();
+            Long snapshotId = saveSnapshot(crawlResult);
+
+            // CSS의 이미지/폰트 URL도 HTML과 같은 기준으로 에셋 프록시 경로로 변경
+            if (assetUrlRewriter.isEnabled()) {
+                css = assetUrlRewriter.rewriteCssParts(crawlResult.getCssParts(), assetBaseUrl(crawlResult, request.getUrl()));
+            }
 
             // 2. 번역이 필요한지 확인 (targetLang이 'NONE'이면 번역 건너뛰기)
             String translatedHtml = null; // 번역하지 않으면 null
             String translatedText = null;
+            Map<String, String> translatedHtmls = null; // 다국어 번역 시 언어별 HTML
+            Long jobId = null;
+            Map<String, Long> jobIds = null;
+            boolean partial = CrawlResult.OUTCOME_PARTIAL_CONTENT.equals(crawlResult.getOutcome());
+            List<String> targetLangs = resolveTargetLangs(request);
             
-            if (request.getTargetLang() != null && !request.getTargetLang().equalsIgnoreCase("NONE")) {
-                // HTML 구조 유지하며 번역
-                translatedHtml = htmlTranslationService.translateHtml(
+            if (!targetLangs.isEmpty()) {
+                // HTML 구조 유지하며 번역 (남은 시간 안에서, 초과 시 부분 번역)
+                // 여러 언어면 파싱/세그먼트 분할은 한 번만 하고 언어별 번역은 동시에 실행
+                Map<String, HtmlTranslationResult> translations = htmlTranslationService.translateToLanguages(
                         originalHtml,
-                        request.getTargetLang(),
-                        request.getSourceLang()
+                        targetLangs,
+                        request.getSourceLang(),
+                        toOptions(request.getMainContentOnly(), request.getUrl(), deadline)
                 );
-                log.info("HTML 번역 완료");
+                HtmlTranslationResult translation = translations.get(targetLangs.get(0));
+                translatedHtml = translation.getHtml();
+                jobId = translation.getJobId();
+                for (HtmlTranslationResult result : translations.values()) {
+                    partial = partial || result.isPartial();
+                }
+                if (targetLangs.size() > 1) {
+                    translatedHtmls = new LinkedHashMap<>();
+                    jobIds = new LinkedHashMap<>();
+                    for (Map.Entry<String, HtmlTranslationResult> entry : translations.entrySet()) {
+                        translatedHtmls.put(entry.getKey(), entry.getValue().getHtml());
+                        jobIds.put(entry.getKey(), entry.getValue().getJobId());
+                    }
+                }
+                log.info("HTML 번역 완료 - 언어: {}", targetLangs);
                 
-                // 번역된 텍스트 추출
+                // 번역된 텍스트 추출 (첫 번째 대상 언어)
                 Document translatedDoc = Jsoup.parse(translatedHtml);
                 translatedDoc.select("script, style").remove();
                 translatedText = translatedDoc.body().text();
@@ -61,12 +141,21 @@ public class TransflowService {
                     // HTML 결과
                     .originalHtml(originalHtml)
                     .translatedHtml(translatedHtml) // 번역하지 않으면 null
+                    .translatedHtmls(translatedHtmls) // 여러 언어 요청 시에만
                     .css(css)
                     // 텍스트 결과 (하위 호환성)
                     .originalText(originalText)
                     .translatedText(translatedText) // 번역하지 않으면 null
                     .sourceLang(request.getSourceLang())
-                    .targetLang(request.getTargetLang())
+                    .targetLang(targetLangs.isEmpty() ? request.getTargetLang() : targetLangs.get(0))
+                    // 크롤링 과정 정보
+                    .fetchMode(crawlResult.getFetchMode())
+                    .crawlOutcome(crawlResult.getOutcome())
+                    .crawlTimings(crawlResult.getPhaseTimings())
+                    .snapshotId(snapshotId)
+                    .partial(partial)
+                    .jobId(jobId)
+                    .jobIds(jobIds)
                     .success(true)
                     .build();
 
@@ -80,6 +169,103 @@ public class TransflowService {
         }
     }
     
+    /**
+     * 크롤링 결과를 스냅샷으로 저장 (실패해도 번역은 계속 진행)
+     */
+    private Long saveSnapshot(CrawlResult crawlResult) {
+        try {
+            return crawlSnapshotService.saveSnapshot(crawlResult, null).getId();
+        } catch (Exception e) {
+            log.warn("크롤링 스냅샷 저장 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 대상 언어 목록 (targetLangs가 있으면 우선, 없으면 targetLang 하나). NONE은 제외
+     */
+    private List<String> resolveTargetLangs(TranslationRequest request) {
+        List<String> langs = new ArrayList<>();
+        if (request.getTargetLangs() != null && !request.getTargetLangs().isEmpty()) {
+            for (String lang : request.getTargetLangs()) {
+                if (lang != null && !lang.trim().isEmpty() && !lang.trim().equalsIgnoreCase("NONE")
+                        && !langs.contains(lang.trim().toUpperCase())) {
+                    langs.add(lang.trim().toUpperCase());
+                }
+            }
+        } else if (request.getTargetLang() != null && !request.getTargetLang().equalsIgnoreCase("NONE")) {
+            langs.add(request.getTargetLang());
+        }
+        return langs;
+    }
+
+    private TranslationOptions toOptions(Boolean mainContentOnly, String sourceUrl, Deadline deadline) {
+        return TranslationOptions.builder()
+                .mainContentOnly(Boolean.TRUE.equals(mainContentOnly))
+                .sourceUrl(sourceUrl)
+                .deadline(deadline)
+                .build();
+    }
+
+    /**
+     * 번역 전 비용 추정 (DeepL 호출 없이 세그먼트 수, 문자 수, 예상 호출 수/시간 계산)
+     * 문서 ID가 있으면 저장된 원문 버전을, 없으면 URL을 크롤링하여 사용한다. 문서는 변경하지 않는다.
+     *
+     * @throws IllegalArgumentException 대상 언어를 정할 수 없거나 문서/원문 버전이 없는 경우
+     */
+    public TranslationEstimateResponse estimate(TranslationEstimateRequest request) {
+        if (request.getDocumentId() == null && (request.getUrl() == null || request.getUrl().trim().isEmpty())) {
+            throw new IllegalArgumentException("documentId 또는 url이 필요합니다.");
+        }
+
+        if (request.getDocumentId() != null) {
+            com.project.Transflow.document.entity.Document document = documentRepository.findById(request.getDocumentId())
+                    .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + request.getDocumentId()));
+            DocumentVersion original = documentVersionRepository.findByDocument_Id(document.getId()).stream()
+                    .filter(v -> "ORIGINAL".equals(v.getVersionType()))
+                    .min(Comparator.comparing(DocumentVersion::getVersionNumber))
+                    .orElseThrow(() -> new IllegalArgumentException("문서의 원문 버전이 없습니다: " + request.getDocumentId()));
+
+            String targetLang = hasText(request.getTargetLang()) ? request.getTargetLang() : document.getTargetLang();
+            if (!hasText(targetLang)) {
+                throw new IllegalArgumentException("targetLang이 필요합니다. (문서에 대상 언어가 없습니다)");
+            }
+            String sourceLang = request.getSourceLang() != null ? request.getSourceLang() : document.getSourceLang();
+            TranslationEstimateResponse estimate = htmlTranslationService.estimate(original.getContent(), targetLang,
+                    sourceLang, toOptions(request.getMainContentOnly(), document.getOriginalUrl(), Deadline.none()));
+            estimate.setDocumentId(document.getId());
+            estimate.setUrl(document.getOriginalUrl());
+            return estimate;
+        }
+
+        if (!hasText(request.getTargetLang())) {
+            throw new IllegalArgumentException("targetLang이 필요합니다.");
+        }
+        Deadline deadline = Deadline.after(Duration.ofSeconds(requestTimeoutSeconds));
+        CrawlResult crawlResult = crawlerService.crawl(request.getUrl(), deadline);
+        TranslationEstimateResponse estimate = htmlTranslationService.estimate(crawlResult.getHtml(), request.getTargetLang(),
+                request.getSourceLang(), toOptions(request.getMainContentOnly(), request.getUrl(), deadline));
+        estimate.setUrl(request.getUrl());
+        return estimate;
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    /**
+     * 대용량 HTML을 읽으면서 번역하여 바로 writer로 출력 (페이지 전체를 메모리에 올리지 않음)
+     * 마감 시각이 지나면 남은 텍스트는 원문 그대로 출력한다.
+     */
+    public StreamingTranslationResult translateHtmlStream(Reader reader, Writer writer, String targetLang,
+                                                          String sourceLang) throws IOException {
+        if (targetLang == null || targetLang.trim().isEmpty()) {
+            throw new IllegalArgumentException("targetLang이 필요합니다.");
+        }
+        Deadline deadline = Deadline.after(Duration.ofSeconds(requestTimeoutSeconds));
+        return streamingHtmlTranslator.translate(reader, writer, targetLang, sourceLang, deadline);
+    }
+
     /**
      * HTML 문자열을 직접 번역 (URL 크롤링 없이)
      * 선택된 영역만 번역할 때 사용
@@ -88,12 +274,15 @@ public class TransflowService {
         try {
             log.info("HTML 직접 번역 시작 - HTML 길이: {}", request.getHtml().length());
             
-            // HTML 번역
-            String translatedHtml = htmlTranslationService.translateHtml(
+            // HTML 번역 (마감 시각 초과 시 부분 번역)
+            Deadline deadline = Deadline.after(Duration.ofSeconds(requestTimeoutSeconds));
+            HtmlTranslationResult translation = htmlTranslationService.translate(
                     request.getHtml(),
                     request.getTargetLang(),
-                    request.getSourceLang()
+                    request.getSourceLang(),
+                    toOptions(request.getMainContentOnly(), request.getSourceUrl(), deadline)
             );
+            String translatedHtml = translation.getHtml();
             
             // 텍스트 추출 (하위 호환성)
             Document originalDoc = Jsoup.parse(request.getHtml());
@@ -112,6 +301,8 @@ public class TransflowService {
                     .translatedText(translatedText)
                     .targetLang(request.getTargetLang())
                     .sourceLang(request.getSourceLang())
+                    .partial(translation.isPartial())
+                    .jobId(translation.getJobId())
                     .success(true)
                     .build();
                     
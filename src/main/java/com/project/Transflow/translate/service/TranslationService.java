@@ -1,17 +1,36 @@
 package com.project.Transflow.translate.service;
 
+import com.project.Transflow.translate.dto.DeepLDocumentResponse;
+import com.project.Transflow.translate.dto.DeepLDocumentStatus;
 import com.project.Transflow.translate.dto.DeepLResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -20,18 +39,70 @@ public class TranslationService {
     private final WebClient webClient;
     private final String apiKey;
 
+    // 문서 번역 API (대용량 HTML을 파일로 업로드해 한 번에 번역)
+    private final WebClient documentClient;
+    private final Duration documentPollInterval;
+
+    // 마이크로 배치: 동시에 들어온 작은 번역 요청을 언어 쌍별로 잠깐 모아 한 번의 배치 호출로 전송
+    private final boolean batcherEnabled;
+    private final long batchWindowMillis;
+    private final int batchMaxSegments;
+    private final int batchMaxChars;
+    // DeepL 요청 본문 크기 제한(128 KiB) 대비: 폼 인코딩 후 크기 기준 (한글 등은 글자당 9바이트로 늘어남)
+    private final int batchMaxRequestBytes;
+    private final Map<String, PendingBatch> pendingBatches = new HashMap<>();
+    private final ScheduledExecutorService batchScheduler;
+    private final ExecutorService batchDispatcher;
+
     public TranslationService(
             @Value("${deepl.api.url}") String apiUrl,
-            @Value("${deepl.api.key}") String apiKey) {
+            @Value("${deepl.api.key}") String apiKey,
+            @Value("${deepl.document.url:https://api-free.deepl.com/v2/document}") String documentUrl,
+            @Value("${deepl.document.poll-interval-ms:1000}") long documentPollIntervalMillis,
+            @Value("${translation.batcher.enabled:true}") boolean batcherEnabled,
+            @Value("${translation.batcher.window-ms:20}") long batchWindowMillis,
+            @Value("${translation.batcher.max-segments:50}") int batchMaxSegments,
+            @Value("${translation.batcher.max-chars:30000}") int batchMaxChars,
+            @Value("${translation.batcher.max-request-bytes:120000}") int batchMaxRequestBytes,
+            @Value("${translation.batcher.dispatch-threads:4}") int batchDispatchThreads) {
         this.apiKey = apiKey;
         this.webClient = WebClient.builder()
                 .baseUrl(apiUrl)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
                 .build();
+        this.documentClient = WebClient.builder()
+                .baseUrl(documentUrl)
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(30 * 1024 * 1024)) // 30MB
+                .build();
+        this.documentPollInterval = Duration.ofMillis(documentPollIntervalMillis);
+
+        this.batcherEnabled = batcherEnabled;
+        this.batchWindowMillis = batchWindowMillis;
+        this.batchMaxSegments = batchMaxSegments;
+        this.batchMaxChars = batchMaxChars;
+        this.batchMaxRequestBytes = batchMaxRequestBytes;
+        this.batchScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "translation-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.batchDispatcher = Executors.newFixedThreadPool(batchDispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "translation-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public String translate(String text, String targetLang, String sourceLang) {
-        return translateWithRetry(text, targetLang, sourceLang, 3); // 최대 3번 재시도
+        return translate(text, targetLang, sourceLang, Deadline.none());
+    }
+
+    /**
+     * 요청 마감 시각 안에서 번역 (API 대기와 재시도 대기를 남은 시간으로 제한)
+     */
+    public String translate(String text, String targetLang, String sourceLang, Deadline deadline) {
+        return translateWithRetry(text, targetLang, sourceLang, 3, deadline); // 최대 3번 재시도
     }
     
     /**
@@ -39,19 +110,208 @@ public class TranslationService {
      * API 호출 횟수를 대폭 줄여서 속도 향상
      */
     public List<String> translateBatch(List<String> texts, String targetLang, String sourceLang) {
+        return translateBatch(texts, targetLang, sourceLang, Deadline.none());
+    }
+
+    /**
+     * 요청 마감 시각 안에서 배치 번역
+     */
+    public List<String> translateBatch(List<String> texts, String targetLang, String sourceLang, Deadline deadline) {
         if (texts == null || texts.isEmpty()) {
             return new ArrayList<>();
         }
         
-        return translateBatchWithRetry(texts, targetLang, sourceLang, 3);
+        return translateBatchWithRetry(texts, targetLang, sourceLang, 3, deadline);
     }
     
-    private List<String> translateBatchWithRetry(List<String> texts, String targetLang, String sourceLang, int maxRetries) {
+    /**
+     * 마이크로 배치를 거쳐 번역 (동시에 들어온 다른 요청의 텍스트와 한 번의 API 호출로 묶일 수 있음)
+     * 배치가 비활성화되어 있으면 바로 번역한다.
+     */
+    public String translateBatched(String text, String targetLang, String sourceLang, Deadline deadline) {
+        if (!batcherEnabled) {
+            return translate(text, targetLang, sourceLang, deadline);
+        }
+        CompletableFuture<String> future = translateAsync(text, targetLang, sourceLang, deadline);
+        try {
+            return future.get(deadline.budgetMillis(Duration.ofMinutes(5).toMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("번역 마감 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("번역 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("번역 중 오류 발생: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 텍스트를 (sourceLang, targetLang)별 대기 배치에 넣고, 배치 번역 결과 중 자기 몫으로 완료되는 future 반환
+     * 배치는 창(window-ms)이 지나거나 최대 세그먼트 수/문자 수/인코딩 크기에 도달하면 전송된다.
+     */
+    public CompletableFuture<String> translateAsync(String text, String targetLang, String sourceLang, Deadline deadline) {
+        if (text == null || text.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(text);
+        }
+
+        String key = batchKey(targetLang, sourceLang);
+        int encodedBytes = encodedLength(text);
+        CompletableFuture<String> future = new CompletableFuture<>();
+        synchronized (pendingBatches) {
+            PendingBatch batch = pendingBatches.get(key);
+            // 문자 수나 인코딩 크기 제한을 넘기게 되면 기존 배치를 먼저 보내고 새 배치 시작
+            if (batch != null && (batch.chars + text.length() > batchMaxChars
+                    || batch.encodedBytes + encodedBytes > batchMaxRequestBytes)) {
+                pendingBatches.remove(key);
+                dispatch(batch);
+                batch = null;
+            }
+            if (batch == null) {
+                PendingBatch created = new PendingBatch(targetLang, sourceLang);
+                pendingBatches.put(key, created);
+                batchScheduler.schedule(() -> flush(key, created), batchWindowMillis, TimeUnit.MILLISECONDS);
+                batch = created;
+            }
+            batch.add(text, encodedBytes, deadline, future);
+            if (batch.texts.size() >= batchMaxSegments) {
+                pendingBatches.remove(key);
+                dispatch(batch);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * 창이 끝난 배치 전송 (이미 크기 제한으로 전송된 배치면 무시)
+     */
+    private void flush(String key, PendingBatch batch) {
+        synchronized (pendingBatches) {
+            if (pendingBatches.get(key) != batch) {
+                return;
+            }
+            pendingBatches.remove(key);
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(PendingBatch batch) {
+        try {
+            batchDispatcher.execute(() -> sendBatch(batch));
+        } catch (Exception e) {
+            batch.fail(e);
+        }
+    }
+
+    /**
+     * 모인 텍스트를 한 번의 배치 호출로 번역하고 각 요청의 future를 자기 결과로 완료
+     * 배치의 마감은 기다리는 요청 중 가장 늦은 마감을 사용한다. (먼저 마감되는 요청은 각자 대기를 중단)
+     */
+    private void sendBatch(PendingBatch batch) {
+        sendBatch(batch, batch.texts, batch.futures);
+        log.debug("마이크로 배치 번역 완료 - {}개 요청 ({} -> {})",
+                batch.texts.size(), batch.sourceLang, batch.targetLang);
+    }
+
+    /**
+     * 배치 일부 번역. 실패하면 반으로 나누어 다시 보내므로 문제가 있는 텍스트를 보낸 요청만 실패한다.
+     * 마감 초과나 사용량/인증 오류처럼 나누어도 성공할 수 없는 실패는 나누지 않고 모두 실패 처리한다.
+     */
+    private void sendBatch(PendingBatch batch, List<String> texts, List<CompletableFuture<String>> futures) {
+        try {
+            List<String> results = translateBatchWithRetry(texts, batch.targetLang, batch.sourceLang, 3, batch.deadline);
+            if (results.size() != texts.size()) {
+                throw new RuntimeException("배치 번역 결과 개수가 요청과 다릅니다. (요청: "
+                        + texts.size() + ", 결과: " + results.size() + ")");
+            }
+            for (int i = 0; i < results.size(); i++) {
+                futures.get(i).complete(results.get(i));
+            }
+        } catch (Exception e) {
+            if (texts.size() > 1 && isSplittable(e, batch.deadline)) {
+                int middle = texts.size() / 2;
+                log.warn("배치 번역 실패, 나누어 재시도 ({}개 -> {}개 + {}개): {}",
+                        texts.size(), middle, texts.size() - middle, e.getMessage());
+                sendBatch(batch, texts.subList(0, middle), futures.subList(0, middle));
+                sendBatch(batch, texts.subList(middle, texts.size()), futures.subList(middle, futures.size()));
+                return;
+            }
+            for (CompletableFuture<String> future : futures) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 배치를 나누어 다시 보내면 일부라도 성공할 수 있는 실패인지
+     * (마감 초과, 429 재시도 소진, 인증/사용량 초과(403, 456)는 어느 텍스트든 같은 결과)
+     */
+    private boolean isSplittable(Exception e, Deadline deadline) {
+        if (deadline.isExpired()) {
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof org.springframework.web.reactive.function.client.WebClientResponseException) {
+                int status = ((org.springframework.web.reactive.function.client.WebClientResponseException) cause)
+                        .getRawStatusCode();
+                return status != 403 && status != 429 && status != 456;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 텍스트가 폼 인코딩(text=...&)되었을 때의 바이트 수
+     */
+    static int encodedLength(String text) {
+        int length = "text=&".length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '.' || c == '-' || c == '*' || c == '_' || c == ' ') {
+                length += 1;
+            } else if (c < 0x80) {
+                length += 3;
+            } else if (c < 0x800) {
+                length += 6;
+            } else if (Character.isSurrogate(c)) {
+                // 서로게이트 쌍은 UTF-8 4바이트 (문자 하나당 2바이트)
+                length += 6;
+            } else {
+                length += 9;
+            }
+        }
+        return length;
+    }
+
+    private String batchKey(String targetLang, String sourceLang) {
+        String source = sourceLang == null || sourceLang.isEmpty() ? "auto" : sourceLang.toLowerCase();
+        return source + "->" + targetLang.toLowerCase();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchScheduler.shutdownNow();
+        batchDispatcher.shutdownNow();
+        synchronized (pendingBatches) {
+            for (PendingBatch batch : pendingBatches.values()) {
+                batch.fail(new IllegalStateException("번역 서비스가 종료되었습니다."));
+            }
+            pendingBatches.clear();
+        }
+    }
+
+    private List<String> translateBatchWithRetry(List<String> texts, String targetLang, String sourceLang, int maxRetries,
+                                                 Deadline deadline) {
         int retryCount = 0;
         long baseDelay = 1000;
         int validTextCount = 0; // 변수를 try 블록 밖으로 이동
         
         while (retryCount <= maxRetries) {
+            checkDeadline(deadline);
             try {
                 // DeepL API는 여러 텍스트를 한 번에 번역 가능
                 MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
@@ -90,7 +350,7 @@ public class TranslationService {
                             return clientResponse.createException();
                         })
                         .bodyToMono(DeepLResponse.class)
-                        .block(Duration.ofMinutes(5));
+                        .block(deadline.budget(Duration.ofMinutes(5)));
 
                 if (response != null && response.getTranslations() != null && !response.getTranslations().isEmpty()) {
                     List<String> translatedTexts = new ArrayList<>();
@@ -103,34 +363,29 @@ public class TranslationService {
                 throw new RuntimeException("번역 결과가 비어있습니다.");
 
             } catch (org.springframework.web.reactive.function.client.WebClientResponseException e) {
-                if (e.getStatusCode() != null && e.getStatusCode().value() == 429) {
+                if (e.getRawStatusCode() == 429) {
                     if (retryCount < maxRetries) {
                         long delay = baseDelay * (1L << retryCount);
                         log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})",
                                 delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
+                        waitBeforeRetry(delay, deadline);
                         retryCount++;
                         continue;
                     } else {
                         log.error("DeepL API Rate Limit - 최대 재시도 횟수 초과");
-                        throw new RuntimeException("DeepL API Rate Limit에 걸렸습니다. 잠시 후 다시 시도해주세요.");
+                        throw new RuntimeException("DeepL API Rate Limit에 걸렸습니다. 잠시 후 다시 시도해주세요.", e);
                     }
-                } else if (e.getStatusCode() != null && e.getStatusCode().value() == 400) {
+                } else if (e.getRawStatusCode() == 400) {
                     // 400 Bad Request: 요청 형식 오류
                     String responseBody = e.getResponseBodyAsString();
                     log.error("DeepL API 400 Bad Request (배치) - 요청 형식 오류: {}", responseBody);
                     log.error("요청 내용 - targetLang: {}, sourceLang: {}, 텍스트 개수: {}", 
                             targetLang, sourceLang, validTextCount);
-                    throw new RuntimeException("DeepL API 요청 형식 오류 (400): " + (responseBody != null ? responseBody : e.getMessage()));
+                    throw new RuntimeException("DeepL API 요청 형식 오류 (400): " + (responseBody != null ? responseBody : e.getMessage()), e);
                 } else {
                     log.error("번역 API 호출 실패: {} - 상태 코드: {}", e.getMessage(), 
-                            e.getStatusCode() != null ? e.getStatusCode().value() : "unknown");
-                    throw new RuntimeException("번역 중 오류 발생: " + e.getMessage());
+                            e.getRawStatusCode());
+                    throw new RuntimeException("번역 중 오류 발생: " + e.getMessage(), e);
                 }
             } catch (Exception e) {
                 String errorMsg = e.getMessage();
@@ -139,25 +394,21 @@ public class TranslationService {
                         long delay = baseDelay * (1L << retryCount);
                         log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})",
                                 delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
+                        waitBeforeRetry(delay, deadline);
                         retryCount++;
                         continue;
                     }
                 }
                 log.error("배치 번역 실패", e);
-                throw new RuntimeException("배치 번역 중 오류 발생: " + e.getMessage());
+                throw new RuntimeException("배치 번역 중 오류 발생: " + e.getMessage(), e);
             }
         }
 
         throw new RuntimeException("배치 번역 실패: 최대 재시도 횟수 초과");
     }
     
-    private String translateWithRetry(String text, String targetLang, String sourceLang, int maxRetries) {
+    private String translateWithRetry(String text, String targetLang, String sourceLang, int maxRetries,
+                                      Deadline deadline) {
         int retryCount = 0;
         long baseDelay = 1000; // 1초부터 시작
         
@@ -175,6 +426,7 @@ public class TranslationService {
         }
         
         while (retryCount <= maxRetries) {
+            checkDeadline(deadline);
             try {
 
             // DeepL API는 form data를 사용
@@ -195,7 +447,7 @@ public class TranslationService {
                             return clientResponse.createException();
                         })
                     .bodyToMono(DeepLResponse.class)
-                        .block(Duration.ofMinutes(5)); // 5분 타임아웃
+                        .block(deadline.budget(Duration.ofMinutes(5))); // 5분 타임아웃
 
             if (response != null && response.getTranslations() != null && !response.getTranslations().isEmpty()) {
                 String translatedText = response.getTranslations().get(0).getText();
@@ -212,12 +464,7 @@ public class TranslationService {
                         long delay = baseDelay * (1L << retryCount);
                         log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})", 
                                 delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
+                        waitBeforeRetry(delay, deadline);
                         retryCount++;
                         continue;
                     } else {
@@ -245,12 +492,7 @@ public class TranslationService {
                         long delay = baseDelay * (1L << retryCount);
                         log.warn("DeepL API Rate Limit (429) - {}초 대기 후 재시도 ({}/{})", 
                                 delay / 1000, retryCount + 1, maxRetries);
-                        try {
-                            Thread.sleep(delay);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
-                        }
+                        waitBeforeRetry(delay, deadline);
                         retryCount++;
                         continue;
                     }
@@ -262,4 +504,135 @@ public class TranslationService {
         
         throw new RuntimeException("번역 실패: 최대 재시도 횟수 초과");
     }
-}
\ No newline at end of file
+
+    /**
+     * 마감 시각이 지났으면 더 이상 API를 호출하지 않음
+     */
+    private void checkDeadline(Deadline deadline) {
+        if (deadline.isExpired()) {
+            throw new RuntimeException("번역 마감 시간이 초과되었습니다.");
+        }
+    }
+
+    /**
+     * 재시도 전 대기 (대기 후 마감 시각을 넘기게 되면 재시도하지 않음)
+     */
+    private void waitBeforeRetry(long delay, Deadline deadline) {
+        if (delay >= deadline.remainingMillis()) {
+            throw new RuntimeException("번역 마감 시간 내에 재시도할 수 없습니다.");
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
+        }
+    }
+
+    /**
+     * HTML 전체를 DeepL 문서 번역 API로 번역 (업로드 -> 상태 확인 -> 결과 다운로드)
+     * 상태 확인은 Mono.delay로 비동기 대기하므로 폴링 중에 스레드를 점유하지 않는다.
+     *
+     * @param timeout 업로드부터 다운로드까지 전체 제한 시간 (초과하면 진행 중인 요청과 폴링을 취소)
+     * @return 번역된 HTML을 내보내는 Mono (DeepL이 오류를 반환하거나 제한 시간을 넘기면 error)
+     */
+    public Mono<String> translateDocument(String html, String targetLang, String sourceLang, Duration timeout) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("file", new ByteArrayResource(html.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "page.html";
+            }
+        }).contentType(MediaType.TEXT_HTML);
+        builder.part("target_lang", targetLang.toUpperCase());
+        if (sourceLang != null && !sourceLang.isEmpty() && !sourceLang.equalsIgnoreCase("auto")) {
+            builder.part("source_lang", sourceLang.toUpperCase());
+        }
+
+        return documentClient.post()
+                .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(builder.build()))
+                .retrieve()
+                .bodyToMono(DeepLDocumentResponse.class)
+                .flatMap(document -> {
+                    log.info("DeepL 문서 업로드 완료 - ID: {}, Target: {}, 크기: {}자",
+                            document.getDocument_id(), targetLang, html.length());
+                    return pollDocumentStatus(document)
+                            .then(downloadDocument(document));
+                })
+                .timeout(timeout)
+                .onErrorMap(TimeoutException.class,
+                        e -> new RuntimeException("DeepL 문서 번역 시간 초과 (" + timeout.toMillis() + "ms)", e));
+    }
+
+    /**
+     * 번역 완료까지 상태를 주기적으로 확인 (DeepL이 알려준 남은 시간이 있으면 그만큼 대기, 최대 10초)
+     */
+    private Mono<DeepLDocumentStatus> pollDocumentStatus(DeepLDocumentResponse document) {
+        return documentClient.post()
+                .uri("/{id}", document.getDocument_id())
+                .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("document_key", document.getDocument_key()))
+                .retrieve()
+                .bodyToMono(DeepLDocumentStatus.class)
+                .flatMap(status -> {
+                    if (status.isDone()) {
+                        return Mono.just(status);
+                    }
+                    if (status.isError()) {
+                        return Mono.error(new RuntimeException("DeepL 문서 번역 실패: " + status.getError_message()));
+                    }
+                    Duration wait = documentPollInterval;
+                    if (status.getSeconds_remaining() != null && status.getSeconds_remaining() > 0) {
+                        wait = Duration.ofSeconds(Math.min(10, status.getSeconds_remaining()));
+                    }
+                    log.debug("DeepL 문서 번역 진행 중 - ID: {}, 상태: {}", document.getDocument_id(), status.getStatus());
+                    return Mono.delay(wait).then(Mono.defer(() -> pollDocumentStatus(document)));
+                });
+    }
+
+    private Mono<String> downloadDocument(DeepLDocumentResponse document) {
+        return documentClient.post()
+                .uri("/{id}/result", document.getDocument_id())
+                .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + apiKey)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("document_key", document.getDocument_key()))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 언어 쌍별로 전송을 기다리는 배치 (texts와 futures는 같은 순서)
+     */
+    private static class PendingBatch {
+        final String targetLang;
+        final String sourceLang;
+        final List<String> texts = new ArrayList<>();
+        final List<CompletableFuture<String>> futures = new ArrayList<>();
+        int chars = 0;
+        int encodedBytes = 0;
+        Deadline deadline;
+
+        PendingBatch(String targetLang, String sourceLang) {
+            this.targetLang = targetLang;
+            this.sourceLang = sourceLang;
+        }
+
+        void add(String text, int textEncodedBytes, Deadline requestDeadline, CompletableFuture<String> future) {
+            texts.add(text);
+            futures.add(future);
+            chars += text.length();
+            encodedBytes += textEncodedBytes;
+            deadline = deadline == null ? requestDeadline : deadline.later(requestDeadline);
+        }
+
+        void fail(Throwable cause) {
+            for (CompletableFuture<String> future : futures) {
+                future.completeExceptionally(cause);
+            }
+        }
+    }
+}
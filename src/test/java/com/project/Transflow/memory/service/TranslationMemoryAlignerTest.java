@@ -0,0 +1,134 @@
+package com.project.Transflow.memory.service;
+
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.memory.entity.TranslationMemory;
+import com.project.Transflow.memory.repository.TranslationMemoryRepository;
+import com.project.Transflow.translate.dto.TranslationOptions;
+import com.project.Transflow.translate.service.HtmlTranslationService;
+import com.project.Transflow.translate.service.TranslationService;
+import com.project.Transflow.translate.service.TranslationTestSupport;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 승인된 번역을 번역 메모리에 정렬/저장한 뒤, 같은 원문을 다시 번역하면 메모리가 적용되는지 검증
+ */
+class TranslationMemoryAlignerTest {
+
+    private static final String ORIGINAL_HTML = "<html><head>"
+            + "<script>window.analytics = {};</script></head><body>"
+            + "<div class=\"content\"><h1>Getting started</h1>"
+            + "<p>Install the package. Then run the <b>setup</b> command.</p>"
+            + "<p>Contact support if the problem persists.</p></div>"
+            + "</body></html>";
+
+    private static final String APPROVED_HTML = "<html><head></head><body>"
+            + "<div class=\"content\"><h1>시작하기</h1>"
+            + "<p>패키지를 설치합니다. 그런 다음 <b>setup</b> 명령을 실행합니다.</p>"
+            + "<p>문제가 계속되면 지원팀에 문의하세요.</p></div>"
+            + "</body></html>";
+
+    private final List<TranslationMemory> stored = new ArrayList<>();
+    private TranslationMemoryService translationMemoryService;
+    private TranslationMemoryAligner aligner;
+
+    @BeforeEach
+    void setUp() {
+        TranslationMemoryRepository translationMemoryRepository = mock(TranslationMemoryRepository.class);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        // UPSERT 행을 메모리 목록에 저장하고, 조회는 목록에서 찾음
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                stored.add(TranslationMemory.builder()
+                        .sourceLang((String) row[0])
+                        .targetLang((String) row[1])
+                        .sourceHash((String) row[2])
+                        .sourceText((String) row[3])
+                        .targetText((String) row[4])
+                        .documentId((Long) row[5])
+                        .build());
+            }
+            return new int[rows.size()];
+        });
+        when(translationMemoryRepository.findByTargetLangAndSourceHashIn(anyString(), anyCollection()))
+                .thenAnswer(invocation -> {
+                    String targetLang = invocation.getArgument(0);
+                    Collection<String> hashes = invocation.getArgument(1);
+                    return stored.stream()
+                            .filter(entry -> entry.getTargetLang().equals(targetLang) && hashes.contains(entry.getSourceHash()))
+                            .collect(Collectors.toList());
+                });
+        translationMemoryService = new TranslationMemoryService(translationMemoryRepository, jdbcTemplate, true, 500);
+
+        Document document = Document.builder().id(1L).sourceLang("EN").targetLang("KO").build();
+        DocumentVersion original = DocumentVersion.builder()
+                .id(10L).document(document).versionNumber(0).versionType("ORIGINAL").content(ORIGINAL_HTML).build();
+        DocumentVersion approved = DocumentVersion.builder()
+                .id(11L).document(document).versionNumber(2).versionType("FINAL").content(APPROVED_HTML).build();
+
+        DocumentRepository documentRepository = mock(DocumentRepository.class);
+        DocumentVersionRepository documentVersionRepository = mock(DocumentVersionRepository.class);
+        when(documentRepository.findById(1L)).thenReturn(Optional.of(document));
+        when(documentVersionRepository.findById(11L)).thenReturn(Optional.of(approved));
+        when(documentVersionRepository.findByDocument_Id(1L)).thenReturn(List.of(original, approved));
+
+        aligner = new TranslationMemoryAligner(documentRepository, documentVersionRepository, translationMemoryService, 5000);
+    }
+
+    @Test
+    void approvedTranslationIsReusedOnRetranslation() {
+        assertTrue(aligner.align(1L, 11L) > 0);
+
+        TranslationService translationService = TranslationTestSupport.fakeTranslationService();
+        HtmlTranslationService htmlTranslationService = TranslationTestSupport.htmlTranslationService(
+                translationService, translationMemoryService, TranslationTestSupport.disabledLanguageDetector());
+
+        String html = htmlTranslationService.translateHtml(ORIGINAL_HTML, "KO", "EN", TranslationOptions.defaults());
+
+        // 모든 문맥 그룹이 번역 메모리에서 적용되어 DeepL을 호출하지 않음
+        verify(translationService, never()).translateBatched(anyString(), anyString(), any(), any());
+        org.jsoup.nodes.Document translated = Jsoup.parse(html);
+        assertEquals("시작하기", translated.select("h1").text());
+        assertEquals("문제가 계속되면 지원팀에 문의하세요.", translated.select("p").get(1).text());
+    }
+
+    @Test
+    void sentencePairsAreReusedWhenParagraphChanges() {
+        aligner.align(1L, 11L);
+
+        TranslationService translationService = TranslationTestSupport.fakeTranslationService();
+        HtmlTranslationService htmlTranslationService = TranslationTestSupport.htmlTranslationService(
+                translationService, translationMemoryService, TranslationTestSupport.disabledLanguageDetector());
+
+        // 문장 순서가 바뀐 문단: 문단 전체는 메모리에 없지만 모든 문장이 있음
+        String html = htmlTranslationService.translateHtml(
+                "<html><body><p>Then run the setup command. Install the package.</p></body></html>",
+                "KO", "EN", TranslationOptions.defaults());
+
+        verify(translationService, never()).translateBatched(anyString(), anyString(), any(), any());
+        assertEquals("그런 다음 setup 명령을 실행합니다. 패키지를 설치합니다.", Jsoup.parse(html).select("p").text());
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
+import com.project.Transflow.translate.dto.TranslationOptions;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 크롤링 아카이브(src/test/resources/crawl-archive)를 재생하여 네트워크 없이
+ * 정적 fetch 판단과 번역 경로를 검증하는 회귀 테스트
+ */
+class CrawlReplayTest {
+
+    private static final String ARTICLE_URL = "https://docs.example.com/releases/2.4";
+    private static final String REDIRECT_URL = "https://docs.example.com/latest";
+    private static final String SPA_URL = "https://app.example.com/";
+    private static final String CHALLENGE_URL = "https://protected.example.com/article";
+
+    private StaticPageFetcher fetcher;
+
+    @BeforeEach
+    void setUp() throws URISyntaxException {
+        URL fixtures = getClass().getResource("/crawl-archive");
+        assertNotNull(fixtures, "crawl-archive 픽스처가 없습니다.");
+        CrawlArchive archive = new CrawlArchive("replay", Paths.get(fixtures.toURI()).toString());
+        fetcher = new StaticPageFetcher(archive, 10000, 200, 10485760);
+    }
+
+    @Test
+    void serverRenderedArticleIsServedWithoutBrowser() {
+        StaticPageFetcher.Result result = fetcher.fetch(ARTICLE_URL);
+
+        // 본문에 "Just a moment", "Ray ID" 문구가 있어도 200 응답이면 봇 검증 페이지로 보지 않음
+        assertFalse(result.needsBrowser(), result.getEscalationReason());
+        assertEquals(ARTICLE_URL, result.getFinalUrl());
+        assertTrue(result.getHtml().contains("Release notes for version 2.4"));
+    }
+
+    @Test
+    void redirectIsReplayedWithFinalUrl() {
+        StaticPageFetcher.Result result = fetcher.fetch(REDIRECT_URL);
+
+        assertFalse(result.needsBrowser(), result.getEscalationReason());
+        assertEquals(ARTICLE_URL, result.getFinalUrl());
+    }
+
+    @Test
+    void emptySpaRootEscalatesToBrowser() {
+        StaticPageFetcher.Result result = fetcher.fetch(SPA_URL);
+
+        assertTrue(result.needsBrowser());
+        assertTrue(result.isCacheable());
+        assertTrue(result.getEscalationReason().startsWith("비어 있는 SPA 루트"), result.getEscalationReason());
+    }
+
+    @Test
+    void challengePageEscalatesToBrowser() {
+        StaticPageFetcher.Result result = fetcher.fetch(CHALLENGE_URL);
+
+        assertTrue(result.needsBrowser());
+        assertTrue(result.isCacheable());
+        assertEquals("봇 검증 페이지 감지 (HTTP 503)", result.getEscalationReason());
+    }
+
+    @Test
+    void unknownUrlIsNotCached() {
+        StaticPageFetcher.Result result = fetcher.fetch("https://unknown.example.com/");
+
+        assertTrue(result.needsBrowser());
+        assertFalse(result.isCacheable());
+    }
+
+    @Test
+    void recordedResponseIsReplayedIgnoringFragment(@TempDir Path dir) {
+        CrawlArchive recorder = new CrawlArchive("record", dir.toString());
+        byte[] body = "<html><body><p>안녕하세요</p></body></html>".getBytes(StandardCharsets.UTF_8);
+        recorder.record("https://example.com/page#intro", new CrawlArchive.ArchivedResponse(
+                200, "https://example.com/page", Map.of("Content-Type", "text/html; charset=UTF-8"), body));
+
+        CrawlArchive replayer = new CrawlArchive("replay", dir.toString());
+        CrawlArchive.ArchivedResponse replayed = replayer.find("https://example.com/page");
+
+        assertNotNull(replayed);
+        assertEquals(200, replayed.getStatus());
+        assertEquals("https://example.com/page", replayed.getFinalUrl());
+        assertEquals("text/html; charset=UTF-8", replayed.getContentType());
+        assertEquals("<html><body><p>안녕하세요</p></body></html>", replayed.getBodyAsString());
+        assertNull(replayer.find("https://example.com/other"));
+    }
+
+    @Test
+    void replayedArticleIsTranslatedWithoutScripts() {
+        StaticPageFetcher.Result fetched = fetcher.fetch(ARTICLE_URL);
+        HtmlTranslationService htmlTranslationService =
+                TranslationTestSupport.htmlTranslationService(TranslationTestSupport.fakeTranslationService());
+
+        HtmlTranslationResult result = htmlTranslationService.translate(fetched.getHtml(), "KO", "EN",
+                TranslationOptions.builder().sourceUrl(fetched.getFinalUrl()).build());
+
+        assertFalse(result.isPartial());
+        Document translated = Jsoup.parse(result.getHtml());
+        assertTrue(translated.select("script").isEmpty());
+        assertTrue(translated.select("[onclick]").isEmpty());
+        assertTrue(translated.select("h1").text().startsWith("[KO]"), translated.select("h1").text());
+        assertTrue(translated.select("h1").text().contains("Release notes for version 2.4"));
+        assertEquals("guide/upgrade.html", translated.select("article a").attr("href"));
+    }
+}
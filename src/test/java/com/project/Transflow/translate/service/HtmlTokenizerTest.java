@@ -0,0 +1,130 @@
+package com.project.Transflow.translate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 스트리밍 토크나이저의 속성 해석, raw text 청크 경계, 닫히지 않은 주석 처리 검증
+ */
+class HtmlTokenizerTest {
+
+    @Test
+    void unquotedAndOddlyQuotedAttributesAreParsed() throws IOException {
+        String html = "<a href=/docs/guide title='He said \"hi\"' data-x=a\"b disabled>Guide</a>";
+
+        List<HtmlTokenizer.Token> tokens = tokenize(html);
+
+        HtmlTokenizer.Token start = tokens.get(0);
+        assertEquals(HtmlTokenizer.Type.START_TAG, start.type);
+        assertEquals(4, start.attributes.size());
+        assertAttribute(start.attributes.get(0), "href", "/docs/guide");
+        assertAttribute(start.attributes.get(1), "title", "'He said \"hi\"'");
+        assertEquals("he said \"hi\"", start.attributes.get(1).value());
+        assertAttribute(start.attributes.get(2), "data-x", "a\"b");
+        assertAttribute(start.attributes.get(3), "disabled", null);
+        assertEquals(html, concatRaw(tokens));
+    }
+
+    @Test
+    void greaterThanInsideQuotedValueDoesNotEndTag() throws IOException {
+        List<HtmlTokenizer.Token> tokens = tokenize("<div title='a>b'>text</div>");
+
+        assertEquals("<div title='a>b'>", tokens.get(0).raw);
+        assertEquals(HtmlTokenizer.Type.TEXT, tokens.get(1).type);
+        assertEquals("text", tokens.get(1).raw);
+    }
+
+    @Test
+    void entitiesInAttributeValueAreDecoded() throws IOException {
+        List<HtmlTokenizer.Token> tokens = tokenize("<a href=\"java&#x09;script:alert(1)\">t</a>");
+
+        assertEquals("java\tscript:alert(1)", tokens.get(0).attributes.get(0).value());
+    }
+
+    @Test
+    void scriptEndTagSplitAcrossChunkBoundary() throws IOException {
+        // </script 가 첫 raw text 청크(16384자)의 경계에 걸치도록 내용 길이를 맞춤
+        StringBuilder content = new StringBuilder();
+        while (content.length() < 16 * 1024 - 2) {
+            content.append('x');
+        }
+        String html = "<script>" + content + "</script><p>After</p>";
+
+        List<HtmlTokenizer.Token> tokens = tokenize(html);
+
+        StringBuilder rawText = new StringBuilder();
+        int i = 1;
+        while (tokens.get(i).type == HtmlTokenizer.Type.RAW_TEXT) {
+            rawText.append(tokens.get(i).raw);
+            i++;
+        }
+        assertEquals(content.toString(), rawText.toString());
+        assertEquals(HtmlTokenizer.Type.END_TAG, tokens.get(i).type);
+        assertEquals("script", tokens.get(i).tagName);
+        assertEquals("p", tokens.get(i + 1).tagName);
+        assertEquals(html, concatRaw(tokens));
+    }
+
+    @Test
+    void endTagPrefixInsideScriptIsNotEndTag() throws IOException {
+        List<HtmlTokenizer.Token> tokens = tokenize("<script>var s = \"</scriptx>\";</script><p>x</p>");
+
+        assertEquals(HtmlTokenizer.Type.RAW_TEXT, tokens.get(1).type);
+        assertEquals("var s = \"</scriptx>\";", tokens.get(1).raw);
+        assertEquals(HtmlTokenizer.Type.END_TAG, tokens.get(2).type);
+    }
+
+    @Test
+    void commentEndsLikeHtmlParser() throws IOException {
+        assertEquals("<!-->", tokenize("<!--><p>a</p>").get(0).raw);
+        assertEquals("<!--->", tokenize("<!---><p>a</p>").get(0).raw);
+        assertEquals("<!---->", tokenize("<!----><p>a</p>").get(0).raw);
+        assertEquals("<!-- x --!>", tokenize("<!-- x --!><p>a</p>").get(0).raw);
+        assertEquals("<!-- a -> b -->", tokenize("<!-- a -> b --><p>a</p>").get(0).raw);
+        assertEquals("p", tokenize("<!--><p>a</p>").get(1).tagName);
+    }
+
+    @Test
+    void unterminatedCommentRunsToEndOfInput() throws IOException {
+        HtmlTokenizer tokenizer = new HtmlTokenizer(new StringReader("<p>a</p><!-- <p>b</p>"));
+
+        for (int i = 0; i < 3; i++) {
+            tokenizer.next();
+        }
+        HtmlTokenizer.Token comment = tokenizer.next();
+
+        assertEquals(HtmlTokenizer.Type.OTHER, comment.type);
+        assertEquals("<!-- <p>b</p>", comment.raw);
+        assertNull(tokenizer.next());
+    }
+
+    private static List<HtmlTokenizer.Token> tokenize(String html) throws IOException {
+        HtmlTokenizer tokenizer = new HtmlTokenizer(new StringReader(html));
+        List<HtmlTokenizer.Token> tokens = new ArrayList<>();
+        HtmlTokenizer.Token token;
+        while ((token = tokenizer.next()) != null) {
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static String concatRaw(List<HtmlTokenizer.Token> tokens) {
+        StringBuilder sb = new StringBuilder();
+        for (HtmlTokenizer.Token token : tokens) {
+            sb.append(token.raw);
+        }
+        return sb.toString();
+    }
+
+    private static void assertAttribute(HtmlTokenizer.Attribute attribute, String name, String rawValue) {
+        assertEquals(name, attribute.name);
+        assertEquals(rawValue, attribute.rawValue);
+    }
+}
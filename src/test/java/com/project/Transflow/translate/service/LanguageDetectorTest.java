@@ -0,0 +1,36 @@
+package com.project.Transflow.translate.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 번역 생략 판단에 쓰는 엄격한 언어 감지 검증
+ */
+class LanguageDetectorTest {
+
+    private final LanguageDetector detector = new LanguageDetector(true, 20, 0.1, 80, 0.3);
+
+    @Test
+    void shortTextIsDetectedButNotConfident() {
+        String text = "Install the package and run the server";
+
+        assertEquals("EN", detector.detect(text));
+        assertNull(detector.detectConfidently(text));
+    }
+
+    @Test
+    void longTextWithClearMarginIsConfident() {
+        String text = "The quick brown fox jumps over the lazy dog while the release notes describe "
+                + "every change in this version of the library.";
+
+        assertEquals("EN", detector.detectConfidently(text));
+    }
+
+    @Test
+    void shortCjkTextIsNotConfident() {
+        assertEquals("KO", detector.detect("확인"));
+        assertNull(detector.detectConfidently("확인"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.Transflow.translate.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 보호 구간 마스킹 범위와 토큰 복원 검증
+ */
+class PlaceholderMaskerTest {
+
+    private final PlaceholderMasker masker = new PlaceholderMasker(true);
+
+    @Test
+    void plainNumbersAreLeftForTranslatorToLocalize() {
+        String text = "Revenue grew to 1,234,567 dollars in 2023, about 98765.43 per store (12 34 56).";
+
+        PlaceholderMasker.Masked masked = masker.mask(text);
+
+        assertFalse(masked.hasSpans(), masked.getSpans().toString());
+        assertEquals(text, masked.getText());
+    }
+
+    @Test
+    void versionsIdsAndCodesAreMasked() {
+        PlaceholderMasker.Masked masked = masker.mask(
+                "Upgrade to v2.3.1, quote ticket INC0012345 or order ABC-12345, see #4821 and commit 3f2a9c1b.");
+
+        assertEquals("Upgrade to ⟦0⟧, quote ticket ⟦1⟧ or order ⟦2⟧, see ⟦3⟧ and commit ⟦4⟧.", masked.getText());
+        assertEquals(Arrays.asList("v2.3.1", "INC0012345", "ABC-12345", "#4821", "3f2a9c1b"), masked.getSpans());
+    }
+
+    @Test
+    void urlsAndIdentifiersRoundTrip() {
+        String text = "Call os.path.join with max_retries, then open https://example.com/docs or mail ops@example.com.";
+
+        PlaceholderMasker.Masked masked = masker.mask(text);
+
+        assertEquals(4, masked.getSpans().size());
+        assertEquals(text, masker.unmask(masked.getText(), masked));
+    }
+
+    @Test
+    void reorderedTokensAreRestoredByIndex() {
+        PlaceholderMasker.Masked masked = masker.mask("Install v2.3.1 before applying ABC-12345.");
+
+        // 어순이 바뀌어 토큰 순서가 뒤집히고 번역기가 토큰 안에 공백을 넣은 경우
+        String restored = masker.unmask("⟦ 1 ⟧ 적용 전에 ⟦0⟧ 설치", masked);
+
+        assertEquals("ABC-12345 적용 전에 v2.3.1 설치", restored);
+    }
+
+    @Test
+    void droppedTokenCannotBeRestored() {
+        PlaceholderMasker.Masked masked = masker.mask("Install v2.3.1 before applying ABC-12345.");
+
+        assertNull(masker.unmask("적용 전에 ⟦0⟧ 설치", masked));
+    }
+
+    @Test
+    void duplicatedOrUnknownTokenCannotBeRestored() {
+        PlaceholderMasker.Masked masked = masker.mask("Install v2.3.1 before applying ABC-12345.");
+
+        assertNull(masker.unmask("⟦0⟧ ⟦0⟧ ⟦1⟧", masked));
+        assertNull(masker.unmask("⟦0⟧ ⟦1⟧ ⟦2⟧", masked));
+    }
+
+    @Test
+    void tokenOnlyTextIsDetected() {
+        assertTrue(masker.mask("v2.3.1 / ABC-12345").isOnlyPlaceholders());
+        assertFalse(masker.mask("Install v2.3.1").isOnlyPlaceholders());
+    }
+
+    @Test
+    void textAlreadyContainingTokenCharactersIsNotMasked() {
+        PlaceholderMasker.Masked masked = masker.mask("⟦0⟧ uses v2.3.1");
+
+        assertFalse(masked.hasSpans());
+        assertEquals("⟦0⟧ uses v2.3.1", masker.unmask("⟦0⟧ uses v2.3.1", masked));
+    }
+
+    @Test
+    void disabledMaskerKeepsText() {
+        PlaceholderMasker.Masked masked = new PlaceholderMasker(false).mask("Install v2.3.1");
+
+        assertFalse(masked.hasSpans());
+        assertEquals("Install v2.3.1", masked.getText());
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.checkpoint.service.TranslationCheckpointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재시도 대기열의 중복 제거, 대기 그룹 저장과 서버 시작 시 복원 검증
+ */
+class SegmentRetryQueueTest {
+
+    // 검증 중에 재시도가 실행되지 않도록 대기 시간을 길게 둠
+    private static final long LONG_DELAY = 60 * 60 * 1000L;
+
+    private final TranslationCheckpointService checkpointService = mock(TranslationCheckpointService.class);
+    private final SegmentRetryQueue queue = new SegmentRetryQueue(TranslationTestSupport.fakeTranslationService(),
+            checkpointService, new PlaceholderMasker(true), true, LONG_DELAY, LONG_DELAY, 5, 50, 100, LONG_DELAY);
+
+    // 저장소는 mock이고 체크포인트 객체만 사용
+    private final TranslationCheckpointService checkpoints =
+            new TranslationCheckpointService(null, null, mock(JdbcTemplate.class), true, 20, 72);
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void sameSegmentOfSameJobIsQueuedAndPersistedOnce() {
+        TranslationCheckpointService.Checkpoint checkpoint = checkpoints.resume(1L);
+
+        assertTrue(queue.enqueue(checkpoint, 3, "Read the upgrade guide.", "KO", null));
+        assertTrue(queue.enqueue(checkpoint, 3, "Read the upgrade guide.", "KO", null));
+        assertTrue(queue.enqueue(checkpoints.resume(2L), 3, "Read the upgrade guide.", "KO", null));
+
+        assertEquals(2, queue.size());
+        verify(checkpointService, times(2)).markPending(any(), anyInt(), anyString());
+    }
+
+    @Test
+    void savedSegmentsAreRestoredOnStartupWithoutDuplicates() {
+        TranslationCheckpointService.Checkpoint checkpoint = checkpoints.resume(7L);
+        when(checkpointService.loadPending(100)).thenReturn(Arrays.asList(
+                new TranslationCheckpointService.PendingSegment(checkpoint, 0, "First paragraph.", "KO", "EN"),
+                new TranslationCheckpointService.PendingSegment(checkpoint, 1, "Second paragraph.", "KO", "EN"),
+                new TranslationCheckpointService.PendingSegment(checkpoint, 1, "Second paragraph.", "KO", "EN")));
+
+        queue.restorePending();
+
+        assertEquals(2, queue.size());
+        // 이미 저장된 그룹이므로 다시 저장하지 않음
+        verify(checkpointService, never()).markPending(any(), anyInt(), anyString());
+        // 복원한 그룹이 다시 실패해도 중복으로 들어가지 않음
+        assertTrue(queue.enqueue(checkpoint, 1, "Second paragraph.", "KO", "EN"));
+        assertEquals(2, queue.size());
+        verify(checkpointService, never()).markPending(any(), eq(1), anyString());
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.translate.dto.StreamingTranslationResult;
+import com.project.Transflow.translate.dto.TranslationOptions;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 스트리밍 번역 결과를 DOM 기반 번역과 비교하고, 정리 규칙(스크립트, 이벤트 핸들러, javascript: URL) 검증
+ */
+class StreamingHtmlTranslatorTest {
+
+    private static final String PAGE = "<!DOCTYPE html><html><head><meta charset=\"utf-8\">"
+            + "<script>var tpl = \"<p>not text</p>\";</script></head><body>\n"
+            + "<h1 onclick=\"track()\">Release notes</h1>\n"
+            + "<p>Read the <a href=\"javascript:alert(1)\" onmouseover='show(\"tip\")'>upgrade guide</a> before installing.</p>\n"
+            + "<ul><li>Faster startup</li><li>Smaller memory footprint</li></ul>\n"
+            + "<table><tr><td>Old behaviour</td><td>New behaviour</td></tr></table>\n"
+            + "<p>See the <a href=/docs/guide>full guide</a> for details.</p>\n"
+            + "<p>Tom &amp; Jerry are back.</p>\n"
+            + "<pre>do not translate</pre>\n"
+            + "<noscript>Enable JavaScript</noscript>\n"
+            + "</body></html>";
+
+    private final TranslationService translationService = TranslationTestSupport.fakeTranslationService();
+
+    @Test
+    void streamingOutputMatchesDomTranslation() throws IOException {
+        String dom = TranslationTestSupport.htmlTranslationService(translationService)
+                .translate(PAGE, "KO", "EN", TranslationOptions.builder().build())
+                .getHtml();
+        String streamed = stream(translator(50), new StringReader(PAGE));
+
+        assertEquals(translatedTexts(Jsoup.parse(dom)), translatedTexts(Jsoup.parse(streamed)));
+        assertSanitized(Jsoup.parse(dom));
+        assertSanitized(Jsoup.parse(streamed));
+    }
+
+    @Test
+    void shortAndBangClosedCommentsDoNotHideMarkup() throws IOException {
+        String[] inputs = {
+                "<!--><img src=x onerror=alert(1)>-->",
+                "<!---><img src=x onerror=alert(1)>-->",
+                "<!-- x --!><img src=x onerror=alert(1)><p>After comment</p>-->"
+        };
+        HtmlTranslationService htmlTranslationService = TranslationTestSupport.htmlTranslationService(translationService);
+
+        for (String html : inputs) {
+            String dom = htmlTranslationService.translate(html, "KO", "EN", TranslationOptions.builder().build()).getHtml();
+            String streamed = stream(translator(50), new StringReader(html));
+
+            assertSanitized(Jsoup.parse(dom));
+            assertSanitized(Jsoup.parse(streamed));
+            assertEquals(1, Jsoup.parse(streamed).select("img[src=x]").size(), streamed);
+        }
+    }
+
+    @Test
+    void outputDoesNotDependOnReaderChunksOrWindowSize() throws IOException {
+        String expected = stream(translator(50), new StringReader(PAGE));
+
+        assertEquals(expected, stream(translator(50), new ChunkedReader(new StringReader(PAGE), 7)));
+        assertEquals(expected, stream(translator(1), new StringReader(PAGE)));
+    }
+
+    @Test
+    void eventHandlersAndScriptUrlsAreRemovedFromAnyQuoting() throws IOException {
+        String html = "<div><a HREF=\" JaVaScRiPt:alert(1)\" title=Docs>Open docs</a></div>"
+                + "<div><a href=\"java&#x09;script:alert(1)\">Tab link</a></div>"
+                + "<div><a href=javascript:alert(1) onclick=go()>Unquoted link</a></div>"
+                + "<div><a href=\"https://example.com/javascript:foo\">Safe link</a></div>"
+                + "<img alt='He said \"hi\"' src=x.png onerror='alert(\"x\")'>"
+                + "<div title='a>b' ONMOUSEOVER=\"x()\">Quoted text</div>";
+
+        Document doc = Jsoup.parse(stream(translator(50), new StringReader(html)));
+
+        assertEquals("https://example.com/javascript:foo", doc.select("a[href]").attr("href"));
+        assertEquals("Docs", doc.select("a[title]").attr("title"));
+        assertEquals("He said \"hi\"", doc.select("img").attr("alt"));
+        assertEquals("x.png", doc.select("img").attr("src"));
+        assertEquals("a>b", doc.select("div[title]").attr("title"));
+        assertSanitized(doc);
+    }
+
+    @Test
+    void scriptEndTagSplitAcrossChunkBoundaryIsDropped() throws IOException {
+        StringBuilder script = new StringBuilder("<script>var secret = 1;");
+        while (script.length() < 8 + 16 * 1024 - 2) {
+            script.append(' ');
+        }
+        String html = script + "</script><p>After long script</p>";
+
+        String streamed = stream(translator(50), new StringReader(html));
+
+        assertEquals("<p>[KO] After long script</p>", streamed);
+    }
+
+    @Test
+    void unterminatedCommentIsKeptAndNotTranslated() throws IOException {
+        StringWriter writer = new StringWriter();
+        StreamingTranslationResult result = translator(50).translate(
+                new StringReader("<p>Visible text</p><!-- <p>hidden text</p>"), writer, "KO", "EN", Deadline.none());
+
+        assertEquals("<p>[KO] Visible text</p><!-- <p>hidden text</p>", writer.toString());
+        assertEquals(1, result.getSegmentCount());
+        assertFalse(result.isPartial());
+    }
+
+    private StreamingHtmlTranslator translator(int windowGroups) {
+        return new StreamingHtmlTranslator(translationService, TranslationTestSupport.disabledTranslationMemory(),
+                new PlaceholderMasker(true), TranslationTestSupport.disabledLanguageDetector(),
+                20000, windowGroups, 1024 * 1024);
+    }
+
+    private static String stream(StreamingHtmlTranslator translator, Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        translator.translate(reader, writer, "KO", "EN", Deadline.none());
+        return writer.toString();
+    }
+
+    /**
+     * 번역 대상 요소의 텍스트 (DOM 번역은 텍스트 노드 앞뒤 공백을 유지하지 않으므로 공백은 제외하고 비교)
+     */
+    private static List<String> translatedTexts(Document doc) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : doc.select("h1, p, a, li, td, pre")) {
+            texts.add(element.tagName() + ":" + element.text().replaceAll("\\s+", ""));
+        }
+        return texts;
+    }
+
+    private static void assertSanitized(Document doc) {
+        assertTrue(doc.select("script, noscript").isEmpty(), doc.html());
+        for (Element element : doc.getAllElements()) {
+            element.attributes().forEach(attribute -> {
+                assertFalse(attribute.getKey().toLowerCase().startsWith("on"), element.outerHtml());
+                assertFalse(attribute.getValue().toLowerCase().replaceAll("\\s", "").startsWith("javascript:"),
+                        element.outerHtml());
+            });
+        }
+    }
+
+    /**
+     * 한 번에 최대 chunkSize 글자만 돌려주는 Reader (네트워크 스트림처럼 토큰이 읽기 경계에 걸치도록)
+     */
+    private static class ChunkedReader extends FilterReader {
+        private final int chunkSize;
+
+        ChunkedReader(Reader in, int chunkSize) {
+            super(in);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return super.read(buffer, offset, Math.min(length, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.checkpoint.entity.TranslationJob;
+import com.project.Transflow.checkpoint.entity.TranslationJobSegment;
+import com.project.Transflow.checkpoint.repository.TranslationJobRepository;
+import com.project.Transflow.checkpoint.repository.TranslationJobSegmentRepository;
+import com.project.Transflow.checkpoint.service.TranslationCheckpointService;
+import com.project.Transflow.translate.dto.HtmlTranslationResult;
+import com.project.Transflow.translate.dto.TranslationOptions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 부분 실패한 번역을 다시 실행하면 저장된 문맥 그룹은 적용하고 실패한 그룹만 DeepL로 보내는지 검증
+ */
+class TranslationCheckpointResumeTest {
+
+    private static final String PAGE = "<html><body>"
+            + "<p>Alpha paragraph one.</p>"
+            + "<p>Beta paragraph two.</p>"
+            + "<p>Gamma paragraph three.</p>"
+            + "</body></html>";
+
+    private final TranslationJobRepository jobRepository = mock(TranslationJobRepository.class);
+    private final TranslationJobSegmentRepository segmentRepository = mock(TranslationJobSegmentRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TranslationCheckpointService checkpointService =
+            new TranslationCheckpointService(jobRepository, segmentRepository, jdbcTemplate, true, 20, 72);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void savedGroupsAreAppliedAndOnlyFailedGroupIsTranslatedAgain() {
+        TranslationJob job = TranslationJob.builder().id(5L).jobKey("key").targetLang("KO").build();
+        when(jobRepository.findByJobKey(anyString())).thenReturn(Optional.of(job));
+
+        // 1회차: Gamma 그룹은 DeepL 오류로 실패
+        TranslationService failing = mock(TranslationService.class);
+        when(failing.translateBatched(anyString(), anyString(), any(), any())).thenAnswer(invocation -> {
+            String text = invocation.getArgument(0);
+            if (text.contains("Gamma")) {
+                throw new IllegalStateException("429 Too Many Requests");
+            }
+            return TranslationTestSupport.fakeTranslate(text, invocation.getArgument(1));
+        });
+        HtmlTranslationResult first = translate(failing);
+
+        assertTrue(first.isPartial());
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO translation_job_segment"), rows.capture());
+        assertEquals(2, rows.getValue().size());
+
+        // 2회차: 저장된 두 그룹은 체크포인트에서 적용하고 Gamma만 번역
+        when(segmentRepository.findByJobId(5L)).thenReturn(toSegments(rows.getValue()));
+        TranslationService translationService = TranslationTestSupport.fakeTranslationService();
+        HtmlTranslationResult second = translate(translationService);
+
+        verify(translationService, times(1)).translateBatched(anyString(), anyString(), any(), any());
+        verify(translationService).translateBatched(eq("Gamma paragraph three."), eq("KO"), any(), any());
+        verify(translationService, never()).translateBatched(eq("Alpha paragraph one."), anyString(), any(), any());
+        assertEquals(0, second.getUntranslatedCount());
+        assertEquals(0, second.getPendingCount());
+        assertTrue(second.getHtml().contains("[KO] Alpha paragraph one."), second.getHtml());
+        assertTrue(second.getHtml().contains("[KO] Beta paragraph two."), second.getHtml());
+        assertTrue(second.getHtml().contains("[KO] Gamma paragraph three."), second.getHtml());
+        assertEquals(Long.valueOf(5L), second.getJobId());
+    }
+
+    private HtmlTranslationResult translate(TranslationService translationService) {
+        return TranslationTestSupport.htmlTranslationService(translationService,
+                        TranslationTestSupport.disabledTranslationMemory(),
+                        TranslationTestSupport.disabledLanguageDetector(),
+                        checkpointService)
+                .translate(PAGE, "KO", "EN", TranslationOptions.builder().build());
+    }
+
+    /**
+     * 저장 SQL에 전달된 행 (job_id, source_hash, segment_index, source_text, translated_text, created_at)을 엔티티로 변환
+     */
+    private static List<TranslationJobSegment> toSegments(List<Object[]> rows) {
+        List<TranslationJobSegment> segments = new ArrayList<>();
+        for (Object[] row : rows) {
+            segments.add(TranslationJobSegment.builder()
+                    .jobId((Long) row[0])
+                    .sourceHash((String) row[1])
+                    .segmentIndex((Integer) row[2])
+                    .sourceText((String) row[3])
+                    .translatedText((String) row[4])
+                    .build());
+        }
+        return segments;
+    }
+}
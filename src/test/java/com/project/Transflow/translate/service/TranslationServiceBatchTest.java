@@ -0,0 +1,87 @@
+package com.project.Transflow.translate.service;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 마이크로 배치 실패 분리와 인코딩 크기 제한 검증
+ */
+class TranslationServiceBatchTest {
+
+    private MockWebServer server;
+    private TranslationService translationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        // 창을 넉넉히 두어 테스트의 요청이 한 배치로 모이도록 함
+        translationService = new TranslationService(
+                server.url("/v2/translate").toString(), "test-key", server.url("/v2/document").toString(),
+                10, true, 200, 50, 30000, 120000, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        translationService.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void failedBatchIsSplitSoOnlyOffendingCallerFails() throws Exception {
+        server.enqueue(badRequest());
+        server.enqueue(json("{\"translations\":[{\"detected_source_language\":\"EN\",\"text\":\"좋은 문장\"}]}"));
+        server.enqueue(badRequest());
+
+        CompletableFuture<String> good = translationService.translateAsync("Good sentence", "KO", "EN", Deadline.none());
+        CompletableFuture<String> bad = translationService.translateAsync("Broken sentence", "KO", "EN", Deadline.none());
+
+        assertEquals("좋은 문장", good.get(5, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> bad.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause().getMessage().contains("400"), error.getCause().getMessage());
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void quotaErrorIsNotSplit() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(456).setBody("{\"message\":\"Quota exceeded\"}"));
+
+        CompletableFuture<String> first = translationService.translateAsync("First", "KO", "EN", Deadline.none());
+        CompletableFuture<String> second = translationService.translateAsync("Second", "KO", "EN", Deadline.none());
+
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void encodedLengthCountsPercentEncodedBytes() {
+        assertEquals("text=&".length() + 5, TranslationService.encodedLength("ab c."));
+        // '&'는 %26
+        assertEquals("text=&".length() + 3, TranslationService.encodedLength("&"));
+        // 한글은 UTF-8 3바이트 -> %XX 3개
+        assertEquals("text=&".length() + 18, TranslationService.encodedLength("한글"));
+        // 서로게이트 쌍(이모지)은 UTF-8 4바이트 -> %XX 4개
+        assertEquals("text=&".length() + 12, TranslationService.encodedLength("😀"));
+    }
+
+    private static MockResponse badRequest() {
+        return new MockResponse().setResponseCode(400).setBody("{\"message\":\"Value for 'text' not supported.\"}");
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.Transflow.translate.service;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * DeepL 문서 번역(업로드 -> 상태 확인 -> 다운로드) 흐름을 가짜 서버로 검증
+ */
+class TranslationServiceDocumentTest {
+
+    private MockWebServer server;
+    private TranslationService translationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        translationService = new TranslationService(
+                server.url("/v2/translate").toString(), "test-key", server.url("/v2/document").toString(),
+                10, false, 20, 50, 30000, 120000, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        translationService.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void uploadsPollsAndDownloadsDocument() throws InterruptedException {
+        server.enqueue(json("{\"document_id\":\"doc-1\",\"document_key\":\"key-1\"}"));
+        server.enqueue(json("{\"document_id\":\"doc-1\",\"status\":\"translating\"}"));
+        server.enqueue(json("{\"document_id\":\"doc-1\",\"status\":\"done\",\"billed_characters\":12}"));
+        server.enqueue(new MockResponse().setHeader("Content-Type", "text/html")
+                .setBody("<html><body><p>안녕하세요</p></body></html>"));
+
+        String translated = translationService
+                .translateDocument("<html><body><p>Hello</p></body></html>", "ko", "auto", Duration.ofSeconds(5))
+                .block();
+
+        assertEquals("<html><body><p>안녕하세요</p></body></html>", translated);
+        RecordedRequest upload = server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("/v2/document", upload.getPath());
+        assertEquals("DeepL-Auth-Key test-key", upload.getHeader("Authorization"));
+        String uploadBody = upload.getBody().readUtf8();
+        assertTrue(uploadBody.contains("KO"));
+        // 자동 감지 요청은 source_lang을 보내지 않음
+        assertTrue(!uploadBody.contains("source_lang"));
+        assertEquals("/v2/document/doc-1", server.takeRequest(1, TimeUnit.SECONDS).getPath());
+        assertEquals("/v2/document/doc-1", server.takeRequest(1, TimeUnit.SECONDS).getPath());
+        RecordedRequest download = server.takeRequest(1, TimeUnit.SECONDS);
+        assertEquals("/v2/document/doc-1/result", download.getPath());
+        assertTrue(download.getBody().readUtf8().contains("document_key=key-1"));
+    }
+
+    @Test
+    void errorStatusFailsTranslation() {
+        server.enqueue(new MockResponse().setResponseCode(456).setBody("{\"message\":\"Quota exceeded\"}"));
+
+        WebClientResponseException error = assertThrows(WebClientResponseException.class, () -> translationService
+                .translateDocument("<p>Hello</p>", "KO", null, Duration.ofSeconds(5))
+                .block());
+
+        assertEquals(456, error.getRawStatusCode());
+    }
+
+    @Test
+    void documentErrorStatusFailsTranslation() {
+        server.enqueue(json("{\"document_id\":\"doc-2\",\"document_key\":\"key-2\"}"));
+        server.enqueue(json("{\"document_id\":\"doc-2\",\"status\":\"error\",\"error_message\":\"Source and target language are equal.\"}"));
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> translationService
+                .translateDocument("<p>Hello</p>", "EN", "EN", Duration.ofSeconds(5))
+                .block());
+
+        assertTrue(error.getMessage().contains("Source and target language are equal."), error.getMessage());
+    }
+
+    @Test
+    void slowDocumentTimesOut() {
+        server.enqueue(json("{\"document_id\":\"doc-3\",\"document_key\":\"key-3\"}"));
+        // 상태 확인 응답이 제한 시간보다 늦게 도착
+        server.enqueue(json("{\"document_id\":\"doc-3\",\"status\":\"done\"}").setHeadersDelay(3, TimeUnit.SECONDS));
+
+        long start = System.currentTimeMillis();
+        RuntimeException error = assertThrows(RuntimeException.class, () -> translationService
+                .translateDocument("<p>Hello</p>", "KO", null, Duration.ofMillis(500))
+                .block());
+
+        assertTrue(error.getMessage().contains("시간 초과"), error.getMessage());
+        assertTrue(System.currentTimeMillis() - start < 2500);
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+}
@@ -0,0 +1,96 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.checkpoint.service.TranslationCheckpointService;
+import com.project.Transflow.memory.service.TranslationMemoryService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 번역 서비스 테스트용 객체 생성 (DeepL 호출은 TranslationService mock으로 대체)
+ * 캐시/체크포인트/재시도 대기열은 비활성화하여 번역 경로만 검증한다.
+ */
+public final class TranslationTestSupport {
+
+    private TranslationTestSupport() {
+    }
+
+    /**
+     * 텍스트 앞에 "[대상 언어] "를 붙여 돌려주는 가짜 번역기
+     */
+    public static TranslationService fakeTranslationService() {
+        TranslationService translationService = mock(TranslationService.class);
+        when(translationService.translateBatched(anyString(), anyString(), any(), any()))
+                .thenAnswer(invocation -> fakeTranslate(invocation.getArgument(0), invocation.getArgument(1)));
+        when(translationService.translateBatch(anyList(), anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    List<String> texts = invocation.getArgument(0);
+                    List<String> translated = new ArrayList<>(texts.size());
+                    for (String text : texts) {
+                        translated.add(fakeTranslate(text, invocation.getArgument(1)));
+                    }
+                    return translated;
+                });
+        return translationService;
+    }
+
+    public static String fakeTranslate(String text, String targetLang) {
+        return "[" + targetLang + "] " + text;
+    }
+
+    public static TranslationMemoryService disabledTranslationMemory() {
+        return new TranslationMemoryService(null, null, false, 500);
+    }
+
+    public static LanguageDetector disabledLanguageDetector() {
+        return new LanguageDetector(false, 20, 0.1, 80, 0.3);
+    }
+
+    public static HtmlTranslationService htmlTranslationService(TranslationService translationService) {
+        return htmlTranslationService(translationService, disabledTranslationMemory(), disabledLanguageDetector());
+    }
+
+    public static HtmlTranslationService htmlTranslationService(TranslationService translationService,
+                                                         TranslationMemoryService translationMemoryService,
+                                                         LanguageDetector languageDetector) {
+        return htmlTranslationService(translationService, translationMemoryService, languageDetector,
+                new TranslationCheckpointService(null, null, null, false, 20, 72));
+    }
+
+    /**
+     * 체크포인트 서비스를 지정한 번역 서비스 (재시도 대기열은 비활성화)
+     */
+    public static HtmlTranslationService htmlTranslationService(TranslationService translationService,
+                                                         TranslationMemoryService translationMemoryService,
+                                                         LanguageDetector languageDetector,
+                                                         TranslationCheckpointService checkpointService) {
+        PlaceholderMasker placeholderMasker = new PlaceholderMasker(true);
+        SegmentRetryQueue retryQueue = new SegmentRetryQueue(translationService, checkpointService, placeholderMasker,
+                false, 5000, 300000, 5, 50, 10000, 1000);
+
+        HtmlTranslationService service = new HtmlTranslationService(
+                translationService,
+                new MainContentExtractor(250),
+                new SiteTemplateCache(false, 2, 500, 200, 5000),
+                new TranslationExecutor(2),
+                translationMemoryService,
+                placeholderMasker,
+                languageDetector,
+                checkpointService,
+                retryQueue);
+        ReflectionTestUtils.setField(service, "documentModeEnabled", false);
+        ReflectionTestUtils.setField(service, "documentModeThresholdChars", 100000);
+        ReflectionTestUtils.setField(service, "documentModeTimeoutSeconds", 240L);
+        ReflectionTestUtils.setField(service, "maxConsecutiveFailures", 3);
+        ReflectionTestUtils.setField(service, "providerCallsPerSecond", 2.0);
+        ReflectionTestUtils.setField(service, "documentCharsPerSecond", 5000.0);
+        return service;
+    }
+}